@@ -1,16 +1,19 @@
 package com.babyon.childcare.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * @Async 작업을 위한 스레드 풀 설정
  * AI 분석은 별도 스레드 풀에서 실행하여 업로드 응답 지연을 방지한다.
  */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -27,4 +30,72 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * SSE 이벤트 전송용 스레드 풀
+     * 연결마다 스레드를 두지 않고, 이벤트가 쌓인 연결의 큐만 이 풀에서 비운다.
+     */
+    @Bean(name = "sseSendExecutor")
+    public Executor sseSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("sse-send-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 시터 추천 매칭 갱신용 단일 스레드 풀
+     * 같은 시터/구인글에 대한 갱신이 동시에 실행되지 않도록 순차 처리한다.
+     * 큐가 가득 차면 경고 로그를 남기고 버린다. 구인글 갱신은 posting_match_tasks 표식이 남아 주기 작업이 다시 실행하고,
+     * 시터 전체 계산은 다음 변경이나 추천 조회 시 다시 예약된다.
+     */
+    @Bean(name = "matchingExecutor")
+    public Executor matchingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("matching-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("추천 매칭 작업 거부 (큐 포화) - queued: {}", pool.getQueue().size()));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 멀티파트 업로드 파트 전송용 스레드 풀
+     * 파트 버퍼 수는 업로드별로 제한되므로, 풀이 포화되면 요청 스레드가 직접 파트를 전송한다.
+     */
+    @Bean(name = "s3UploadExecutor")
+    public Executor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 영상 파일 단위 S3 업로드용 스레드 풀
+     * 인트로/답변 영상을 동시에 올리며, 각 파일의 파트 전송은 s3UploadExecutor 에서 처리한다.
+     * 파일 작업과 파트 작업이 같은 풀을 공유하면 파트가 대기열에서 굶을 수 있으므로 분리한다.
+     * 풀이 포화되면 요청 스레드가 직접 업로드한다.
+     */
+    @Bean(name = "videoUploadExecutor")
+    public Executor videoUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("video-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,6 +1,7 @@
 package com.babyon.childcare.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -14,8 +15,10 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 /**
  * AWS S3 클라이언트 설정
  * 환경 변수가 있으면 Static Credentials 사용, 없으면 IAM Role 사용 (Default Credentials Chain)
+ * app.storage.type=local 이면 S3 클라이언트를 만들지 않는다.
  */
 @Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
 public class AwsConfig {
 
     @Value("${aws.access-key-id:}")
@@ -0,0 +1,15 @@
+package com.babyon.childcare.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (알림 아웃박스 디스패처 등)
+ *
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 설정한다.
+ * 한 작업이 느려져도(SMTP 지연 등) SSE heartbeat, 조회수 반영 같은 다른 주기 작업은 제 주기에 실행된다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
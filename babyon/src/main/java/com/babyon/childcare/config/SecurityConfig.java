@@ -5,6 +5,7 @@ import com.babyon.childcare.oauth.OAuth2SuccessHandler;
 import com.babyon.childcare.security.CustomAuthenticationProvider;
 import com.babyon.childcare.security.JwtAuthenticationFilter;
 import com.babyon.childcare.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -72,6 +73,8 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults()) // CORS 설정 추가
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(authConfig -> authConfig
+                        // 스트리밍 응답(StreamingResponseBody)의 async 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**", "/api/v1/auth/**", "/login", "/error", "/oauth2/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll() // 공개 API 경로 추가
                         .requestMatchers("/api/v1/sitter/ai-question/random").permitAll() // AI 질문 조회 (공개)
@@ -115,11 +118,13 @@ public class SecurityConfig {
             "http://127.0.0.1:*"
         ));
 
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "HEAD", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*")); // 모든 헤더 허용
         configuration.setAllowCredentials(true); // 인증 정보 허용
         configuration.setMaxAge(3600L);
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type", "ETag", "Location",
+                "Tus-Resumable", "Tus-Version", "Tus-Extension", "Tus-Max-Size", "Tus-Checksum-Algorithm",
+                "Upload-Offset", "Upload-Length", "Upload-Expires")); // 재개 가능 업로드(tus) 응답 헤더
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -1,13 +1,18 @@
 package com.babyon.childcare.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * CORS(Cross-Origin Resource Sharing) 설정
  * 보안을 위해 특정 도메인만 허용하도록 구성
+ *
+ * 목록 API에는 응답 본문 해시 기반의 약한(weak) ETag를 부여한다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -22,11 +27,37 @@ public class WebConfig implements WebMvcConfigurer {
                 // 개발: http://localhost:*, http://127.0.0.1:*
                 // 프로덕션: https://yourdomain.com, https://app.yourdomain.com
                 .allowedOriginPatterns(allowedOrigins.split(","))
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
-                // 필요한 헤더만 명시적으로 허용
-                .allowedHeaders("Authorization", "Content-Type", "Accept", "X-Requested-With")
-                .exposedHeaders("Authorization")
+                .allowedMethods("GET", "HEAD", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
+                // 필요한 헤더만 명시적으로 허용 (Upload-*, Tus-Resumable 은 재개 가능 업로드용)
+                .allowedHeaders("Authorization", "Content-Type", "Accept", "X-Requested-With", "If-None-Match", "Idempotency-Key", "Last-Event-ID",
+                        "Tus-Resumable", "Upload-Length", "Upload-Metadata", "Upload-Offset", "Upload-Checksum")
+                .exposedHeaders("Authorization", "ETag", "Location",
+                        "Tus-Resumable", "Tus-Version", "Tus-Extension", "Tus-Max-Size", "Tus-Checksum-Algorithm",
+                        "Upload-Offset", "Upload-Length", "Upload-Expires")
                 .allowCredentials(true) // 쿠키/인증 정보 허용
                 .maxAge(3600); // preflight 요청 결과를 1시간 동안 캐시
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 API용 약한 ETag 필터
+     * 페이지 응답은 여러 엔티티의 조합이라 버전 정보로 강한 ETag를 만들기 어려우므로,
+     * 직렬화된 본문의 해시로 W/"..." ETag를 만들고 If-None-Match 일치 시 본문 없이 304를 반환한다.
+     * (상세 API는 컨트롤러에서 버전 기반 강한 ETag를 직접 설정하므로 대상에서 제외)
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(
+                "/api/job-postings",
+                "/api/job-postings/my-postings",
+                "/api/job-postings/search",
+                "/api/job-postings/search/location",
+                "/api/sitter-profiles/search"
+        );
+        registration.setName("listEtagFilter");
+        return registration;
+    }
+}
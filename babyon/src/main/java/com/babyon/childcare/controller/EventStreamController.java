@@ -0,0 +1,55 @@
+package com.babyon.childcare.controller;
+
+import com.babyon.childcare.notification.SseHub;
+import com.babyon.childcare.util.AuthenticationHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 상태 변경 실시간 스트림 (SSE)
+ * 지원서 상태, AI 프로필 분석 상태 변경을 폴링 대신 푸시로 받는다.
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Slf4j
+public class EventStreamController {
+
+    private final SseHub sseHub;
+    private final AuthenticationHelper authenticationHelper;
+
+    /**
+     * 내 이벤트 스트림 구독
+     * @param authentication 인증 정보
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더)
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(Authentication authentication,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long userId = authenticationHelper.getUserId(authentication);
+        log.debug("SSE 구독 요청: userId={}, lastEventId={}", userId, lastEventId);
+
+        return sseHub.subscribe(userId, parseEventId(lastEventId));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
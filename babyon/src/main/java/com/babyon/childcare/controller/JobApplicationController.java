@@ -1,14 +1,25 @@
 package com.babyon.childcare.controller;
 
+import com.babyon.childcare.dto.ApplicantRankingResponse;
+import com.babyon.childcare.dto.ApplicationDecisionRequest;
+import com.babyon.childcare.dto.ApplicationDecisionResponse;
+import com.babyon.childcare.dto.JobApplicationListResponse;
 import com.babyon.childcare.dto.JobApplicationRequest;
 import com.babyon.childcare.dto.JobApplicationResponse;
+import com.babyon.childcare.service.ApplicantRankingService;
+import com.babyon.childcare.service.ExportService;
+import com.babyon.childcare.service.IdempotencyService;
 import com.babyon.childcare.service.JobApplicationService;
+import com.babyon.childcare.util.ExportRowWriter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -18,20 +29,32 @@ import java.util.Map;
 public class JobApplicationController {
 
     private final JobApplicationService jobApplicationService;
+    private final ExportService exportService;
+    private final IdempotencyService idempotencyService;
+    private final ApplicantRankingService applicantRankingService;
 
     @Autowired
-    public JobApplicationController(JobApplicationService jobApplicationService) {
+    public JobApplicationController(JobApplicationService jobApplicationService,
+                                    ExportService exportService,
+                                    IdempotencyService idempotencyService,
+                                    ApplicantRankingService applicantRankingService) {
         this.jobApplicationService = jobApplicationService;
+        this.exportService = exportService;
+        this.idempotencyService = idempotencyService;
+        this.applicantRankingService = applicantRankingService;
     }
 
-    // 지원서 제출
+    // 지원서 제출 (Idempotency-Key 헤더가 있으면 재시도 시 최초 결과를 그대로 반환)
     @PreAuthorize("hasRole('SITTER')")
     @PostMapping
     public ResponseEntity<JobApplicationResponse> applyToJob(
             Authentication authentication,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody JobApplicationRequest request) {
         String email = authentication.getName();
-        JobApplicationResponse response = jobApplicationService.applyToJob(email, request);
+        JobApplicationResponse response = idempotencyService.execute(email, "job-application.apply",
+                idempotencyKey, request, JobApplicationResponse.class,
+                () -> jobApplicationService.applyToJob(email, request));
         return ResponseEntity.ok(response);
     }
 
@@ -65,6 +88,18 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    // 구인글 지원서 일괄 결정 (선택 지원서 수락 + 나머지 거절 + 선택적 마감, 관리자 포함)
+    @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+    @PostMapping("/by-posting/{postingId}/decision")
+    public ResponseEntity<ApplicationDecisionResponse> decideApplications(
+            Authentication authentication,
+            @PathVariable("postingId") Long jobPostingId,
+            @Valid @RequestBody ApplicationDecisionRequest request) {
+        String email = authentication.getName();
+        ApplicationDecisionResponse response = jobApplicationService.decideApplications(email, jobPostingId, request);
+        return ResponseEntity.ok(response);
+    }
+
     // 특정 구인글에 대한 지원서 목록 조회
     @PreAuthorize("hasRole('PARENT')")
     @GetMapping("/by-posting/{postingId}")
@@ -94,6 +129,59 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    // 특정 구인글에 대한 지원서 목록 조회 (키셋 페이징, 관리자 포함)
+    @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+    @GetMapping("/by-posting/{postingId}/paged")
+    public ResponseEntity<JobApplicationListResponse> getApplicationsByJobPostingPage(
+            Authentication authentication,
+            @PathVariable("postingId") Long jobPostingId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort) {
+        String email = authentication.getName();
+        JobApplicationListResponse response =
+                jobApplicationService.getApplicationsByJobPostingPage(email, jobPostingId, cursor, size, sort);
+        return ResponseEntity.ok(response);
+    }
+
+    // 특정 구인글의 지원자 랭킹 조회 (평점/인증/경력/제안 시급/AI 분석 점수 기반, 철회 제외)
+    @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+    @GetMapping("/by-posting/{postingId}/ranked")
+    public ResponseEntity<ApplicantRankingResponse> getRankedApplicants(
+            Authentication authentication,
+            @PathVariable("postingId") Long jobPostingId) {
+        String email = authentication.getName();
+        ApplicantRankingResponse response = applicantRankingService.getRankedApplicants(email, jobPostingId);
+        return ResponseEntity.ok(response);
+    }
+
+    // 내가 제출한 지원서 목록 조회 (키셋 페이징)
+    @PreAuthorize("hasRole('SITTER')")
+    @GetMapping("/my-applications/paged")
+    public ResponseEntity<JobApplicationListResponse> getMyApplicationsPage(
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort) {
+        String email = authentication.getName();
+        JobApplicationListResponse response = jobApplicationService.getMyApplicationsPage(email, cursor, size, sort);
+        return ResponseEntity.ok(response);
+    }
+
+    // 나의 구인글에 대한 모든 지원서 목록 조회 (키셋 페이징)
+    @PreAuthorize("hasRole('PARENT')")
+    @GetMapping("/all-for-parent/paged")
+    public ResponseEntity<JobApplicationListResponse> getAllApplicationsForParentPage(
+            Authentication authentication,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "latest") String sort) {
+        String email = authentication.getName();
+        JobApplicationListResponse response =
+                jobApplicationService.getAllApplicationsForParentPage(email, cursor, size, sort);
+        return ResponseEntity.ok(response);
+    }
+
     // 특정 구인글에 이미 지원했는지 확인
     @PreAuthorize("hasRole('SITTER')")
     @GetMapping("/check/{jobPostingId}")
@@ -104,4 +192,33 @@ public class JobApplicationController {
         boolean hasApplied = jobApplicationService.hasAlreadyApplied(email, jobPostingId);
         return ResponseEntity.ok(Map.of("hasApplied", hasApplied));
     }
-}
\ No newline at end of file
+
+    // 여러 구인글에 대해 이미 지원했는지 일괄 확인 (지원한 구인글 ID만 반환)
+    @PreAuthorize("hasRole('SITTER')")
+    @GetMapping("/check")
+    public ResponseEntity<Map<String, List<Long>>> checkAlreadyAppliedBatch(
+            Authentication authentication,
+            @RequestParam("jobPostingIds") List<Long> jobPostingIds) {
+        String email = authentication.getName();
+        List<Long> applied = jobApplicationService.findAppliedJobPostingIds(email, jobPostingIds);
+        return ResponseEntity.ok(Map.of("appliedJobPostingIds", applied));
+    }
+
+    // 지원서 이력 내보내기 (NDJSON/CSV 스트리밍, 부모: 내 구인글 / 관리자: 전체)
+    @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(value = "jobPostingId", required = false) Long jobPostingId) {
+        ExportRowWriter.Format exportFormat = ExportRowWriter.Format.from(format);
+        Long parentId = exportService.resolveExportParentId(authentication.getName());
+
+        StreamingResponseBody body = out -> exportService.exportApplications(parentId, jobPostingId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"job-applications." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+}
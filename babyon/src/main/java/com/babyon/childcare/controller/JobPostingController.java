@@ -1,19 +1,33 @@
 package com.babyon.childcare.controller;
 
+import com.babyon.childcare.dto.JobPostingBatchRequest;
+import com.babyon.childcare.dto.JobPostingBatchResponse;
+import com.babyon.childcare.dto.JobPostingCursorResponse;
+import com.babyon.childcare.dto.JobPostingFilterRequest;
 import com.babyon.childcare.dto.JobPostingListResponse;
 import com.babyon.childcare.dto.JobPostingRequest;
 import com.babyon.childcare.dto.JobPostingResponse;
+import com.babyon.childcare.service.ExportService;
 import com.babyon.childcare.service.JobPostingService;
+import com.babyon.childcare.util.ExportRowWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -22,15 +36,18 @@ import java.util.Set;
 public class JobPostingController {
 
     private final JobPostingService jobPostingService;
+    private final ExportService exportService;
 
     // 허용된 정렬 필드 목록
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
-            "createdAt", "updatedAt", "hourlyRate", "startDate", "endDate"
+            "createdAt", "updatedAt", "hourlyRate", "normalizedHourlyRate", "startDate", "endDate"
     );
 
     @Autowired
-    public JobPostingController(JobPostingService jobPostingService) {
+    public JobPostingController(JobPostingService jobPostingService,
+                                ExportService exportService) {
         this.jobPostingService = jobPostingService;
+        this.exportService = exportService;
     }
 
     // 정렬 필드 검증 메서드
@@ -52,6 +69,17 @@ public class JobPostingController {
         return ResponseEntity.ok(response);
     }
 
+    // 구인글 일괄 생성/수정 (에이전시용, 최대 300건)
+    @PreAuthorize("hasRole('PARENT')")
+    @PostMapping("/batch")
+    public ResponseEntity<JobPostingBatchResponse> batchUpsertJobPostings(
+            Authentication authentication,
+            @Valid @RequestBody JobPostingBatchRequest request) {
+        String email = authentication.getName();
+        JobPostingBatchResponse response = jobPostingService.batchUpsertJobPostings(email, request);
+        return ResponseEntity.ok(response);
+    }
+
     // 구인글 수정
     @PreAuthorize("hasRole('PARENT')")
     @PutMapping("/{id}")
@@ -68,11 +96,20 @@ public class JobPostingController {
     @GetMapping("/{id}")
     public ResponseEntity<JobPostingResponse> getJobPosting(
             @PathVariable("id") Long jobPostingId,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        // 버전 정보만으로 ETag를 계산하고 If-None-Match가 일치하면 본문 없이 304 반환
+        String eTag = jobPostingService.getJobPostingETag(jobPostingId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
         String email = authentication != null ? authentication.getName() : null;
         JobPostingResponse response = jobPostingService.getJobPosting(jobPostingId, email);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     // 구인글 비활성화
@@ -87,12 +124,16 @@ public class JobPostingController {
     }
 
     // 모든 활성화된 구인글 목록 조회 (페이징)
+    // - minHourlyRate/maxHourlyRate: 급여 타입과 무관하게 시급으로 환산한 금액 기준 필터
+    // - sort=normalizedHourlyRate: 시급 환산 급여 기준 정렬 (hourlyRate 는 급여 타입별 원 금액 기준)
     @GetMapping
     public ResponseEntity<JobPostingListResponse> getAllActiveJobPostings(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "DESC") String direction) {
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(value = "minHourlyRate", required = false) Double minHourlyRate,
+            @RequestParam(value = "maxHourlyRate", required = false) Double maxHourlyRate) {
 
         // 정렬 필드 검증
         sort = validateSortField(sort);
@@ -100,7 +141,7 @@ public class JobPostingController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        JobPostingListResponse response = jobPostingService.getAllActiveJobPostings(pageable);
+        JobPostingListResponse response = jobPostingService.getAllActiveJobPostings(minHourlyRate, maxHourlyRate, pageable);
         return ResponseEntity.ok(response);
     }
 
@@ -125,6 +166,41 @@ public class JobPostingController {
         return ResponseEntity.ok(response);
     }
 
+    // 구인글 조건 검색 (구인 유형/급여 타입/일정/요구 경력/아이 숫자/시급 범위 AND 결합, 최신순 키셋 페이징)
+    @GetMapping("/filter")
+    public ResponseEntity<JobPostingCursorResponse> filterJobPostings(
+            @RequestParam(value = "jobType", required = false) List<String> jobTypes,
+            @RequestParam(value = "payType", required = false) List<String> payTypes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTo,
+            @RequestParam(required = false) Integer maxRequiredExperienceYears,
+            @RequestParam(required = false) Integer minChildren,
+            @RequestParam(required = false) Integer maxChildren,
+            @RequestParam(required = false) Double minHourlyRate,
+            @RequestParam(required = false) Double maxHourlyRate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        JobPostingFilterRequest filter = JobPostingFilterRequest.builder()
+                .jobTypes(jobTypes)
+                .payTypes(payTypes)
+                .startFrom(startFrom)
+                .startTo(startTo)
+                .endTo(endTo)
+                .maxRequiredExperienceYears(maxRequiredExperienceYears)
+                .minChildren(minChildren)
+                .maxChildren(maxChildren)
+                .minHourlyRate(minHourlyRate)
+                .maxHourlyRate(maxHourlyRate)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        JobPostingCursorResponse response = jobPostingService.filterJobPostings(filter);
+        return ResponseEntity.ok(response);
+    }
+
     // 키워드로 구인글 검색
     @GetMapping("/search")
     public ResponseEntity<JobPostingListResponse> searchJobPostings(
@@ -162,4 +238,21 @@ public class JobPostingController {
         JobPostingListResponse response = jobPostingService.searchJobPostingsByLocation(location, pageable);
         return ResponseEntity.ok(response);
     }
+
+    // 구인글 이력 내보내기 (NDJSON/CSV 스트리밍, 부모: 내 구인글 / 관리자: 전체)
+    @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportJobPostings(
+            Authentication authentication,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportRowWriter.Format exportFormat = ExportRowWriter.Format.from(format);
+        Long parentId = exportService.resolveExportParentId(authentication.getName());
+
+        StreamingResponseBody body = out -> exportService.exportJobPostings(parentId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"job-postings." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,193 @@
+package com.babyon.childcare.controller;
+
+import com.babyon.childcare.exception.UnauthorizedAccessException;
+import com.babyon.childcare.storage.LocalVideoStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 로컬 영상 저장소 서명 URL Controller (app.storage.type=local)
+ *
+ * LocalVideoStorage 가 발급한 서명 URL 로 영상 다운로드/직접 업로드를 처리한다.
+ * 서명 자체가 인가 수단이므로 /api/public/** 경로에 둔다.
+ * 다운로드는 단일 HTTP Range 요청을 지원하며, Tomcat sendfile 을 쓸 수 있으면 커널 zero-copy 로,
+ * 아니면 FileChannel.transferTo 로 응답 스트림에 전송한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/public/storage")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+@Tag(name = "Local Storage", description = "로컬 영상 저장소 서명 URL API (개발/테스트/온프레미스)")
+public class LocalStorageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String BYTES_UNIT = "bytes=";
+
+    // parseRange 결과: 형식은 맞지만 파일 크기로 만족할 수 없는 범위 (416)
+    static final long[] UNSATISFIABLE = new long[0];
+
+    private final LocalVideoStorage localVideoStorage;
+
+    /**
+     * 서명 URL 다운로드 (Range 지원)
+     */
+    @GetMapping("/{*key}")
+    @Operation(summary = "영상 다운로드", description = "서명 URL 로 영상을 다운로드합니다 (HTTP Range 지원)")
+    public void download(@PathVariable String key,
+                         @RequestParam long expires,
+                         @RequestParam String signature,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        String objectKey = stripLeadingSlash(key);
+        if (!localVideoStorage.isValidSignature("GET", objectKey, expires, null, null, signature)) {
+            throw new UnauthorizedAccessException("서명이 유효하지 않거나 만료된 URL 입니다.");
+        }
+
+        Optional<Path> file = localVideoStorage.findFile(objectKey);
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = file.get();
+        long size = Files.size(path);
+
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        long[] parsed = range != null ? parseRange(range, size) : null;
+        if (parsed == UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (parsed != null) {
+            start = parsed[0];
+            end = parsed[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(localVideoStorage.contentTypeOf(objectKey));
+        response.setContentLengthLong(length);
+        if (length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문을 쓰지 않고 Tomcat 에 파일 구간을 넘기면 커넥터가 sendfile 로 전송한다
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 서명 URL 직접 업로드 (Content-Type, Content-Length 는 서명 값과 같아야 한다)
+     */
+    @PutMapping("/{*key}")
+    @Operation(summary = "영상 직접 업로드", description = "서명 URL 로 영상을 업로드합니다")
+    public ResponseEntity<Void> upload(@PathVariable String key,
+                                       @RequestParam long expires,
+                                       @RequestParam String signature,
+                                       HttpServletRequest request) throws IOException {
+        String objectKey = stripLeadingSlash(key);
+        String contentType = request.getContentType();
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0 || !localVideoStorage.isValidSignature(
+                "PUT", objectKey, expires, contentType, contentLength, signature)) {
+            throw new UnauthorizedAccessException("서명이 유효하지 않거나 만료된 URL 입니다.");
+        }
+
+        localVideoStorage.store(objectKey, contentType, request.getInputStream(), contentLength);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 단일 바이트 범위 파싱 (bytes=start-end, bytes=start-, bytes=-suffix)
+     * 여러 범위를 요청하면 첫 번째 범위만 사용한다.
+     * RFC 9110 에 따라 bytes 가 아닌 단위나 해석할 수 없는 헤더는 무시하고 전체 본문(200)을 보낸다.
+     * @return {start, end} (end 포함), 무시할 헤더면 null, 만족할 수 없는 범위면 UNSATISFIABLE
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return null;
+        }
+        String spec = header.substring(BYTES_UNIT.length()).split(",")[0].trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        if (!isDigits(first) || !isDigits(last) || (first.isEmpty() && last.isEmpty())) {
+            return null;
+        }
+        try {
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || size <= 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            // long 범위를 넘는 숫자
+            return null;
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        return value.chars().allMatch(ch -> ch >= '0' && ch <= '9');
+    }
+
+    private String stripLeadingSlash(String key) {
+        return key.startsWith("/") ? key.substring(1) : key;
+    }
+}
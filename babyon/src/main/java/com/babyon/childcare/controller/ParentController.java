@@ -1,7 +1,9 @@
 package com.babyon.childcare.controller;
 
+import com.babyon.childcare.dto.ParentDashboardResponse;
 import com.babyon.childcare.dto.ParentProfileResponse;
 import com.babyon.childcare.dto.ParentProfileUpdateRequest;
+import com.babyon.childcare.service.ParentDashboardService;
 import com.babyon.childcare.service.ParentService;
 import com.babyon.childcare.util.AuthenticationHelper;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ import jakarta.validation.Valid;
 public class ParentController {
 
     private final ParentService parentService;
+    private final ParentDashboardService parentDashboardService;
     private final AuthenticationHelper authenticationHelper;
 
     /**
@@ -86,4 +89,23 @@ public class ParentController {
         boolean exists = parentService.exists(parentId);
         return ResponseEntity.ok(exists);
     }
+
+    /**
+     * 부모 홈 대시보드 조회
+     * 구인글별 상태별 지원 수와 최신 지원자 N명을 한 번에 반환
+     * @param authentication 인증 정보
+     * @param recentLimit 구인글별 최신 지원자 수 (기본 5, 최대 20)
+     * @return 대시보드 정보
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('PARENT')")
+    public ResponseEntity<ParentDashboardResponse> getDashboard(
+            Authentication authentication,
+            @RequestParam(defaultValue = "5") int recentLimit) {
+        Long parentId = authenticationHelper.getUserId(authentication);
+        log.info("부모 대시보드 조회 요청: parentId={}, recentLimit={}", parentId, recentLimit);
+
+        ParentDashboardResponse response = parentDashboardService.getDashboard(parentId, recentLimit);
+        return ResponseEntity.ok(response);
+    }
 }
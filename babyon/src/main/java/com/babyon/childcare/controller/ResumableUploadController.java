@@ -0,0 +1,207 @@
+package com.babyon.childcare.controller;
+
+import com.babyon.childcare.dto.AiProfileResponse;
+import com.babyon.childcare.dto.AiProfileResumableCompleteRequest;
+import com.babyon.childcare.entity.ResumableUpload;
+import com.babyon.childcare.exception.InvalidFileException;
+import com.babyon.childcare.service.ResumableUploadService;
+import com.babyon.childcare.service.SitterAiVideoProfileService;
+import com.babyon.childcare.util.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재개 가능한 영상 업로드 Controller (tus 1.0.0)
+ *
+ * 흐름:
+ * 1. POST   /uploads            Upload-Length, Upload-Metadata(filename, filetype) 로 세션 생성 → Location
+ * 2. PATCH  /uploads/{id}       Upload-Offset 위치부터 청크 전송 (Content-Type: application/offset+octet-stream)
+ * 3. HEAD   /uploads/{id}       연결이 끊기면 서버 오프셋을 확인하고 2 를 이어서 진행
+ * 4. POST   /uploads/complete   인트로/답변 업로드 ID 로 AI 화상 이력서 저장
+ * DELETE /uploads/{id} 로 업로드를 취소할 수 있다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/sitter/ai-profile/uploads")
+@RequiredArgsConstructor
+@Tag(name = "Sitter AI Video Profile", description = "시터 AI 화상 이력서 관리 API")
+public class ResumableUploadController {
+
+    private static final String TUS_RESUMABLE = "Tus-Resumable";
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String UPLOAD_METADATA = "Upload-Metadata";
+    private static final String UPLOAD_EXPIRES = "Upload-Expires";
+    private static final String UPLOAD_CHECKSUM = "Upload-Checksum";
+    private static final String OFFSET_CONTENT_TYPE = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+    private final SitterAiVideoProfileService aiVideoProfileService;
+    private final AuthenticationHelper authenticationHelper;
+
+    /**
+     * 서버 지원 기능 조회 (tus OPTIONS)
+     */
+    @RequestMapping(method = RequestMethod.OPTIONS)
+    @Operation(summary = "재개 업로드 지원 기능 조회", description = "tus 버전, 확장, 최대 크기를 조회합니다")
+    public ResponseEntity<Void> options() {
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, ResumableUploadService.TUS_VERSION)
+                .header("Tus-Version", ResumableUploadService.TUS_VERSION)
+                .header("Tus-Extension", "creation,expiration,checksum,termination")
+                .header("Tus-Checksum-Algorithm", ResumableUploadService.CHECKSUM_ALGORITHM)
+                .header("Tus-Max-Size", String.valueOf(resumableUploadService.getMaxSizeBytes()))
+                .build();
+    }
+
+    /**
+     * 업로드 세션 생성 (tus creation)
+     */
+    @PostMapping
+    @Operation(summary = "재개 업로드 생성", description = "영상 재개 가능 업로드 세션을 생성합니다")
+    public ResponseEntity<Void> create(@RequestHeader(UPLOAD_LENGTH) long uploadLength,
+                                       @RequestHeader(value = UPLOAD_METADATA, required = false) String metadata,
+                                       Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+
+        Map<String, String> parsed = parseMetadata(metadata);
+        ResumableUpload upload = resumableUploadService.create(
+                sitterId, uploadLength, parsed.get("filename"), parsed.get("filetype"));
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(upload.getId())
+                .toUri();
+        return ResponseEntity.created(location)
+                .header(TUS_RESUMABLE, ResumableUploadService.TUS_VERSION)
+                .header(UPLOAD_EXPIRES, httpDate(upload))
+                .build();
+    }
+
+    /**
+     * 업로드 오프셋 조회 (tus HEAD)
+     */
+    @RequestMapping(value = "/{uploadId}", method = RequestMethod.HEAD)
+    @Operation(summary = "재개 업로드 오프셋 조회", description = "서버가 받은 바이트 수를 조회합니다")
+    public ResponseEntity<Void> head(@PathVariable String uploadId, Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+
+        ResumableUpload upload = resumableUploadService.get(sitterId, uploadId);
+        return ResponseEntity.ok()
+                .header(TUS_RESUMABLE, ResumableUploadService.TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(upload.getUploadOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(upload.getUploadLength()))
+                .header(UPLOAD_EXPIRES, httpDate(upload))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .build();
+    }
+
+    /**
+     * 청크 전송 (tus PATCH)
+     */
+    @PatchMapping(value = "/{uploadId}", consumes = OFFSET_CONTENT_TYPE)
+    @Operation(summary = "재개 업로드 청크 전송", description = "Upload-Offset 위치부터 영상 청크를 기록합니다")
+    public ResponseEntity<Void> patch(@PathVariable String uploadId,
+                                      @RequestHeader(UPLOAD_OFFSET) long offset,
+                                      @RequestHeader(value = UPLOAD_CHECKSUM, required = false) String checksum,
+                                      HttpServletRequest request,
+                                      Authentication authentication) throws IOException {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+
+        long newOffset = resumableUploadService.appendChunk(sitterId, uploadId, offset,
+                request.getContentLengthLong(), checksum, request.getInputStream());
+
+        ResumableUpload upload = resumableUploadService.get(sitterId, uploadId);
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, ResumableUploadService.TUS_VERSION)
+                .header(UPLOAD_OFFSET, String.valueOf(newOffset))
+                .header(UPLOAD_EXPIRES, httpDate(upload))
+                .build();
+    }
+
+    /**
+     * 업로드 취소 (tus termination)
+     */
+    @DeleteMapping("/{uploadId}")
+    @Operation(summary = "재개 업로드 취소", description = "업로드 세션과 받은 데이터를 삭제합니다")
+    public ResponseEntity<Void> terminate(@PathVariable String uploadId, Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+
+        resumableUploadService.terminate(sitterId, uploadId);
+        return ResponseEntity.noContent()
+                .header(TUS_RESUMABLE, ResumableUploadService.TUS_VERSION)
+                .build();
+    }
+
+    /**
+     * 재개 업로드 완료 → AI 화상 이력서 저장
+     * 두 업로드가 모두 끝난 뒤 호출하며, 이후 처리는 multipart 업로드와 같다.
+     */
+    @PostMapping("/complete")
+    @Operation(summary = "재개 업로드로 AI 화상 이력서 저장", description = "전송을 마친 두 영상으로 AI 화상 이력서를 저장합니다")
+    public ResponseEntity<AiProfileResponse> complete(@Valid @RequestBody AiProfileResumableCompleteRequest request,
+                                                      Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+        log.info("Completing resumable upload of AI video profile for sitter: {}", sitterId);
+
+        AiProfileResponse response = aiVideoProfileService.completeResumableUpload(sitterId, request);
+
+        log.info("AI video profile uploaded successfully for sitter: {}", sitterId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Upload-Metadata 파싱 ("key base64value,key2 base64value2", 값은 생략 가능)
+     */
+    private Map<String, String> parseMetadata(String header) {
+        Map<String, String> metadata = new HashMap<>();
+        if (header == null || header.isBlank()) {
+            return metadata;
+        }
+        for (String pair : header.split(",")) {
+            String[] parts = pair.trim().split(" ", 2);
+            if (parts[0].isEmpty()) {
+                continue;
+            }
+            try {
+                String value = parts.length > 1
+                        ? new String(Base64.getDecoder().decode(parts[1].trim()), StandardCharsets.UTF_8)
+                        : "";
+                metadata.put(parts[0], value);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidFileException("Upload-Metadata 값이 올바르지 않습니다: " + parts[0]);
+            }
+        }
+        return metadata;
+    }
+
+    private String httpDate(ResumableUpload upload) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.of(upload.getExpiresAt(), ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+    }
+}
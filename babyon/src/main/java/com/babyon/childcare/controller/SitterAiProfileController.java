@@ -1,13 +1,18 @@
 package com.babyon.childcare.controller;
 
+import com.babyon.childcare.dto.AiProfileCompleteRequest;
 import com.babyon.childcare.dto.AiProfileResponse;
 import com.babyon.childcare.dto.AiProfileUploadRequest;
+import com.babyon.childcare.dto.AiProfileUploadUrlRequest;
+import com.babyon.childcare.dto.AiProfileUploadUrlResponse;
 import com.babyon.childcare.dto.AiQuestionResponse;
 import com.babyon.childcare.service.SitterAiVideoProfileService;
 import com.babyon.childcare.util.AuthenticationHelper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,9 +66,11 @@ public class SitterAiProfileController {
      * - answerVideo (MultipartFile): AI 질문 답변 영상 파일 (최대 120초, 100MB)
      * - aiQuestionId (Long): 답변한 AI 질문 ID
      * - status (String, Optional): 프로필 상태 (PENDING, ACTIVE, INACTIVE, REVIEWING)
+     * - introVideoSha256, answerVideoSha256 (String, Optional): 클라이언트가 계산한 영상 SHA-256 hex
+     *   (기존 프로필 영상과 같으면 저장소 전송 없이 재사용)
      *
      * Validation:
-     * - 각 영상 파일의 길이는 최대 120초로 제한됩니다 (Service 레이어에서 검증)
+     * - 각 영상 파일의 길이는 최대 120초로 제한됩니다 (Service 레이어에서 MP4/MOV 헤더 기준으로 검증)
      * - 파일 크기는 최대 100MB로 제한됩니다
      * - 비디오 형식만 허용됩니다 (MIME type: video/*)
      *
@@ -71,12 +78,12 @@ public class SitterAiProfileController {
      * - Authentication에서 시터 ID를 추출하여 본인의 프로필만 수정 가능
      * - SITTER 역할만 접근 가능
      *
-     * FUTURE ENHANCEMENT: FFmpeg 통합을 통한 정확한 영상 길이 및 메타데이터 검증
-     *
      * @param introVideo 자유 소개 영상 파일
      * @param answerVideo AI 질문 답변 영상 파일
      * @param aiQuestionId 답변한 AI 질문 ID
      * @param status 프로필 상태 (선택 사항)
+     * @param introVideoSha256 자유 소개 영상 SHA-256 (선택 사항)
+     * @param answerVideoSha256 AI 질문 답변 영상 SHA-256 (선택 사항)
      * @param authentication 인증 정보
      * @return AiProfileResponse - 업로드된 프로필 정보
      */
@@ -87,6 +94,10 @@ public class SitterAiProfileController {
             @RequestParam("answerVideo") @NotNull MultipartFile answerVideo,
             @RequestParam("aiQuestionId") @Positive Long aiQuestionId,
             @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "introVideoSha256", required = false)
+            @Pattern(regexp = "[0-9a-fA-F]{64}") String introVideoSha256,
+            @RequestParam(value = "answerVideoSha256", required = false)
+            @Pattern(regexp = "[0-9a-fA-F]{64}") String answerVideoSha256,
             Authentication authentication) {
 
         // 1. 시터 역할 검증
@@ -102,6 +113,8 @@ public class SitterAiProfileController {
                 .answerVideo(answerVideo)
                 .aiQuestionId(aiQuestionId)
                 .status(status)
+                .introVideoSha256(introVideoSha256)
+                .answerVideoSha256(answerVideoSha256)
                 .build();
 
         // 4. Service 호출 (파일 업로드 및 DB 저장)
@@ -112,6 +125,50 @@ public class SitterAiProfileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * AI 화상 이력서 직접 업로드 URL 발급
+     * 영상 파일을 앱 서버를 거치지 않고 S3 로 직접 업로드하기 위한 Presigned PUT URL 을 발급합니다.
+     * 클라이언트는 두 URL 로 업로드를 마친 뒤 /ai-profile/upload-complete 를 호출해야 합니다.
+     *
+     * @param request 두 영상의 파일명, MIME 타입, 크기
+     * @param authentication 인증 정보
+     * @return AiProfileUploadUrlResponse - S3 키와 업로드 URL
+     */
+    @PostMapping("/ai-profile/upload-urls")
+    @Operation(summary = "AI 화상 이력서 업로드 URL 발급", description = "영상 직접 업로드용 Presigned PUT URL 을 발급합니다")
+    public ResponseEntity<AiProfileUploadUrlResponse> issueUploadUrls(
+            @Valid @RequestBody AiProfileUploadUrlRequest request,
+            Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+        log.info("Issuing direct upload URLs for sitter: {}", sitterId);
+
+        return ResponseEntity.ok(aiVideoProfileService.issueUploadUrls(sitterId, request));
+    }
+
+    /**
+     * AI 화상 이력서 직접 업로드 완료
+     * S3 에 업로드된 영상을 확인한 뒤 프로필을 저장하고 AI 분석을 시작합니다.
+     *
+     * @param request 업로드한 S3 키, AI 질문 ID, 상태(선택)
+     * @param authentication 인증 정보
+     * @return AiProfileResponse - 저장된 프로필 정보
+     */
+    @PostMapping("/ai-profile/upload-complete")
+    @Operation(summary = "AI 화상 이력서 업로드 완료", description = "직접 업로드한 영상을 확인하고 AI 화상 이력서를 저장합니다")
+    public ResponseEntity<AiProfileResponse> completeDirectUpload(
+            @Valid @RequestBody AiProfileCompleteRequest request,
+            Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+        log.info("Completing direct upload of AI video profile for sitter: {}", sitterId);
+
+        AiProfileResponse response = aiVideoProfileService.completeDirectUpload(sitterId, request);
+
+        log.info("AI video profile uploaded successfully for sitter: {}", sitterId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * AI 화상 이력서 조회 (내 프로필)
      * 인증된 시터가 본인의 AI 화상 이력서를 조회합니다.
@@ -144,10 +201,12 @@ public class SitterAiProfileController {
      */
     @GetMapping("/ai-profile/{sitterId}")
     @Operation(summary = "AI 화상 이력서 조회", description = "특정 시터의 AI 화상 이력서를 조회합니다 (공개 프로필)")
-    public ResponseEntity<AiProfileResponse> getProfile(@PathVariable @Positive Long sitterId) {
+    public ResponseEntity<AiProfileResponse> getProfile(@PathVariable @Positive Long sitterId,
+                                                        Authentication authentication) {
         log.info("Fetching AI video profile for sitter: {}", sitterId);
 
-        AiProfileResponse response = aiVideoProfileService.getProfile(sitterId);
+        AiProfileResponse response = aiVideoProfileService.viewProfile(sitterId,
+                authenticationHelper.findUserEmail(authentication));
 
         return ResponseEntity.ok(response);
     }
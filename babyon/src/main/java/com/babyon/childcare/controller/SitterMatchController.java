@@ -0,0 +1,39 @@
+package com.babyon.childcare.controller;
+
+import com.babyon.childcare.dto.SitterJobMatchResponse;
+import com.babyon.childcare.service.SitterMatchingService;
+import com.babyon.childcare.util.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 시터 추천 구인글 Controller
+ * 사전 계산된 매칭 결과(sitter_job_matches)를 점수순으로 제공한다.
+ */
+@RestController
+@RequestMapping("/api/v1/sitter")
+@RequiredArgsConstructor
+@Tag(name = "Sitter Job Match", description = "시터 추천 구인글 API")
+public class SitterMatchController {
+
+    private final SitterMatchingService sitterMatchingService;
+    private final AuthenticationHelper authenticationHelper;
+
+    @GetMapping("/matches")
+    @Operation(summary = "추천 구인글 조회", description = "서비스 지역, 근무 가능 시간, 서비스 유형, 선호 연령대, 경력, 희망 시급 기준으로 계산된 추천 구인글을 조회합니다")
+    public ResponseEntity<List<SitterJobMatchResponse>> getMatches(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+        authenticationHelper.validateSitterRole(authentication);
+        Long sitterId = authenticationHelper.getUserId(authentication);
+
+        List<SitterJobMatchResponse> response = sitterMatchingService.getMatches(sitterId, limit);
+        return ResponseEntity.ok(response);
+    }
+}
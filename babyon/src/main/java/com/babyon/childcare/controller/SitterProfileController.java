@@ -8,9 +8,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/sitter-profiles")
@@ -23,9 +25,22 @@ public class SitterProfileController {
 
     @GetMapping("/{sitterId}")
     @Operation(summary = "시터 프로필 조회", description = "특정 시터의 프로필을 조회합니다")
-    public ResponseEntity<SitterProfileResponse> getProfile(@PathVariable Long sitterId) {
+    public ResponseEntity<SitterProfileResponse> getProfile(@PathVariable Long sitterId, WebRequest webRequest,
+                                                            Authentication authentication) {
+        String viewerEmail = authenticationHelper.findUserEmail(authentication);
+
+        // 버전 정보만으로 ETag를 계산하고 If-None-Match가 일치하면 본문 없이 304 반환
+        String eTag = sitterProfileService.getProfileETag(sitterId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            sitterProfileService.recordProfileView(sitterId, viewerEmail);
+            return null;
+        }
+
         SitterProfileResponse response = sitterProfileService.getOrCreateProfile(sitterId);
-        return ResponseEntity.ok(response);
+        sitterProfileService.recordProfileView(sitterId, viewerEmail);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     @PutMapping("/{sitterId}")
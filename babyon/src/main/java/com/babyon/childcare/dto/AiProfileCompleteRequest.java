@@ -0,0 +1,37 @@
+package com.babyon.childcare.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 화상 이력서 직접 업로드 완료 요청 DTO
+ * 업로드 URL 발급 시 받은 S3 키와 답변한 AI 질문 ID 를 전달한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiProfileCompleteRequest {
+
+    @NotBlank(message = "Intro video key is required")
+    private String introVideoKey;
+
+    @NotBlank(message = "Answer video key is required")
+    private String answerVideoKey;
+
+    @NotNull(message = "AI question ID is required")
+    @Positive(message = "AI question ID must be positive")
+    private Long aiQuestionId;
+
+    /**
+     * 프로필 상태 (선택 사항)
+     */
+    @Pattern(regexp = "PENDING|ACTIVE|INACTIVE|REVIEWING", message = "Invalid status. Must be one of: PENDING, ACTIVE, INACTIVE, REVIEWING")
+    private String status;
+}
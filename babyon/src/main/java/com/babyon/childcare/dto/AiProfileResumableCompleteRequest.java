@@ -0,0 +1,37 @@
+package com.babyon.childcare.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 화상 이력서 재개 가능 업로드 완료 요청 DTO
+ * 재개 가능한 업로드(tus)로 전송을 마친 두 영상의 업로드 ID 와 답변한 AI 질문 ID 를 전달한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiProfileResumableCompleteRequest {
+
+    @NotBlank(message = "Intro upload ID is required")
+    private String introUploadId;
+
+    @NotBlank(message = "Answer upload ID is required")
+    private String answerUploadId;
+
+    @NotNull(message = "AI question ID is required")
+    @Positive(message = "AI question ID must be positive")
+    private Long aiQuestionId;
+
+    /**
+     * 프로필 상태 (선택 사항)
+     */
+    @Pattern(regexp = "PENDING|ACTIVE|INACTIVE|REVIEWING", message = "Invalid status. Must be one of: PENDING, ACTIVE, INACTIVE, REVIEWING")
+    private String status;
+}
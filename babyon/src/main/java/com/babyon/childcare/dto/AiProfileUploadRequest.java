@@ -44,4 +44,14 @@ public class AiProfileUploadRequest {
      */
     @Pattern(regexp = "PENDING|ACTIVE|INACTIVE|REVIEWING", message = "Invalid status. Must be one of: PENDING, ACTIVE, INACTIVE, REVIEWING")
     private String status; // Optional: 기본값은 PENDING
+
+    /**
+     * 클라이언트가 계산한 영상 SHA-256 hex (선택 사항)
+     * 기존 프로필 영상과 같으면 서버가 내용을 확인한 뒤 저장소 전송 없이 기존 객체를 재사용한다.
+     */
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "Invalid SHA-256. Must be 64 hex characters")
+    private String introVideoSha256;
+
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "Invalid SHA-256. Must be 64 hex characters")
+    private String answerVideoSha256;
 }
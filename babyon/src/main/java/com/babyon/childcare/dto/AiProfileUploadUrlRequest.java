@@ -0,0 +1,40 @@
+package com.babyon.childcare.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 화상 이력서 직접 업로드 URL 발급 요청 DTO
+ * 클라이언트가 S3 로 직접 업로드할 두 영상의 메타데이터를 전달한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiProfileUploadUrlRequest {
+
+    @NotBlank(message = "Intro video file name is required")
+    private String introFileName;
+
+    @NotBlank(message = "Intro video content type is required")
+    private String introContentType;
+
+    @NotNull(message = "Intro video size is required")
+    @Positive(message = "Intro video size must be positive")
+    private Long introFileSize;
+
+    @NotBlank(message = "Answer video file name is required")
+    private String answerFileName;
+
+    @NotBlank(message = "Answer video content type is required")
+    private String answerContentType;
+
+    @NotNull(message = "Answer video size is required")
+    @Positive(message = "Answer video size must be positive")
+    private Long answerFileSize;
+}
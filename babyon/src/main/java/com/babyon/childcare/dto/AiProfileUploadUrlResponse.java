@@ -0,0 +1,26 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 화상 이력서 직접 업로드 URL 응답 DTO
+ * 클라이언트는 각 URL 로 Content-Type, Content-Length 를 요청값 그대로 지정해 PUT 한 뒤
+ * 발급된 S3 키로 완료 API 를 호출한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiProfileUploadUrlResponse {
+
+    private String introVideoKey;
+    private String introUploadUrl;
+    private String answerVideoKey;
+    private String answerUploadUrl;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 구인글 지원자 랭킹 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantRankingResponse {
+    private Long jobPostingId; // 구인글 ID
+    private Double postingHourlyRate; // 시급 기준으로 환산한 구인글 급여
+    private int applicantCount; // 랭킹 대상 지원자 수 (철회 제외)
+    private LocalDateTime computedAt; // 점수 계산 시각 (캐시된 결과면 최초 계산 시각)
+    private List<RankedApplicantResponse> applicants; // 점수 내림차순
+}
@@ -0,0 +1,28 @@
+package com.babyon.childcare.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 구인글 지원서 일괄 결정 요청 DTO (선택한 지원서 수락, 나머지 대기중 지원서 거절)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDecisionRequest {
+
+    @Builder.Default
+    @Size(max = 100, message = "수락할 지원서는 100개 이하이어야 합니다")
+    private List<Long> acceptApplicationIds = new ArrayList<>(); // 수락할 지원서 ID (대기중 상태만 수락됨)
+
+    @Builder.Default
+    private boolean rejectOthers = true; // 나머지 대기중 지원서 거절 여부
+
+    @Builder.Default
+    private boolean closePosting = false; // 구인글 비활성화(마감) 여부
+}
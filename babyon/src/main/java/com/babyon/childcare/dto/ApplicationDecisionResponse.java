@@ -0,0 +1,22 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 구인글 지원서 일괄 결정 결과 요약 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDecisionResponse {
+    private Long jobPostingId; // 구인글 ID
+    private int acceptedCount; // 수락된 지원서 수
+    private int acceptSkippedCount; // 수락 요청했으나 대기중이 아니거나 다른 구인글이라 제외된 수
+    private int rejectedCount; // 거절된 지원서 수
+    private boolean postingClosed; // 구인글 비활성화 여부
+    private Map<String, Long> statusCounts; // 처리 후 상태별 지원 수
+}
@@ -0,0 +1,21 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 지원서 목록 응답 DTO (키셋 페이징)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationListResponse {
+    private List<JobApplicationResponse> content; // 지원서 목록
+    private int size; // 요청한 페이지 크기
+    private String sort; // 정렬 (latest, oldest)
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 지원서 ID)
+}
@@ -1,5 +1,6 @@
 package com.babyon.childcare.dto;
 
+import com.babyon.childcare.entity.JobApplication;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +24,22 @@ public class JobApplicationResponse {
     private String status; // 지원 상태
     private LocalDateTime createdAt; // 생성 시간
     private LocalDateTime updatedAt; // 수정 시간
+
+    /**
+     * JobApplication 엔티티로부터 DTO 생성 (jobPosting, sitter 가 로드되어 있어야 지연 로딩이 발생하지 않음)
+     */
+    public static JobApplicationResponse from(JobApplication jobApplication) {
+        return JobApplicationResponse.builder()
+                .id(jobApplication.getId())
+                .jobPostingId(jobApplication.getJobPosting().getId())
+                .jobTitle(jobApplication.getJobPosting().getTitle())
+                .sitterId(jobApplication.getSitter().getId())
+                .sitterEmail(jobApplication.getSitter().getEmail())
+                .coverLetter(jobApplication.getCoverLetter())
+                .proposedHourlyRate(jobApplication.getProposedHourlyRate())
+                .status(jobApplication.getStatus().name())
+                .createdAt(jobApplication.getCreatedAt())
+                .updatedAt(jobApplication.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
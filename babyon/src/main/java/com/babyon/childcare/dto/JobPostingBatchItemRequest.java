@@ -0,0 +1,16 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 구인글 일괄 요청 항목 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingBatchItemRequest {
+    private Long id; // 수정할 구인글 ID (null이면 신규 생성)
+    private JobPostingRequest posting; // 구인글 내용
+}
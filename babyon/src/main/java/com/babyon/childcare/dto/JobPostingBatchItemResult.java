@@ -0,0 +1,20 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 구인글 일괄 요청 항목별 처리 결과 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingBatchItemResult {
+    private int index; // 요청 항목 순번 (0부터)
+    private boolean success; // 처리 성공 여부
+    private Long id; // 구인글 ID (수정 요청이거나 생성 성공 시)
+    private String errorCode; // 실패 시 오류 코드
+    private String message; // 실패 시 오류 메시지
+    private JobPostingResponse posting; // 성공 시 저장된 구인글
+}
@@ -0,0 +1,23 @@
+package com.babyon.childcare.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 구인글 일괄 생성/수정 요청 DTO (에이전시용)
+// 항목별 검증은 부분 실패 보고를 위해 서비스에서 개별 수행한다 (@Valid 전파 없음)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingBatchRequest {
+
+    @NotEmpty(message = "일괄 요청 항목은 1개 이상이어야 합니다")
+    @Size(max = 300, message = "일괄 요청 항목은 300개 이하이어야 합니다")
+    private List<JobPostingBatchItemRequest> items;
+}
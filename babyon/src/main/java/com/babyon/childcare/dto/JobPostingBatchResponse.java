@@ -0,0 +1,20 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 구인글 일괄 생성/수정 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingBatchResponse {
+    private int requested; // 요청 항목 수
+    private int succeeded; // 성공 항목 수
+    private int failed; // 실패 항목 수
+    private List<JobPostingBatchItemResult> results; // 항목별 결과 (요청 순서)
+}
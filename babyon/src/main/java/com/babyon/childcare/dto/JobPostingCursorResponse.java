@@ -0,0 +1,20 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 구인글 목록 응답 DTO (키셋 페이징, 최신순)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingCursorResponse {
+    private List<JobPostingResponse> content; // 구인글 목록
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 구인글의 생성 시각 + ID)
+}
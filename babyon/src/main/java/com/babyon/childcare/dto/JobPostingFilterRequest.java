@@ -0,0 +1,29 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 구인글 조건 검색 요청 DTO (지정한 조건만 AND 로 결합, 미지정 조건은 무시)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingFilterRequest {
+    private List<String> jobTypes; // 구인 유형 (복수 지정 시 OR)
+    private List<String> payTypes; // 급여 타입 (복수 지정 시 OR)
+    private LocalDateTime startFrom; // 시작 일시 하한 (이상)
+    private LocalDateTime startTo; // 시작 일시 상한 (이하)
+    private LocalDateTime endTo; // 종료 일시 상한 (이하)
+    private Integer maxRequiredExperienceYears; // 요구 경력 상한 (요구 경력 미지정 구인글 포함)
+    private Integer minChildren; // 아이 숫자 하한
+    private Integer maxChildren; // 아이 숫자 상한
+    private Double minHourlyRate; // 시급 환산 급여 하한
+    private Double maxHourlyRate; // 시급 환산 급여 상한
+    private String cursor; // 이전 응답의 nextCursor (첫 페이지는 생략)
+    private Integer size; // 페이지 크기
+}
@@ -0,0 +1,27 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 부모 대시보드 - 구인글별 요약 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParentDashboardPostingResponse {
+    private Long id; // 구인글 ID
+    private String title; // 제목
+    private String location; // 위치/주소
+    private LocalDateTime startDate; // 시작 날짜/시간
+    private Boolean isActive; // 활성화 상태
+    private LocalDateTime createdAt; // 생성 시간
+    private Long applicationCount; // 전체 지원자 수
+    private Map<String, Long> statusCounts; // 상태별 지원 수 (PENDING, ACCEPTED, REJECTED, WITHDRAWN)
+    private List<JobApplicationResponse> recentApplications; // 최신 지원서 N건
+}
@@ -0,0 +1,23 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 부모 대시보드 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParentDashboardResponse {
+    private Long parentId; // 부모 ID
+    private Integer totalPostings; // 전체 구인글 수
+    private Integer activePostings; // 활성화된 구인글 수
+    private Map<String, Long> statusCounts; // 전체 구인글 합산 상태별 지원 수
+    private Integer recentApplicantLimit; // 구인글별 최신 지원자 조회 건수
+    private List<ParentDashboardPostingResponse> postings; // 구인글별 요약 (최신순)
+}
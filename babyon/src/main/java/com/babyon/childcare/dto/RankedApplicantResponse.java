@@ -0,0 +1,30 @@
+package com.babyon.childcare.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 랭킹된 지원자 응답 DTO (항목별 점수는 0.0 ~ 1.0, 총점은 0 ~ 100)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedApplicantResponse {
+    private int rank; // 순위 (1부터)
+    private double score; // 총점
+    private JobApplicationResponse application; // 지원서
+
+    private Double sitterRating; // 시터 평점 (프로필 없으면 null)
+    private Integer totalReviews; // 리뷰 수
+    private boolean verified; // 인증 여부
+    private Integer experienceYears; // 경력 연수
+    private Double proposedHourlyRate; // 비교에 사용한 제안 시급 (미제안 시 시터 기본 시급)
+    private Double aiOverallScore; // AI 분석 종합 점수 (분석 결과 없으면 null)
+
+    private double ratingScore; // 평점 점수
+    private double verificationScore; // 인증 점수
+    private double experienceScore; // 경력 점수
+    private double payScore; // 급여 적합도 점수
+    private double aiScore; // AI 분석 점수
+}
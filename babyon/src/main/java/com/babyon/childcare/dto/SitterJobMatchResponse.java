@@ -0,0 +1,49 @@
+package com.babyon.childcare.dto;
+
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.SitterJobMatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 시터 추천 구인글 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitterJobMatchResponse {
+    private Long jobPostingId; // 구인글 ID
+    private String title; // 제목
+    private String location; // 위치/주소
+    private String jobType; // 구인 유형
+    private LocalDateTime startDate; // 시작 날짜/시간
+    private LocalDateTime endDate; // 종료 날짜/시간
+    private Double hourlyRate; // 급여 (급여 타입 기준)
+    private String payType; // 급여 타입
+    private Double normalizedHourlyRate; // 시급 환산 급여
+    private double matchScore; // 매칭 점수 (0 ~ 100)
+    private LocalDateTime computedAt; // 매칭 계산 시각
+
+    /**
+     * SitterJobMatch 엔티티로부터 DTO 생성 (jobPosting 이 로드되어 있어야 지연 로딩이 발생하지 않음)
+     */
+    public static SitterJobMatchResponse from(SitterJobMatch match) {
+        JobPosting jobPosting = match.getJobPosting();
+        return SitterJobMatchResponse.builder()
+                .jobPostingId(jobPosting.getId())
+                .title(jobPosting.getTitle())
+                .location(jobPosting.getLocation())
+                .jobType(jobPosting.getJobType() != null ? jobPosting.getJobType().name() : null)
+                .startDate(jobPosting.getStartDate())
+                .endDate(jobPosting.getEndDate())
+                .hourlyRate(jobPosting.getHourlyRate())
+                .payType(jobPosting.getPayType() != null ? jobPosting.getPayType().name() : null)
+                .normalizedHourlyRate(jobPosting.getNormalizedHourlyRate())
+                .matchScore(Math.round(match.getScore() * 1000.0) / 10.0)
+                .computedAt(match.getComputedAt())
+                .build();
+    }
+}
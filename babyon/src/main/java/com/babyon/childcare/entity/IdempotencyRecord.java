@@ -0,0 +1,58 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 요청 결과 기록
+ *
+ * (principal, scope, idempotency_key) 유니크 키로 같은 키의 동시 요청을 직렬화하고,
+ * 커밋된 응답 본문을 재시도 요청에 그대로 돌려준다.
+ */
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_key",
+                columnNames = {"principal", "scope", "idempotency_key"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String principal; // 요청자 (이메일)
+
+    @Column(nullable = false, length = 50)
+    private String scope; // 작업 구분 (예: job-application.apply)
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // 요청 본문 SHA-256 (같은 키로 다른 요청을 보내는 경우 감지)
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody; // 최초 실행 결과 (JSON)
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -10,7 +10,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_sitter", columnNames = {"job_posting_id", "sitter_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
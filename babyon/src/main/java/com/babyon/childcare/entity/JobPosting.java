@@ -18,8 +18,10 @@ import java.util.Set;
 @AllArgsConstructor
 public class JobPosting {
 
+    // 일괄 등록 시 JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 시퀀스(테이블 에뮬레이션) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_posting_seq")
+    @SequenceGenerator(name = "job_posting_seq", sequenceName = "job_posting_seq", allocationSize = 50)
     private Long id;
 
     @Version
@@ -52,6 +54,9 @@ public class JobPosting {
     @Column(name = "pay_type")
     private PayType payType = PayType.HOURLY; // 급여 타입
 
+    @Column(name = "normalized_hourly_rate")
+    private Double normalizedHourlyRate; // 시급 환산 급여 (정렬/필터용, PayRateNormalizer 가 계산)
+
     @Column(name = "required_experience_years")
     private Integer requiredExperienceYears; // 요구 경력 연수
 
@@ -0,0 +1,68 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ *
+ * 도메인 변경과 같은 트랜잭션에서 기록되고, NotificationDispatcher 가 비동기로 읽어 발송한다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient_id")
+    private Long recipientId; // 수신자 사용자 ID
+
+    @Column(name = "recipient_email", nullable = false)
+    private String recipientEmail; // 수신 이메일
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType; // 이벤트 종류 (APPLICATION_SUBMITTED 등)
+
+    @Column(nullable = false)
+    private String subject; // 제목
+
+    @Column(columnDefinition = "TEXT")
+    private String body; // 본문
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송(또는 처리 임대 만료) 시각
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public enum Status {
+        PENDING, // 발송 대기
+        PROCESSING, // 디스패처가 발송 중 (nextAttemptAt 까지 임대)
+        SENT, // 발송 완료
+        FAILED // 최대 재시도 초과
+    }
+}
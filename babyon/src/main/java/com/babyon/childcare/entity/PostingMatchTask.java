@@ -0,0 +1,34 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구인글 추천 매칭 갱신 대기 표식
+ *
+ * 구인글 등록/수정/마감 트랜잭션에서 기록하고, SitterMatchingService 가 매칭을 갱신한 트랜잭션에서 삭제한다.
+ * 커밋 후 실행되는 갱신 작업이 큐 포화나 재시작으로 유실되어도 남은 표식을 주기 작업이 다시 처리한다.
+ * 신규 구인글이면 알림 팬아웃 대기(alertPending)도 함께 기록하여, 알림이 아웃박스에 기록될 때까지 유지한다.
+ */
+@Entity
+@Table(name = "posting_match_tasks", indexes = {
+        @Index(name = "idx_posting_match_tasks_requested", columnList = "requested_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingMatchTask {
+
+    @Id
+    @Column(name = "job_posting_id")
+    private Long jobPostingId; // 구인글 ID
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt; // 마지막 변경 시각 (처리 중 다시 변경되면 표식을 남기는 기준)
+
+    @Column(name = "alert_pending", nullable = false)
+    private Boolean alertPending = false; // 신규 구인글 알림 팬아웃 대기 여부
+}
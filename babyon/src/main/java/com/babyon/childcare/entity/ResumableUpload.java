@@ -0,0 +1,59 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능한 영상 업로드 세션 (tus 방식)
+ *
+ * 청크 본문은 ResumableUploadService 가 관리하는 임시 파일에 이어 쓰고,
+ * 이 엔티티에는 지금까지 디스크에 기록된 바이트 수(uploadOffset)와 만료 시각만 보관한다.
+ */
+@Entity
+@Table(name = "resumable_uploads")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumableUpload {
+
+    @Id
+    @Column(length = 36)
+    private String id; // 업로드 ID (UUID)
+
+    @Column(name = "sitter_id", nullable = false)
+    private Long sitterId; // 업로드한 시터 ID
+
+    @Column(name = "file_name")
+    private String fileName; // 원본 파일명 (Upload-Metadata filename)
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType; // MIME 타입 (Upload-Metadata filetype)
+
+    @Column(name = "upload_length", nullable = false)
+    private Long uploadLength; // 전체 파일 크기 (bytes)
+
+    @Column(name = "upload_offset", nullable = false)
+    @Builder.Default
+    private Long uploadOffset = 0L; // 지금까지 받은 바이트 수
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 만료 시각 (청크를 받을 때마다 연장)
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isComplete() {
+        return uploadOffset.equals(uploadLength);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
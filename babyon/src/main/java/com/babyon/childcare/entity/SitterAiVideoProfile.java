@@ -36,6 +36,9 @@ public class SitterAiVideoProfile {
     @Column(name = "intro_video_duration_seconds")
     private Integer introVideoDurationSeconds; // 인트로 영상 길이 (최대 120초)
 
+    @Column(name = "intro_video_sha256", length = 64)
+    private String introVideoSha256; // 인트로 영상 내용 SHA-256 (중복 업로드 제거용)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ai_question_id")
     private AiQuestion aiQuestion; // 답변한 AI 질문
@@ -46,6 +49,9 @@ public class SitterAiVideoProfile {
     @Column(name = "answer_video_duration_seconds")
     private Integer answerVideoDurationSeconds; // 답변 영상 길이 (최대 120초)
 
+    @Column(name = "answer_video_sha256", length = 64)
+    private String answerVideoSha256; // 답변 영상 내용 SHA-256 (중복 업로드 제거용)
+
     @Column(name = "status")
     @Enumerated(EnumType.STRING)
     private ProfileStatus status = ProfileStatus.PENDING; // 이력서 상태
@@ -0,0 +1,39 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시터별 추천 구인글 (사전 계산된 매칭 결과)
+ *
+ * SitterMatchingService 가 구인글 등록/수정, 시터 프로필 변경 시 증분 갱신하며 시터마다 상위 N건만 보관한다.
+ */
+@Entity
+@Table(name = "sitter_job_matches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sitter_job_match", columnNames = {"sitter_id", "job_posting_id"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitterJobMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sitter_id", nullable = false)
+    private Long sitterId; // 시터 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_posting_id", nullable = false)
+    private JobPosting jobPosting; // 추천 구인글
+
+    @Column(nullable = false)
+    private Double score; // 매칭 점수 (0.0 ~ 1.0)
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt; // 계산 시각
+}
@@ -0,0 +1,28 @@
+package com.babyon.childcare.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시터별 추천 매칭 전체 계산 시각
+ *
+ * SitterMatchingService 가 시터의 매칭을 전부 계산한 뒤 기록한다.
+ * 기록이 없는 시터는 조회 시 전체 계산을 예약한다 (구인글 증분 갱신으로 들어온 행만 있을 수 있음).
+ */
+@Entity
+@Table(name = "sitter_match_states")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SitterMatchState {
+
+    @Id
+    @Column(name = "sitter_id")
+    private Long sitterId; // 시터 ID
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt; // 마지막 전체 계산 시각
+}
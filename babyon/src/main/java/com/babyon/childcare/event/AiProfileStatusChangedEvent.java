@@ -0,0 +1,19 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AI 화상 프로필 상태 변경 이벤트 (PENDING → ANALYZING → ACTIVE/REVIEWING/INACTIVE)
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AiProfileStatusChangedEvent {
+
+    private final Long sitterId; // 시터 ID
+    private final String status; // 변경 후 프로필 상태
+}
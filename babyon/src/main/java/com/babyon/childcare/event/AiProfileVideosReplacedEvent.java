@@ -0,0 +1,22 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * AI 화상 프로필 영상 교체 이벤트
+ * 더 이상 프로필에서 참조하지 않는 기존 S3 객체 키를 전달한다.
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AiProfileVideosReplacedEvent {
+
+    private final Long sitterId;              // 시터 ID
+    private final List<String> replacedKeys;  // 교체되어 참조가 끊긴 S3 객체 키
+}
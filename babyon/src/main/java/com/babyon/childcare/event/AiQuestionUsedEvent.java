@@ -0,0 +1,18 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AI 질문 사용 이벤트 (AI 화상 이력서 저장 시)
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 업로드만 사용 횟수에 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AiQuestionUsedEvent {
+
+    private final Long questionId; // AI 질문 ID
+}
@@ -0,0 +1,30 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 지원서 변경 이벤트
+ *
+ * JobApplicationService 가 트랜잭션 안에서 발행하며,
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobApplicationChangedEvent {
+
+    public enum Type {
+        APPLIED, // 지원
+        WITHDRAWN, // 철회
+        STATUS_CHANGED // 수락/거절 등 상태 변경
+    }
+
+    private final Type type;
+    private final Long applicationId; // 지원서 ID
+    private final Long jobPostingId; // 구인글 ID
+    private final Long parentId; // 구인글 작성자(부모) ID
+    private final Long sitterId; // 시터 ID
+    private final String status; // 변경 후 지원 상태
+}
@@ -0,0 +1,19 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 구인글 등록/수정/마감 이벤트
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobPostingChangedEvent {
+
+    private final Long jobPostingId; // 구인글 ID
+    private final boolean created; // 신규 등록 여부 (신규 구인글 알림 대상)
+}
@@ -0,0 +1,19 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재개 가능한 업로드 세션 해제 이벤트 (완료 후 사용 또는 취소)
+ * 세션 행 삭제가 커밋된 뒤 임시 파일을 지우기 위해 발행한다.
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ResumableUploadReleasedEvent {
+
+    private final String uploadId; // 업로드 ID
+}
@@ -0,0 +1,18 @@
+package com.babyon.childcare.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 시터 매칭 조건(프로필, 근무 가능 시간, 서비스 지역) 변경 이벤트
+ *
+ * 구독자는 @TransactionalEventListener(AFTER_COMMIT) 로 커밋된 변경만 반영한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SitterProfileChangedEvent {
+
+    private final Long sitterId; // 시터 ID
+}
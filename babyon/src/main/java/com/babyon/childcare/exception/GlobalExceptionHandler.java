@@ -138,6 +138,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * 재개 가능한 업로드(tus) 오류 - 클라이언트가 상태 코드로 재시도 여부를 판단한다
+     */
+    @ExceptionHandler(ResumableUploadException.class)
+    public ResponseEntity<ErrorResponse> handleResumableUpload(ResumableUploadException e) {
+        log.warn("Resumable upload error: {} - {}", e.getErrorCode(), e.getMessage());
+        ErrorResponse response = ErrorResponse.of(e.getErrorCode(), e.getMessage());
+        return ResponseEntity.status(e.getStatus())
+                .header("Tus-Resumable", "1.0.0")
+                .body(response);
+    }
+
     /**
      * 비즈니스 예외 (기타)
      */
@@ -0,0 +1,41 @@
+package com.babyon.childcare.exception;
+
+import lombok.Getter;
+
+/**
+ * 재개 가능한 업로드(tus) 프로토콜 예외
+ * 클라이언트가 상태 코드로 재시도 방법을 결정하므로 응답 상태를 함께 전달한다.
+ */
+@Getter
+public class ResumableUploadException extends BusinessException {
+
+    /** tus checksum 확장의 체크섬 불일치 상태 코드 (표준 HTTP 상태에 없음) */
+    public static final int CHECKSUM_MISMATCH = 460;
+
+    private final int status;
+
+    public ResumableUploadException(int status, String errorCode, String message) {
+        super(errorCode, message);
+        this.status = status;
+    }
+
+    public static ResumableUploadException notFound(String uploadId) {
+        return new ResumableUploadException(404, "UPLOAD_NOT_FOUND",
+                "업로드를 찾을 수 없거나 만료되었습니다: " + uploadId);
+    }
+
+    public static ResumableUploadException offsetMismatch(long expected, long actual) {
+        return new ResumableUploadException(409, "UPLOAD_OFFSET_MISMATCH",
+                String.format("Upload-Offset 이 일치하지 않습니다 (서버: %d, 요청: %d)", expected, actual));
+    }
+
+    public static ResumableUploadException locked(String uploadId) {
+        return new ResumableUploadException(409, "UPLOAD_LOCKED",
+                "같은 업로드에 대한 다른 요청을 처리 중입니다: " + uploadId);
+    }
+
+    public static ResumableUploadException checksumMismatch() {
+        return new ResumableUploadException(CHECKSUM_MISMATCH, "UPLOAD_CHECKSUM_MISMATCH",
+                "청크 체크섬이 일치하지 않습니다. 같은 오프셋부터 다시 전송해주세요.");
+    }
+}
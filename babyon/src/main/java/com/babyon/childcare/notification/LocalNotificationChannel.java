@@ -0,0 +1,58 @@
+package com.babyon.childcare.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 로컬 알림 채널 (기본값, 개발/테스트용)
+ *
+ * 실제로 발송하지 않고 로그로 남기며, 최근 발송 내역을 메모리에 보관하여 테스트에서 확인할 수 있게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.channel", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalNotificationChannel implements NotificationChannel {
+
+    private static final int MAX_KEPT = 1000;
+
+    private final Deque<SentNotification> sent = new ArrayDeque<>();
+
+    @Override
+    public void send(String recipientEmail, String subject, String body) {
+        log.info("[local notification] to={}, subject={}", recipientEmail, subject);
+        synchronized (sent) {
+            if (sent.size() >= MAX_KEPT) {
+                sent.removeFirst();
+            }
+            sent.addLast(new SentNotification(recipientEmail, subject, body));
+        }
+    }
+
+    public List<SentNotification> getSent() {
+        synchronized (sent) {
+            return new ArrayList<>(sent);
+        }
+    }
+
+    public void clear() {
+        synchronized (sent) {
+            sent.clear();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SentNotification {
+        private final String recipientEmail;
+        private final String subject;
+        private final String body;
+    }
+}
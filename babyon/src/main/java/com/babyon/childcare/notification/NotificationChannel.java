@@ -0,0 +1,12 @@
+package com.babyon.childcare.notification;
+
+/**
+ * 알림 발송 채널
+ *
+ * app.notification.channel 값에 따라 구현체가 하나만 등록된다. (smtp, local)
+ * 발송 실패 시 예외를 던지면 디스패처가 백오프 후 재시도한다.
+ */
+public interface NotificationChannel {
+
+    void send(String recipientEmail, String subject, String body) throws Exception;
+}
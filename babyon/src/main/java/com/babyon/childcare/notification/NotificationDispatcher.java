@@ -0,0 +1,170 @@
+package com.babyon.childcare.notification;
+
+import com.babyon.childcare.entity.NotificationOutbox;
+import com.babyon.childcare.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 알림 아웃박스 디스패처
+ *
+ * 1) 짧은 트랜잭션에서 발송 대상을 SKIP LOCKED 로 가져와 PROCESSING 으로 임대 표시
+ * 2) 트랜잭션 밖에서 수신자별로 묶어(coalesce) 한 번에 발송
+ * 3) 결과를 다시 짧은 트랜잭션으로 기록 (실패 시 지수 백오프 후 재시도, 최대 횟수 초과 시 FAILED)
+ * 발송 도중 인스턴스가 죽으면 임대 만료 후 다른 인스턴스가 다시 가져간다 (at-least-once).
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final List<NotificationOutbox.Status> DUE_STATUSES =
+            List.of(NotificationOutbox.Status.PENDING, NotificationOutbox.Status.PROCESSING);
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationChannel channel;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.notification.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.notification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notification.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.notification.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${app.notification.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${app.notification.retention-days:7}")
+    private long retentionDays;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  NotificationChannel channel,
+                                  TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.channel = channel;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.dispatch-interval-ms:5000}")
+    public void dispatch() {
+        List<NotificationOutbox> claimed;
+        do {
+            claimed = claimBatch();
+            if (!claimed.isEmpty()) {
+                deliver(claimed);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    // 보관 기간이 지난 발송 완료 건 정리
+    @Scheduled(cron = "${app.notification.cleanup-cron:0 30 4 * * *}")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteByStatusAndCreatedAtBefore(
+                NotificationOutbox.Status.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        log.info("발송 완료 알림 정리: {}건", deleted);
+    }
+
+    private List<NotificationOutbox> claimBatch() {
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> due = outboxRepository.findDueForUpdate(
+                    DUE_STATUSES, now, PageRequest.of(0, batchSize));
+            for (NotificationOutbox notification : due) {
+                notification.setStatus(NotificationOutbox.Status.PROCESSING);
+                notification.setNextAttemptAt(now.plusSeconds(leaseSeconds));
+            }
+            return due;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void deliver(List<NotificationOutbox> claimed) {
+        // 수신자별로 묶어서 한 번에 발송
+        Map<String, List<NotificationOutbox>> byRecipient = new LinkedHashMap<>();
+        for (NotificationOutbox notification : claimed) {
+            byRecipient.computeIfAbsent(notification.getRecipientEmail(), email -> new ArrayList<>()).add(notification);
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        for (Map.Entry<String, List<NotificationOutbox>> entry : byRecipient.entrySet()) {
+            List<NotificationOutbox> group = entry.getValue();
+            try {
+                channel.send(entry.getKey(), subjectOf(group), bodyOf(group));
+            } catch (Exception e) {
+                log.warn("알림 발송 실패: to={}, count={}, error={}", entry.getKey(), group.size(), e.getMessage());
+                String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                group.forEach(notification -> failures.put(notification.getId(), error));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> managed = outboxRepository.findAllById(
+                    claimed.stream().map(NotificationOutbox::getId).toList());
+            for (NotificationOutbox notification : managed) {
+                String error = failures.get(notification.getId());
+                if (error == null) {
+                    notification.setStatus(NotificationOutbox.Status.SENT);
+                    notification.setSentAt(now);
+                    notification.setLastError(null);
+                    continue;
+                }
+                int attempts = notification.getAttempts() + 1;
+                notification.setAttempts(attempts);
+                notification.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+                if (attempts >= maxAttempts) {
+                    notification.setStatus(NotificationOutbox.Status.FAILED);
+                } else {
+                    notification.setStatus(NotificationOutbox.Status.PENDING);
+                    notification.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+                }
+            }
+        });
+
+        log.debug("알림 발송 처리: claimed={}, recipients={}, failed={}",
+                claimed.size(), byRecipient.size(), failures.size());
+    }
+
+    // 지수 백오프 (base * 2^(attempts-1), 최대값 제한, +-20% 지터)
+    private long backoffSeconds(int attempts) {
+        long exp = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        long capped = Math.min(exp, backoffMaxSeconds);
+        long jitter = (long) (capped * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Math.max(1, capped + jitter);
+    }
+
+    private String subjectOf(List<NotificationOutbox> group) {
+        if (group.size() == 1) {
+            return group.get(0).getSubject();
+        }
+        return "[BabyOn] 새 알림 " + group.size() + "건";
+    }
+
+    private String bodyOf(List<NotificationOutbox> group) {
+        if (group.size() == 1) {
+            return group.get(0).getBody();
+        }
+        StringBuilder body = new StringBuilder();
+        for (NotificationOutbox notification : group) {
+            body.append("- ").append(notification.getSubject()).append('\n');
+            if (notification.getBody() != null) {
+                body.append("  ").append(notification.getBody().replace("\n", "\n  ")).append('\n');
+            }
+            body.append('\n');
+        }
+        return body.toString();
+    }
+}
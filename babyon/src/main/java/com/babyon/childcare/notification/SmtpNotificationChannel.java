@@ -0,0 +1,32 @@
+package com.babyon.childcare.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * SMTP 알림 채널 (app.notification.channel=smtp, spring.mail.* 설정 필요)
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.channel", havingValue = "smtp")
+@RequiredArgsConstructor
+public class SmtpNotificationChannel implements NotificationChannel {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${app.notification.from:no-reply@babyon.com}")
+    private String from;
+
+    @Override
+    public void send(String recipientEmail, String subject, String body) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(recipientEmail);
+        message.setSubject(subject);
+        message.setText(body);
+        mailSender.send(message);
+    }
+}
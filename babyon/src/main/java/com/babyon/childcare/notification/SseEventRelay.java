@@ -0,0 +1,48 @@
+package com.babyon.childcare.notification;
+
+import com.babyon.childcare.event.AiProfileStatusChangedEvent;
+import com.babyon.childcare.event.JobApplicationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커밋된 도메인 이벤트를 SSE 허브로 전달
+ *
+ * - 지원서 변경: 시터에게 "application-status", 구인글 작성 부모에게 "application-changed"
+ * - AI 프로필 상태 변경: 시터에게 "ai-profile-status"
+ */
+@Component
+@RequiredArgsConstructor
+public class SseEventRelay {
+
+    private final SseHub sseHub;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobApplicationChanged(JobApplicationChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", event.getType().name());
+        data.put("applicationId", event.getApplicationId());
+        data.put("jobPostingId", event.getJobPostingId());
+        data.put("status", event.getStatus());
+        data.put("occurredAt", LocalDateTime.now());
+
+        sseHub.publish(event.getSitterId(), "application-status", data);
+        sseHub.publish(event.getParentId(), "application-changed", data);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAiProfileStatusChanged(AiProfileStatusChangedEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("sitterId", event.getSitterId());
+        data.put("status", event.getStatus());
+        data.put("occurredAt", LocalDateTime.now());
+
+        sseHub.publish(event.getSitterId(), "ai-profile-status", data);
+    }
+}
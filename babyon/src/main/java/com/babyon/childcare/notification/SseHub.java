@@ -0,0 +1,331 @@
+package com.babyon.childcare.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 SSE(Server-Sent Events) 팬아웃 허브
+ *
+ * - 연결은 서블릿 비동기 요청(SseEmitter)으로 유지되므로 유휴 연결이 스레드를 점유하지 않는다.
+ * - 발행은 연결별 고정 크기 큐에 넣기만 하고(non-blocking), 실제 전송은 sseSendExecutor 가 큐를 비우며 수행한다.
+ *   큐가 가득 찬 느린 연결은 끊고, 클라이언트가 Last-Event-ID 로 재연결하여 누락분을 받는다.
+ *   전송 작업이 거부되어도 연결은 유지하며, 남은 이벤트는 다음 heartbeat 에 함께 전송한다.
+ * - 사용자별 최근 이벤트를 링 버퍼에 보관하여 재연결 시 Last-Event-ID 이후 이벤트를 재전송한다.
+ *   링 버퍼 범위를 벗어난 경우 "resync" 이벤트를 보내 클라이언트가 전체 목록을 다시 조회하게 한다.
+ *   발행과 재전송은 채널 단위로 직렬화되므로 재전송분과 실시간 이벤트가 중복되거나 순서가 뒤바뀌지 않는다.
+ * - 주기적인 heartbeat 주석으로 프록시/로드밸런서의 유휴 연결 종료를 막는다.
+ *   연결 수와 무관하게 HEARTBEAT_BATCH_SIZE 개 연결마다 전송 작업 하나만 제출한다.
+ * 단일 인스턴스 메모리 기반이므로 여러 인스턴스 운영 시 사용자별 고정 라우팅(sticky)이 필요하다.
+ */
+@Component
+@Slf4j
+public class SseHub {
+
+    private static final int HEARTBEAT_BATCH_SIZE = 500;
+
+    private final Executor sendExecutor;
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${app.sse.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.sse.replay-size:50}")
+    private int replaySize;
+
+    @Value("${app.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.sse.channel-idle-ms:300000}")
+    private long channelIdleMillis;
+
+    public SseHub(@Qualifier("sseSendExecutor") Executor sendExecutor) {
+        this.sendExecutor = sendExecutor;
+    }
+
+    /**
+     * 사용자 구독 (재연결 시 lastEventId 이후 이벤트 재전송)
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // 유휴 정리로 폐기된 채널을 받았다면 새 채널로 다시 등록
+        while (!channels.computeIfAbsent(userId, UserChannel::new).attach(emitter, lastEventId)) {
+            Thread.onSpinWait();
+        }
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 이벤트 발행 (연결이 없어도 재연결 재전송용으로 보관)
+     */
+    public void publish(Long userId, String name, Object data) {
+        if (userId == null) {
+            return;
+        }
+        HubEvent event = new HubEvent(sequence.incrementAndGet(), name, data);
+        while (!channels.computeIfAbsent(userId, UserChannel::new).publish(event)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public int getConnectionCount() {
+        return channels.values().stream().mapToInt(UserChannel::connectionCount).sum();
+    }
+
+    // heartbeat 전송 및 연결 없는 오래된 채널 정리
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long idleThreshold = System.currentTimeMillis() - channelIdleMillis;
+        List<Connection> targets = new ArrayList<>();
+        for (UserChannel channel : channels.values()) {
+            if (channel.retireIfIdle(idleThreshold)) {
+                channels.remove(channel.userId, channel);
+            } else {
+                channel.enqueueHeartbeat(targets);
+            }
+        }
+
+        for (int from = 0; from < targets.size(); from += HEARTBEAT_BATCH_SIZE) {
+            List<Connection> batch = targets.subList(from, Math.min(from + HEARTBEAT_BATCH_SIZE, targets.size()));
+            try {
+                sendExecutor.execute(() -> batch.forEach(Connection::flush));
+            } catch (RejectedExecutionException e) {
+                // 연결 문제가 아니므로 끊지 않는다 - 큐에 남은 heartbeat 는 다음 주기에 전송
+                log.warn("SSE heartbeat 전송 작업 거부: connections={}", batch.size());
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(HubEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id))
+                .name(event.name)
+                .data(event.data, MediaType.APPLICATION_JSON);
+    }
+
+    // ──────────────────────────────────────────────────
+    // 사용자 채널 (연결 목록 + 재전송용 링 버퍼)
+    // 등록/발행/재전송/정리는 채널 모니터로 직렬화한다 (큐에 넣기만 하므로 잠금 구간은 짧다)
+    // ──────────────────────────────────────────────────
+
+    private final class UserChannel {
+
+        private final Long userId;
+        private final List<Connection> connections = new CopyOnWriteArrayList<>();
+        private final Deque<HubEvent> recent = new ArrayDeque<>();
+        // 이 값 이하의 이벤트는 보관하지 않음 (채널 생성 이전 또는 링 버퍼에서 밀려난 이벤트)
+        private long replayFloorId = sequence.get();
+        private volatile long lastActivity = System.currentTimeMillis();
+        // 유휴 정리로 맵에서 제거됨 - 이후 등록/발행은 새 채널에서 다시 시도
+        private boolean retired;
+
+        private UserChannel(Long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 연결 등록 후 "connected" 와 누락 이벤트를 큐에 넣는다.
+         * 발행과 같은 모니터 안에서 실행되므로 재전송분 뒤에 실시간 이벤트가 이어진다.
+         * @return 폐기된 채널이면 false
+         */
+        private synchronized boolean attach(SseEmitter emitter, Long lastEventId) {
+            if (retired) {
+                return false;
+            }
+            Connection connection = new Connection(this, emitter);
+            emitter.onCompletion(connection::close);
+            emitter.onTimeout(connection::close);
+            emitter.onError(e -> connection.close());
+
+            connections.add(connection);
+            lastActivity = System.currentTimeMillis();
+            // 사용자당 최대 연결 수 초과 시 가장 오래된 연결 종료
+            while (connections.size() > maxConnectionsPerUser) {
+                connections.get(0).complete();
+            }
+
+            connection.offer(SseEmitter.event().reconnectTime(3000).comment("connected"));
+            if (lastEventId != null) {
+                replayAfter(lastEventId, connection);
+            }
+            return true;
+        }
+
+        private void remove(Connection connection) {
+            connections.remove(connection);
+            lastActivity = System.currentTimeMillis();
+        }
+
+        /**
+         * @return 폐기된 채널이면 false
+         */
+        private synchronized boolean publish(HubEvent event) {
+            if (retired) {
+                return false;
+            }
+            if (recent.size() >= replaySize) {
+                replayFloorId = recent.removeFirst().id;
+            }
+            recent.addLast(event);
+            lastActivity = System.currentTimeMillis();
+            for (Connection connection : connections) {
+                connection.offer(toSse(event));
+            }
+            return true;
+        }
+
+        private void replayAfter(long lastEventId, Connection connection) {
+            if (lastEventId < replayFloorId) {
+                // 보관 범위 밖의 이벤트가 누락되었을 수 있음 - 클라이언트 전체 재조회 유도
+                connection.offer(SseEmitter.event().name("resync").data(Map.of("reason", "replay-window-exceeded")));
+            }
+            for (HubEvent event : recent) {
+                if (event.id > lastEventId) {
+                    connection.offer(toSse(event));
+                }
+            }
+        }
+
+        // 보낼 것이 없는 연결에만 heartbeat 를 넣고, 열린 연결은 모두 전송 대상에 추가
+        private void enqueueHeartbeat(List<Connection> targets) {
+            for (Connection connection : connections) {
+                if (connection.enqueueHeartbeat()) {
+                    targets.add(connection);
+                }
+            }
+        }
+
+        private synchronized boolean retireIfIdle(long threshold) {
+            retired = connections.isEmpty() && lastActivity < threshold;
+            return retired;
+        }
+
+        private int connectionCount() {
+            return connections.size();
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // 연결 (고정 크기 큐 + 단일 drain 작업)
+    // ──────────────────────────────────────────────────
+
+    private final class Connection {
+
+        private final UserChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(UserChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.debug("SSE 버퍼 초과로 연결 종료: userId={}", channel.userId);
+                complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * heartbeat 를 큐에 넣는다 (전송 작업은 호출자가 묶어서 제출)
+         * 이미 보낼 이벤트가 쌓여 있으면 그 전송이 heartbeat 역할을 하므로 넣지 않는다.
+         * @return 열린 연결이면 true
+         */
+        private boolean enqueueHeartbeat() {
+            if (closed.get()) {
+                return false;
+            }
+            if (queue.isEmpty()) {
+                queue.offer(SseEmitter.event().comment("hb"));
+            }
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 전송 풀 포화 - 클라이언트 문제가 아니므로 연결은 유지하고 다음 heartbeat 에 전송
+                draining.set(false);
+                log.debug("SSE 전송 작업 거부, 다음 heartbeat 에 전송: userId={}", channel.userId);
+            }
+        }
+
+        // 호출 스레드에서 바로 큐를 비운다 (다른 스레드가 비우는 중이면 생략)
+        private void flush() {
+            if (draining.compareAndSet(false, true)) {
+                drain();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed.get() && !queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void complete() {
+            if (!closed.get()) {
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                channel.remove(this);
+            }
+        }
+    }
+
+    private static final class HubEvent {
+
+        private final long id;
+        private final String name;
+        private final Object data;
+
+        private HubEvent(long id, String name, Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.babyon.childcare.repository;
 
 import com.babyon.childcare.entity.AiQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,8 +40,17 @@ public interface AiQuestionRepository extends JpaRepository<AiQuestion, Long> {
     Optional<AiQuestion> findByIdAndIsActiveTrue(Long id);
 
     /**
-     * 사용 횟수가 적은 순으로 활성화된 질문 조회 (질문 균등 분배)
+     * 사용 횟수 일괄 증가 (AiQuestionPool 이 모아 둔 같은 증가분의 질문들을 한 번에 반영)
      */
-    @Query("SELECT aq FROM AiQuestion aq WHERE aq.isActive = true ORDER BY aq.usageCount ASC")
-    List<AiQuestion> findActiveQuestionsOrderByUsageCount();
+    /**
+     * 활성 질문 변경 감지용 요약 (질문 수, ID 합, 사용 횟수 합, 마지막 수정 시각)
+     * 질문 추가/비활성화/수정과 다른 인스턴스의 사용 횟수 반영을 전체 목록을 읽지 않고 감지한다.
+     */
+    @Query("SELECT COUNT(aq), COALESCE(SUM(aq.id), 0), COALESCE(SUM(aq.usageCount), 0), MAX(aq.updatedAt) " +
+            "FROM AiQuestion aq WHERE aq.isActive = true")
+    List<Object[]> findActiveFingerprint();
+
+    @Modifying
+    @Query("UPDATE AiQuestion aq SET aq.usageCount = COALESCE(aq.usageCount, 0) + :delta WHERE aq.id IN :ids")
+    int addUsageCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -0,0 +1,29 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByPrincipalAndScopeAndIdempotencyKey(String principal, String scope,
+                                                                         String idempotencyKey);
+
+    // 만료된 기록 조회 (정리 작업용) - idx_expires_at 사용
+    @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt < :now ORDER BY r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -2,21 +2,29 @@ package com.babyon.childcare.repository;
 
 import com.babyon.childcare.entity.JobApplication;
 import com.babyon.childcare.entity.Sitter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
-    // 특정 구인글에 대한 모든 지원서 검색
+    // 특정 구인글에 대한 모든 지원서 검색 - 구인글/시터 함께 조회
+    @EntityGraph(attributePaths = {"jobPosting", "sitter"})
     List<JobApplication> findByJobPostingId(Long jobPostingId);
 
-    // 특정 시터가 제출한 모든 지원서 검색
+    // 특정 시터가 제출한 모든 지원서 검색 - 구인글/시터 함께 조회
+    @EntityGraph(attributePaths = {"jobPosting", "sitter"})
     List<JobApplication> findBySitter(Sitter sitter);
 
     // 특정 시터가 특정 구인글에 제출한 지원서 검색
@@ -25,12 +33,48 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // 특정 상태의 지원서 검색
     List<JobApplication> findByStatus(JobApplication.ApplicationStatus status);
 
-    // 특정 부모의 구인글에 대한 모든 지원서 검색
+    // 특정 부모의 구인글에 대한 모든 지원서 검색 - 구인글/시터 함께 조회
+    @EntityGraph(attributePaths = {"jobPosting", "sitter"})
     List<JobApplication> findByJobPosting_Parent_Id(Long parentId);
 
+    // 키셋 페이징: 특정 구인글의 지원서 (afterId < id < beforeId, 정렬/건수는 Pageable) - JOIN FETCH
+    // (job_posting_id) 인덱스는 PK(id)를 포함하므로 id 범위 조건과 id 정렬을 인덱스로 처리
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting JOIN FETCH ja.sitter " +
+            "WHERE ja.jobPosting.id = :jobPostingId AND ja.id > :afterId AND ja.id < :beforeId")
+    List<JobApplication> findSliceByJobPostingId(@Param("jobPostingId") Long jobPostingId,
+                                                 @Param("afterId") Long afterId,
+                                                 @Param("beforeId") Long beforeId,
+                                                 Pageable pageable);
+
+    // 키셋 페이징: 특정 시터의 지원서 - JOIN FETCH (idx_sitter_id 사용)
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting JOIN FETCH ja.sitter " +
+            "WHERE ja.sitter.id = :sitterId AND ja.id > :afterId AND ja.id < :beforeId")
+    List<JobApplication> findSliceBySitterId(@Param("sitterId") Long sitterId,
+                                             @Param("afterId") Long afterId,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
+    // 키셋 페이징: 특정 부모의 모든 구인글에 대한 지원서 - JOIN FETCH
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting jp JOIN FETCH ja.sitter " +
+            "WHERE jp.parent.id = :parentId AND ja.id > :afterId AND ja.id < :beforeId")
+    List<JobApplication> findSliceByParentId(@Param("parentId") Long parentId,
+                                             @Param("afterId") Long afterId,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
+
     // 특정 지원서가 이미 존재하는지 확인
     boolean existsByJobPostingIdAndSitterId(Long jobPostingId, Long sitterId);
 
+    // 구인글 ID 목록 중 특정 시터가 지원한 구인글 ID만 조회 (uk_job_sitter(job_posting_id, sitter_id) 인덱스 사용)
+    @Query("SELECT ja.jobPosting.id FROM JobApplication ja " +
+            "WHERE ja.sitter.id = :sitterId AND ja.jobPosting.id IN :jobPostingIds")
+    List<Long> findAppliedJobPostingIds(@Param("sitterId") Long sitterId,
+                                        @Param("jobPostingIds") List<Long> jobPostingIds);
+
+    // 특정 시터가 지원한 모든 구인글 ID (지원 캐시 적재용)
+    @Query("SELECT ja.jobPosting.id FROM JobApplication ja WHERE ja.sitter.id = :sitterId")
+    List<Long> findJobPostingIdsBySitterId(@Param("sitterId") Long sitterId);
+
     // 특정 구인글의 지원자 수 조회 (JobPostingRepository에서 이동)
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.jobPosting.id = :postingId")
     int countApplicationsByJobPostingId(@Param("postingId") Long postingId);
@@ -41,4 +85,54 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
             "GROUP BY ja.jobPosting.id")
     List<Object[]> countApplicationsByJobPostingIds(@Param("ids") List<Long> ids);
 
-}
\ No newline at end of file
+    // 부모 대시보드: 부모의 구인글별 상태별 지원 수 (구인글 ID, 상태, 건수)
+    @Query("SELECT ja.jobPosting.id, ja.status, COUNT(ja) FROM JobApplication ja " +
+            "WHERE ja.jobPosting.parent.id = :parentId " +
+            "GROUP BY ja.jobPosting.id, ja.status")
+    List<Object[]> countByStatusGroupedByJobPostingForParent(@Param("parentId") Long parentId);
+
+    // 부모 대시보드: 구인글별 최신 지원서 ID N건 (윈도우 함수로 구인글마다 잘라서 조회)
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT ja.id AS id, ROW_NUMBER() OVER (" +
+            "PARTITION BY ja.job_posting_id ORDER BY ja.created_at DESC, ja.id DESC) AS rn " +
+            "FROM job_applications ja " +
+            "JOIN job_postings jp ON jp.id = ja.job_posting_id " +
+            "WHERE jp.parent_id = :parentId) ranked " +
+            "WHERE ranked.rn <= :limit",
+            nativeQuery = true)
+    List<Number> findLatestApplicationIdsPerJobPostingForParent(@Param("parentId") Long parentId,
+                                                                @Param("limit") int limit);
+
+    // 지원서 ID 목록으로 일괄 조회 - JOIN FETCH로 구인글/시터 함께 조회
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting JOIN FETCH ja.sitter " +
+            "WHERE ja.id IN :ids ORDER BY ja.createdAt DESC, ja.id DESC")
+    List<JobApplication> findAllByIdInWithJobPostingAndSitter(@Param("ids") List<Long> ids);
+
+    // 특정 구인글의 상태별 지원 수 (상태, 건수)
+    @Query("SELECT ja.status, COUNT(ja) FROM JobApplication ja " +
+            "WHERE ja.jobPosting.id = :jobPostingId GROUP BY ja.status")
+    List<Object[]> countByStatusForJobPosting(@Param("jobPostingId") Long jobPostingId);
+
+    // 특정 구인글의 특정 상태 지원자 (지원서 ID, 시터 ID, 시터 이메일) - 일괄 결정 알림용
+    @Query("SELECT ja.id, s.id, s.email FROM JobApplication ja JOIN ja.sitter s " +
+            "WHERE ja.jobPosting.id = :jobPostingId AND ja.status = :status")
+    List<Object[]> findApplicantsByJobPostingIdAndStatus(@Param("jobPostingId") Long jobPostingId,
+                                                         @Param("status") JobApplication.ApplicationStatus status);
+
+    // 일괄 결정 대상 잠금: 특정 구인글의 특정 상태 지원서 (결정이 끝날 때까지 철회/상태 변경을 막는다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.jobPosting.id = :jobPostingId AND ja.status = :status")
+    List<JobApplication> findByJobPostingIdAndStatusForUpdate(@Param("jobPostingId") Long jobPostingId,
+                                                              @Param("status") JobApplication.ApplicationStatus status);
+
+    // 일괄 결정: 특정 구인글의 지정한 지원서 중 현재 상태가 fromStatus 인 것만 toStatus 로 변경
+    // (벌크 UPDATE 는 @UpdateTimestamp 가 적용되지 않으므로 updatedAt 을 직접 설정)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobApplication ja SET ja.status = :toStatus, ja.updatedAt = :now " +
+            "WHERE ja.jobPosting.id = :jobPostingId AND ja.id IN :ids AND ja.status = :fromStatus")
+    int updateStatusByIds(@Param("jobPostingId") Long jobPostingId,
+                          @Param("ids") List<Long> ids,
+                          @Param("fromStatus") JobApplication.ApplicationStatus fromStatus,
+                          @Param("toStatus") JobApplication.ApplicationStatus toStatus,
+                          @Param("now") LocalDateTime now);
+}
@@ -5,20 +5,36 @@ import com.babyon.childcare.entity.Parent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 import java.time.LocalDateTime;
 
 @Repository
-public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
+public interface JobPostingRepository extends JpaRepository<JobPosting, Long>, JpaSpecificationExecutor<JobPosting> {
 
     // 활성화된 모든 구인글 검색 (페이징) - JOIN FETCH로 Parent 함께 조회
     @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.parent WHERE jp.isActive = true")
     Page<JobPosting> findByIsActiveTrueWithParent(Pageable pageable);
 
+    // 시급 환산 급여 범위로 활성화된 구인글 검색 (페이징) - idx_job_postings_active_normalized_rate 사용
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.parent WHERE jp.isActive = true " +
+            "AND jp.normalizedHourlyRate BETWEEN :minRate AND :maxRate")
+    Page<JobPosting> findActiveByNormalizedHourlyRateBetweenWithParent(@Param("minRate") Double minRate,
+                                                                       @Param("maxRate") Double maxRate,
+                                                                       Pageable pageable);
+
+    // 시터 추천 후보 구인글: 시터 서비스 지역 시/도가 위치에 포함된, 종료되지 않은 활성 구인글
+    @Query("SELECT jp FROM JobPosting jp WHERE jp.isActive = true " +
+            "AND (jp.endDate IS NULL OR jp.endDate >= :now) " +
+            "AND EXISTS (SELECT a FROM SitterServiceArea a WHERE a.sitter.id = :sitterId AND LOCATE(a.city, jp.location) > 0)")
+    List<JobPosting> findMatchCandidatesForSitter(@Param("sitterId") Long sitterId, @Param("now") LocalDateTime now);
+
     // 특정 부모가 작성한 구인글 검색 - JOIN FETCH로 Parent 함께 조회
     @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.parent p WHERE p = :parent")
     Page<JobPosting> findByParentWithParent(@Param("parent") Parent parent, Pageable pageable);
@@ -36,10 +52,51 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.parent WHERE jp.id = :id")
     JobPosting findByIdWithParent(@Param("id") Long id);
 
+    // 조건부 조회(ETag)용 버전 정보 조회 - 본문/연관 엔티티 로드 없이 version, updatedAt, 지원 수만 조회
+    @Query("SELECT jp.version AS version, jp.updatedAt AS updatedAt, jp.isActive AS isActive, " +
+            "(SELECT COUNT(ja) FROM JobApplication ja WHERE ja.jobPosting.id = jp.id) AS applicationCount " +
+            "FROM JobPosting jp WHERE jp.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    // 구인글 ID 목록으로 일괄 조회 (일괄 수정용) - JOIN FETCH
+    @Query("SELECT jp FROM JobPosting jp JOIN FETCH jp.parent WHERE jp.id IN :ids")
+    List<JobPosting> findAllByIdInWithParent(@Param("ids") List<Long> ids);
+
+    // 특정 부모의 전체 구인글 (대시보드용, 최신순)
+    @Query("SELECT jp FROM JobPosting jp WHERE jp.parent.id = :parentId ORDER BY jp.createdAt DESC, jp.id DESC")
+    List<JobPosting> findAllByParentIdOrderByCreatedAtDesc(@Param("parentId") Long parentId);
+
     // 구인글 ID 목록으로 지원 수 조회 (Batch 조회용)
     @Query("SELECT jp.id, COUNT(ja) FROM JobPosting jp " +
             "LEFT JOIN jp.applications ja " +
             "WHERE jp.id IN :ids " +
             "GROUP BY jp.id")
     List<Object[]> countApplicationsByJobPostingIds(@Param("ids") List<Long> ids);
+
+    // 급여 타입별 시급 환산식 (PayRateNormalizer 와 같은 계산)
+    String NORMALIZED_HOURLY_RATE = "CASE jp.payType " +
+            "WHEN com.babyon.childcare.entity.JobPosting.PayType.DAILY THEN jp.hourlyRate / :hoursPerDay " +
+            "WHEN com.babyon.childcare.entity.JobPosting.PayType.MONTHLY THEN jp.hourlyRate / :hoursPerMonth " +
+            "ELSE jp.hourlyRate END";
+
+    // 환산 기준 변경 시 전체 구인글의 시급 환산 급여 재계산
+    // 값이 바뀐 행만 갱신하고 version 을 올려 ETag 와 버전 기반 캐시(지원자 랭킹 등)가 새 값을 보게 한다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobPosting jp SET jp.normalizedHourlyRate = " + NORMALIZED_HOURLY_RATE + ", " +
+            "jp.version = jp.version + 1 " +
+            "WHERE jp.hourlyRate IS NOT NULL " +
+            "AND (jp.normalizedHourlyRate IS NULL OR jp.normalizedHourlyRate <> " + NORMALIZED_HOURLY_RATE + ")")
+    int recomputeNormalizedHourlyRates(@Param("hoursPerDay") double hoursPerDay,
+                                       @Param("hoursPerMonth") double hoursPerMonth);
+
+    // ETag 계산용 버전 정보 프로젝션
+    interface VersionStamp {
+        Long getVersion();
+
+        LocalDateTime getUpdatedAt();
+
+        Boolean getIsActive();
+
+        Long getApplicationCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.JobPosting;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 구인글 조건 검색용 Specification 모음
+ *
+ * 지정된 조건만 술어로 추가하므로 "(:param IS NULL OR ...)" 형태의 조건이 SQL 에 남지 않는다.
+ * 덕분에 MySQL 옵티마이저가 실제 조건 조합에 맞춰 가장 선택도가 높은 인덱스를 고를 수 있다.
+ * (is_active, job_type, created_at) / (is_active, start_date) / (is_active, normalized_hourly_rate) / (is_active, created_at)
+ */
+public final class JobPostingSpecifications {
+
+    private JobPostingSpecifications() {
+    }
+
+    // 활성 구인글 + 작성자(부모) 페치 조인 (count 쿼리에서는 페치 조인 생략)
+    public static Specification<JobPosting> activeWithParent() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("parent", JoinType.INNER);
+            }
+            return cb.isTrue(root.get("isActive"));
+        };
+    }
+
+    public static Specification<JobPosting> jobTypeIn(Collection<JobPosting.JobType> jobTypes) {
+        return (root, query, cb) -> root.get("jobType").in(jobTypes);
+    }
+
+    public static Specification<JobPosting> payTypeIn(Collection<JobPosting.PayType> payTypes) {
+        return (root, query, cb) -> root.get("payType").in(payTypes);
+    }
+
+    public static Specification<JobPosting> startDateFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDate"), from);
+    }
+
+    public static Specification<JobPosting> startDateTo(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startDate"), to);
+    }
+
+    public static Specification<JobPosting> endDateTo(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("endDate"), to);
+    }
+
+    // 요구 경력이 지정되지 않은 구인글은 누구나 지원 가능하므로 포함
+    public static Specification<JobPosting> requiredExperienceAtMost(int years) {
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("requiredExperienceYears")),
+                cb.lessThanOrEqualTo(root.get("requiredExperienceYears"), years));
+    }
+
+    public static Specification<JobPosting> numberOfChildrenAtLeast(int min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("numberOfChildren"), min);
+    }
+
+    public static Specification<JobPosting> numberOfChildrenAtMost(int max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("numberOfChildren"), max);
+    }
+
+    public static Specification<JobPosting> normalizedHourlyRateAtLeast(double min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("normalizedHourlyRate"), min);
+    }
+
+    public static Specification<JobPosting> normalizedHourlyRateAtMost(double max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("normalizedHourlyRate"), max);
+    }
+
+    // 키셋 커서: (created_at, id) 가 커서보다 이전인 행 (최신순)
+    public static Specification<JobPosting> createdBefore(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+}
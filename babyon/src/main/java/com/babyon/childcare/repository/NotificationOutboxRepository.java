@@ -0,0 +1,40 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송 대상 조회 (대기 중이거나 처리 임대가 만료된 건) - 여러 인스턴스가 동시에 가져가지 않도록 SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n FROM NotificationOutbox n " +
+            "WHERE n.status IN :statuses AND n.nextAttemptAt <= :now ORDER BY n.id")
+    List<NotificationOutbox> findDueForUpdate(@Param("statuses") List<NotificationOutbox.Status> statuses,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    // 발송 완료 건 정리
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n WHERE n.status = :status AND n.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") NotificationOutbox.Status status,
+                                         @Param("before") LocalDateTime before);
+
+    // 수신자별 최근 알림 건수 (발송 빈도 제한용) - idx_outbox_recipient_created 사용
+    @Query("SELECT n.recipientId, COUNT(n) FROM NotificationOutbox n " +
+            "WHERE n.recipientId IN :recipientIds AND n.createdAt >= :since AND n.eventType = :eventType " +
+            "GROUP BY n.recipientId")
+    List<Object[]> countByRecipientSince(@Param("recipientIds") Collection<Long> recipientIds,
+                                         @Param("eventType") String eventType,
+                                         @Param("since") LocalDateTime since);
+}
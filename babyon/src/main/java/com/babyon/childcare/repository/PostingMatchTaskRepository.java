@@ -0,0 +1,30 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.PostingMatchTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostingMatchTaskRepository extends JpaRepository<PostingMatchTask, Long> {
+
+    // 일정 시간 이상 처리되지 않은 갱신 대기 구인글 (오래된 순)
+    @Query("SELECT t.jobPostingId FROM PostingMatchTask t WHERE t.requestedAt < :before ORDER BY t.requestedAt")
+    List<Long> findStaleIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 처리 완료 - 처리 도중 다시 변경된 구인글(requestedAt 이 더 최근)의 표식은 남긴다
+    @Modifying
+    @Query("DELETE FROM PostingMatchTask t WHERE t.jobPostingId = :jobPostingId AND t.requestedAt <= :requestedAt")
+    int deleteProcessed(@Param("jobPostingId") Long jobPostingId, @Param("requestedAt") LocalDateTime requestedAt);
+
+    // 표식을 남길 때(처리 도중 다시 변경됨) 이미 기록한 알림이 다시 나가지 않도록 대기 해제
+    @Modifying
+    @Query("UPDATE PostingMatchTask t SET t.alertPending = false WHERE t.jobPostingId = :jobPostingId")
+    int clearAlertPending(@Param("jobPostingId") Long jobPostingId);
+}
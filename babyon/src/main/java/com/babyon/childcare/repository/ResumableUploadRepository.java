@@ -0,0 +1,43 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.ResumableUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumableUploadRepository extends JpaRepository<ResumableUpload, String> {
+
+    Optional<ResumableUpload> findByIdAndSitterId(String id, Long sitterId);
+
+    long countBySitterId(Long sitterId);
+
+    // 오프셋 전진 - 조회 이후 다른 요청이 먼저 기록했다면 0건 (compare-and-set)
+    @Modifying
+    @Query("UPDATE ResumableUpload u SET u.uploadOffset = :newOffset, u.expiresAt = :expiresAt, u.updatedAt = :now " +
+            "WHERE u.id = :id AND u.uploadOffset = :expectedOffset")
+    int advanceOffset(@Param("id") String id,
+                      @Param("expectedOffset") long expectedOffset,
+                      @Param("newOffset") long newOffset,
+                      @Param("expiresAt") LocalDateTime expiresAt,
+                      @Param("now") LocalDateTime now);
+
+    // 만료된 세션 조회 (정리 작업용) - idx_resumable_uploads_expires 사용
+    @Query("SELECT u.id FROM ResumableUpload u WHERE u.expiresAt < :now ORDER BY u.expiresAt")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT u.id FROM ResumableUpload u WHERE u.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("DELETE FROM ResumableUpload u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+}
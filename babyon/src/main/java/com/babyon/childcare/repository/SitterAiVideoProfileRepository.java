@@ -6,8 +6,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,10 +34,15 @@ public interface SitterAiVideoProfileRepository extends JpaRepository<SitterAiVi
     boolean existsBySitterId(Long sitterId);
 
     /**
-     * 조회수 증가
+     * 조회수 일괄 증가 (ViewCountBuffer 가 모아 둔 같은 증가분의 시터들을 한 번에 반영)
      */
     @Modifying
-    @Transactional
-    @Query("UPDATE SitterAiVideoProfile sap SET sap.viewCount = sap.viewCount + 1 WHERE sap.sitterId = :sitterId")
-    void incrementViewCount(@Param("sitterId") Long sitterId);
+    @Query("UPDATE SitterAiVideoProfile sap SET sap.viewCount = COALESCE(sap.viewCount, 0) + :delta WHERE sap.sitterId IN :sitterIds")
+    int addViewCount(@Param("sitterIds") Collection<Long> sitterIds, @Param("delta") int delta);
+
+    /**
+     * 지원자 랭킹용 AI 분석 결과 일괄 조회 (sitterId, status, aiAnalysisResult)
+     */
+    @Query("SELECT sap.sitterId, sap.status, sap.aiAnalysisResult FROM SitterAiVideoProfile sap WHERE sap.sitterId IN :sitterIds")
+    List<Object[]> findAnalysisResultsBySitterIds(@Param("sitterIds") Collection<Long> sitterIds);
 }
@@ -4,6 +4,7 @@ import com.babyon.childcare.entity.SitterAvailableTime;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,4 +15,6 @@ public interface SitterAvailableTimeRepository extends JpaRepository<SitterAvail
     List<SitterAvailableTime> findBySitterIdAndDayOfWeek(Long sitterId, SitterAvailableTime.DayOfWeek dayOfWeek);
 
     void deleteBySitterId(Long sitterId);
+
+    List<SitterAvailableTime> findBySitterIdIn(Collection<Long> sitterIds);
 }
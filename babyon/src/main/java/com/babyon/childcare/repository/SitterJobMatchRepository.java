@@ -0,0 +1,43 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.SitterJobMatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SitterJobMatchRepository extends JpaRepository<SitterJobMatch, Long> {
+
+    // 시터의 추천 구인글 (점수 내림차순, 종료되지 않은 활성 구인글만) - 구인글/작성자 함께 조회
+    // 기간이 지난 구인글은 별도 이벤트 없이 만료되므로 조회 시점 기준으로 거른다
+    @Query("SELECT m FROM SitterJobMatch m JOIN FETCH m.jobPosting jp JOIN FETCH jp.parent " +
+            "WHERE m.sitterId = :sitterId AND jp.isActive = true " +
+            "AND (jp.endDate IS NULL OR jp.endDate >= :now) " +
+            "ORDER BY m.score DESC, jp.id DESC")
+    List<SitterJobMatch> findTopBySitterId(@Param("sitterId") Long sitterId, @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    boolean existsBySitterId(Long sitterId);
+
+    @Modifying
+    @Query("DELETE FROM SitterJobMatch m WHERE m.jobPosting.id = :jobPostingId")
+    int deleteByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    @Modifying
+    @Query("DELETE FROM SitterJobMatch m WHERE m.sitterId = :sitterId")
+    int deleteBySitterId(@Param("sitterId") Long sitterId);
+
+    // 시터별 상위 N건을 벗어난 행 ID (ROW_NUMBER 윈도우 함수)
+    @Query(value = "SELECT t.id FROM (" +
+            "SELECT m.id, ROW_NUMBER() OVER (PARTITION BY m.sitter_id ORDER BY m.score DESC, m.job_posting_id DESC) AS rn " +
+            "FROM sitter_job_matches m WHERE m.sitter_id IN (:sitterIds)) t " +
+            "WHERE t.rn > :topN", nativeQuery = true)
+    List<Number> findIdsBeyondTopN(@Param("sitterIds") Collection<Long> sitterIds, @Param("topN") int topN);
+}
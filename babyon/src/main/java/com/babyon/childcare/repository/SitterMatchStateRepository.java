@@ -0,0 +1,9 @@
+package com.babyon.childcare.repository;
+
+import com.babyon.childcare.entity.SitterMatchState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SitterMatchStateRepository extends JpaRepository<SitterMatchState, Long> {
+}
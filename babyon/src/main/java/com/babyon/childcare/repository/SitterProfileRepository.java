@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -31,4 +33,26 @@ public interface SitterProfileRepository extends JpaRepository<SitterProfile, Lo
     Page<SitterProfile> searchProfiles(@Param("city") String city,
                                        @Param("serviceType") String serviceType,
                                        Pageable pageable);
+
+    // 조건부 조회(ETag)용 버전 정보 조회
+    // 프로필 응답에 포함되는 하위 테이블의 건수/최종 수정 시각만 조회하여 본문 로드 없이 변경 여부를 판단한다.
+    @Query(value = "SELECT sp.updated_at, u.updated_at, " +
+           "(SELECT COUNT(*) FROM sitter_certifications c WHERE c.sitter_id = sp.sitter_id), " +
+           "(SELECT MAX(c.updated_at) FROM sitter_certifications c WHERE c.sitter_id = sp.sitter_id), " +
+           "(SELECT COUNT(*) FROM sitter_experiences e WHERE e.sitter_id = sp.sitter_id), " +
+           "(SELECT MAX(e.updated_at) FROM sitter_experiences e WHERE e.sitter_id = sp.sitter_id), " +
+           "(SELECT COUNT(*) FROM sitter_available_times t WHERE t.sitter_id = sp.sitter_id), " +
+           "(SELECT MAX(t.updated_at) FROM sitter_available_times t WHERE t.sitter_id = sp.sitter_id), " +
+           "(SELECT COUNT(*) FROM sitter_service_areas a WHERE a.sitter_id = sp.sitter_id), " +
+           "(SELECT MAX(a.updated_at) FROM sitter_service_areas a WHERE a.sitter_id = sp.sitter_id), " +
+           "(SELECT MAX(v.updated_at) FROM sitter_video_resumes v WHERE v.sitter_id = sp.sitter_id AND v.is_primary = TRUE) " +
+           "FROM sitter_profiles sp JOIN users u ON u.id = sp.sitter_id " +
+           "WHERE sp.sitter_id = :sitterId", nativeQuery = true)
+    List<Object[]> findVersionStampBySitterId(@Param("sitterId") Long sitterId);
+
+    List<SitterProfile> findBySitterIdIn(Collection<Long> sitterIds);
+
+    // 지원자 랭킹용 평점 일괄 조회 (sitterId, rating, totalReviews)
+    @Query("SELECT sp.sitter.id, sp.rating, sp.totalReviews FROM SitterProfile sp WHERE sp.sitter.id IN :sitterIds")
+    List<Object[]> findRatingsBySitterIds(@Param("sitterIds") Collection<Long> sitterIds);
 }
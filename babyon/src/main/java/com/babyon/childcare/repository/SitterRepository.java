@@ -6,4 +6,7 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SitterRepository extends JpaRepository<Sitter, Long> {
+
+    // 조회자가 해당 시터 본인인지 확인 (본인 조회는 조회수에서 제외)
+    boolean existsByIdAndEmail(Long id, String email);
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.babyon.childcare.repository;
 
 import com.babyon.childcare.entity.SitterServiceArea;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,10 @@ public interface SitterServiceAreaRepository extends JpaRepository<SitterService
     Optional<SitterServiceArea> findBySitterIdAndIsPrimaryTrue(Long sitterId);
 
     void deleteBySitterId(Long sitterId);
+
+    List<SitterServiceArea> findBySitterIdIn(Collection<Long> sitterIds);
+
+    // 시/도 표기 후보로 서비스 지역 시터 ID 조회 (추천/알림 후보) - idx_city_district 사용
+    @Query("SELECT DISTINCT a.sitter.id FROM SitterServiceArea a WHERE a.city IN :cities")
+    List<Long> findSitterIdsByCityIn(@Param("cities") Collection<String> cities);
 }
@@ -2,8 +2,12 @@ package com.babyon.childcare.repository;
 
 import com.babyon.childcare.entity.SitterVideoResume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,13 @@ public interface SitterVideoResumeRepository extends JpaRepository<SitterVideoRe
     Optional<SitterVideoResume> findBySitterIdAndIsPrimaryTrue(Long sitterId);
 
     void deleteBySitterId(Long sitterId);
+
+    // 대표 영상 이력서 ID만 조회 (조회수 집계용, ETag 304 경로에서도 호출)
+    @Query("SELECT v.id FROM SitterVideoResume v WHERE v.sitter.id = :sitterId AND v.isPrimary = true")
+    Optional<Long> findPrimaryIdBySitterId(@Param("sitterId") Long sitterId);
+
+    // 조회수 일괄 증가 (ViewCountBuffer 가 모아 둔 같은 증가분의 영상들을 한 번에 반영)
+    @Modifying
+    @Query("UPDATE SitterVideoResume v SET v.viewCount = COALESCE(v.viewCount, 0) + :delta WHERE v.id IN :ids")
+    int addViewCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -2,8 +2,12 @@ package com.babyon.childcare.repository;
 
 import com.babyon.childcare.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByEmail(String email);
     Optional<User> findByEmailAndProvider(String email, String provider);
 
+    // 알림 수신자 이메일 일괄 조회 (id, email)
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id IN :ids")
+    List<Object[]> findEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
 }
\ No newline at end of file
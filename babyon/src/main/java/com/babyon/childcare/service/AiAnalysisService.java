@@ -2,11 +2,14 @@ package com.babyon.childcare.service;
 
 import com.babyon.childcare.dto.AiAnalysisResult;
 import com.babyon.childcare.entity.SitterAiVideoProfile;
+import com.babyon.childcare.event.AiProfileStatusChangedEvent;
 import com.babyon.childcare.repository.SitterAiVideoProfileRepository;
+import com.babyon.childcare.storage.VideoStorage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,8 +38,9 @@ import java.util.List;
 public class AiAnalysisService {
 
     private final SitterAiVideoProfileRepository aiVideoProfileRepository;
-    private final S3Service s3Service;
+    private final VideoStorage videoStorage;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.ai.analysis.enabled:false}")
     private boolean aiAnalysisEnabled;
@@ -71,6 +75,7 @@ public class AiAnalysisService {
         }
         profile.setStatus(SitterAiVideoProfile.ProfileStatus.ANALYZING);
         aiVideoProfileRepository.save(profile);
+        publishStatusChanged(profile);
 
         try {
             AiAnalysisResult result = aiAnalysisEnabled
@@ -100,7 +105,7 @@ public class AiAnalysisService {
      *   3단계: 분석 결과를 AiAnalysisResult에 매핑하여 반환
      *
      * 연동 예시 (Whisper):
-     *   String presignedUrl = s3Service.generatePresignedUrl(introVideoS3Key);
+     *   String presignedUrl = videoStorage.generatePresignedUrl(introVideoS3Key);
      *   WhisperResponse stt = whisperClient.transcribe(presignedUrl);
      *   GptResponse gpt = gptClient.analyze(stt.getText(), questionText);
      *   return mapToResult(gpt);
@@ -150,6 +155,7 @@ public class AiAnalysisService {
 
             profile.setStatus(nextStatus);
             aiVideoProfileRepository.save(profile);
+            publishStatusChanged(profile);
 
         } catch (Exception e) {
             log.error("[AI Analysis] 결과 저장 실패: sitterId={}", profile.getSitterId(), e);
@@ -169,8 +175,14 @@ public class AiAnalysisService {
             profile.setAiAnalyzedAt(LocalDateTime.now());
             profile.setStatus(SitterAiVideoProfile.ProfileStatus.REVIEWING);
             aiVideoProfileRepository.save(profile);
+            publishStatusChanged(profile);
         } catch (Exception ex) {
             log.error("[AI Analysis] 오류 상태 저장도 실패: sitterId={}", profile.getSitterId(), ex);
         }
     }
+
+    // 상태 변경 이벤트 발행 (커밋 후 SSE 등 구독자에게 전달)
+    private void publishStatusChanged(SitterAiVideoProfile profile) {
+        eventPublisher.publishEvent(new AiProfileStatusChangedEvent(profile.getSitterId(), profile.getStatus().name()));
+    }
 }
@@ -0,0 +1,209 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.dto.AiQuestionResponse;
+import com.babyon.childcare.entity.AiQuestion;
+import com.babyon.childcare.event.AiQuestionUsedEvent;
+import com.babyon.childcare.repository.AiQuestionRepository;
+import com.babyon.childcare.util.DeltaCounters;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 AI 질문 풀 (메모리 가중 샘플링 + 사용 횟수 쓰기 지연)
+ *
+ * 질문 조회마다 활성 질문 전체를 사용 횟수 순으로 읽지 않도록, 활성 질문과 누적 가중치를 메모리 스냅샷으로 들고
+ * ThreadLocalRandom 으로 뽑는다 (누적 가중치 이진 탐색, O(log n)).
+ * 가중치는 가장 적게 쓰인 질문 대비 사용 횟수에 반비례 (1 / (1 + usage - minUsage)) 하므로
+ * 덜 쓰인 질문이 더 자주 선택되어 질문 분배가 균등해진다.
+ *
+ * 사용 횟수는 업로드 트랜잭션이 커밋된 뒤에만(AiQuestionUsedEvent, AFTER_COMMIT) DeltaCounters 에 모았다가
+ * 주기적으로 "usage_count = usage_count + :delta" 로 일괄 반영한다.
+ * 스냅샷은 변경 시점에 갱신한다.
+ * - 이 인스턴스의 사용: 커밋 즉시 스냅샷의 사용 횟수와 가중치를 메모리에서 다시 계산
+ * - 질문 추가/비활성화/수정, 다른 인스턴스의 사용 횟수: 짧은 주기로 요약값(findActiveFingerprint)만 비교해 바뀌었을 때 다시 적재
+ * 활성 질문이 없을 때의 재적재는 empty-reload-interval-ms 마다 한 번으로 제한한다.
+ * 비정상 종료 시 마지막 반영 이후의 사용 횟수는 유실될 수 있다 (질문 분배용 통계값).
+ */
+@Component
+@Slf4j
+public class AiQuestionPool {
+
+    private final AiQuestionRepository aiQuestionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long emptyReloadIntervalMillis;
+    private final DeltaCounters usage = new DeltaCounters();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // 마지막 적재 시 요약값 (변경 감지용)
+    private volatile List<Object> fingerprint;
+    // 활성 질문이 없을 때 다음 재적재 허용 시각
+    private final AtomicLong nextEmptyReloadAt = new AtomicLong();
+
+    public AiQuestionPool(AiQuestionRepository aiQuestionRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${app.ai-question.empty-reload-interval-ms:5000}") long emptyReloadIntervalMillis) {
+        this.aiQuestionRepository = aiQuestionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.emptyReloadIntervalMillis = emptyReloadIntervalMillis;
+    }
+
+    /**
+     * 사용 횟수 가중 랜덤 질문 선택
+     * @return 선택된 질문, 활성 질문이 없으면 빈 값
+     */
+    public Optional<AiQuestionResponse> sample() {
+        Snapshot current = snapshot.get();
+        if (current == null || current.isEmpty()) {
+            // 기동 직후이거나 마지막 갱신 때 활성 질문이 없었던 경우 - 빈 풀 재적재는 주기당 한 스레드만
+            long now = System.currentTimeMillis();
+            long allowedAt = nextEmptyReloadAt.get();
+            if (current == null || (now >= allowedAt
+                    && nextEmptyReloadAt.compareAndSet(allowedAt, now + emptyReloadIntervalMillis))) {
+                current = reload();
+            }
+        }
+        return current.sample();
+    }
+
+    /**
+     * 업로드 커밋 후 질문 사용 기록 (다음 반영 주기에 DB 에 더해지고, 스냅샷 가중치에는 바로 반영된다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQuestionUsed(AiQuestionUsedEvent event) {
+        usage.increment(event.getQuestionId());
+        snapshot.getAndUpdate(current -> current != null ? current.withUsage(event.getQuestionId()) : null);
+    }
+
+    /**
+     * 누적된 사용 횟수 반영 후 스냅샷 갱신
+     */
+    @Scheduled(fixedDelayString = "${app.ai-question.refresh-interval-ms:30000}")
+    public synchronized void flushAndRefresh() {
+        flushUsage();
+        reload();
+    }
+
+    /**
+     * 질문 변경 감지 (요약값이 바뀌었을 때만 전체 목록을 다시 적재)
+     */
+    @Scheduled(fixedDelayString = "${app.ai-question.change-check-interval-ms:5000}")
+    public synchronized void refreshIfChanged() {
+        if (!readFingerprint().equals(fingerprint)) {
+            reload();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flushUsage();
+    }
+
+    private void flushUsage() {
+        Map<Long, Long> deltas = usage.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> DeltaCounters.groupByDelta(deltas)
+                    .forEach((delta, ids) -> aiQuestionRepository.addUsageCount(ids, delta)));
+            log.debug("AI 질문 사용 횟수 반영: questions={}", deltas.size());
+        } catch (Exception e) {
+            usage.restore(deltas);
+            log.warn("AI 질문 사용 횟수 반영 실패 (다음 주기에 재시도): questions={}, error={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private Snapshot reload() {
+        // 요약값을 먼저 읽어, 적재 도중 바뀐 내용은 다음 변경 감지에서 다시 적재되게 한다
+        List<Object> loadedFingerprint = readFingerprint();
+        Snapshot loaded = Snapshot.of(aiQuestionRepository.findByIsActiveTrue());
+        snapshot.set(loaded);
+        fingerprint = loadedFingerprint;
+        return loaded;
+    }
+
+    private List<Object> readFingerprint() {
+        List<Object[]> rows = aiQuestionRepository.findActiveFingerprint();
+        return rows.isEmpty() ? List.of() : Arrays.asList(rows.get(0));
+    }
+
+    /**
+     * 활성 질문과 누적 가중치 (불변)
+     */
+    private static final class Snapshot {
+
+        private final AiQuestionResponse[] questions;
+        private final long[] usages;
+        private final double[] cumulativeWeights;
+
+        private Snapshot(AiQuestionResponse[] questions, long[] usages) {
+            this.questions = questions;
+            this.usages = usages;
+            this.cumulativeWeights = cumulativeWeights(usages);
+        }
+
+        private static Snapshot of(List<AiQuestion> activeQuestions) {
+            AiQuestionResponse[] questions = new AiQuestionResponse[activeQuestions.size()];
+            long[] usages = new long[activeQuestions.size()];
+            for (int i = 0; i < questions.length; i++) {
+                AiQuestion question = activeQuestions.get(i);
+                questions[i] = AiQuestionResponse.fromEntity(question);
+                usages[i] = question.getUsageCount() != null ? question.getUsageCount() : 0;
+            }
+            return new Snapshot(questions, usages);
+        }
+
+        private static double[] cumulativeWeights(long[] usages) {
+            long minUsage = Arrays.stream(usages).min().orElse(0);
+            double[] cumulativeWeights = new double[usages.length];
+            double total = 0;
+            for (int i = 0; i < usages.length; i++) {
+                total += 1.0 / (1 + usages[i] - minUsage);
+                cumulativeWeights[i] = total;
+            }
+            return cumulativeWeights;
+        }
+
+        // 질문 하나의 사용 횟수를 더한 새 스냅샷 (풀에 없는 질문이면 그대로)
+        private Snapshot withUsage(Long questionId) {
+            for (int i = 0; i < questions.length; i++) {
+                if (questions[i].getQuestionId().equals(questionId)) {
+                    long[] next = usages.clone();
+                    next[i]++;
+                    return new Snapshot(questions, next);
+                }
+            }
+            return this;
+        }
+
+        private boolean isEmpty() {
+            return questions.length == 0;
+        }
+
+        private Optional<AiQuestionResponse> sample() {
+            if (isEmpty()) {
+                return Optional.empty();
+            }
+            double total = cumulativeWeights[cumulativeWeights.length - 1];
+            double target = ThreadLocalRandom.current().nextDouble(total);
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            // 정확히 일치하면 다음 구간, 아니면 삽입 위치가 해당 구간
+            index = index >= 0 ? index + 1 : -index - 1;
+            return Optional.of(questions[Math.min(index, questions.length - 1)]);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.dto.AiAnalysisResult;
+import com.babyon.childcare.dto.ApplicantRankingResponse;
+import com.babyon.childcare.dto.JobApplicationResponse;
+import com.babyon.childcare.dto.RankedApplicantResponse;
+import com.babyon.childcare.entity.*;
+import com.babyon.childcare.event.AiProfileStatusChangedEvent;
+import com.babyon.childcare.event.JobApplicationChangedEvent;
+import com.babyon.childcare.repository.JobApplicationRepository;
+import com.babyon.childcare.repository.JobPostingRepository;
+import com.babyon.childcare.repository.SitterAiVideoProfileRepository;
+import com.babyon.childcare.repository.SitterProfileRepository;
+import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.util.PayRateNormalizer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 구인글 지원자 랭킹 서비스
+ *
+ * 지원자 수와 무관하게 고정된 쿼리 수로 특징값을 일괄 적재한 뒤 메모리에서 점수를 계산한다.
+ * 1) 지원서 + 시터 (EntityGraph), 2) 시터 평점 IN 조회, 3) AI 분석 결과 IN 조회
+ *
+ * 계산 결과는 구인글별로 캐시하며, 지원서 변경 커밋 시 해당 구인글 항목을 무효화한다.
+ * 구인글 수정(급여/요구 경력)은 엔티티 버전 비교로, 평점 변경 등 이벤트가 없는 변경은 TTL 로 반영한다.
+ */
+@Service
+@Slf4j
+public class ApplicantRankingService {
+
+    // 항목별 가중치 (합계 1.0)
+    private static final double WEIGHT_RATING = 0.30;
+    private static final double WEIGHT_AI = 0.25;
+    private static final double WEIGHT_EXPERIENCE = 0.20;
+    private static final double WEIGHT_PAY = 0.15;
+    private static final double WEIGHT_VERIFICATION = 0.10;
+
+    // 평점 베이지안 보정: 리뷰가 적은 시터는 사전 평점(3.0) 쪽으로 당겨진다
+    private static final double PRIOR_RATING = 3.0;
+    private static final double PRIOR_REVIEWS = 5.0;
+    private static final double MAX_RATING = 5.0;
+
+    // 요구 경력이 없는 구인글에서 만점으로 보는 경력 연수
+    private static final double EXPERIENCE_SATURATION_YEARS = 5.0;
+
+    // 제안 시급이 구인글 시급을 초과한 비율당 감점 배수 (50% 초과 시 0점)
+    private static final double PAY_OVERRUN_PENALTY = 2.0;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final UserRepository userRepository;
+    private final SitterProfileRepository sitterProfileRepository;
+    private final SitterAiVideoProfileRepository sitterAiVideoProfileRepository;
+    private final ObjectMapper objectMapper;
+    private final PayRateNormalizer payRateNormalizer;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Map<Long, CachedRanking> entries = new ConcurrentHashMap<>();
+    // 무효화 시점 기록 (계산 도중 무효화된 결과가 캐시에 저장되지 않도록 계산 시작 세대와 비교)
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long allInvalidatedAt = 0L;
+
+    public ApplicantRankingService(JobApplicationRepository jobApplicationRepository,
+                                   JobPostingRepository jobPostingRepository,
+                                   UserRepository userRepository,
+                                   SitterProfileRepository sitterProfileRepository,
+                                   SitterAiVideoProfileRepository sitterAiVideoProfileRepository,
+                                   ObjectMapper objectMapper,
+                                   PayRateNormalizer payRateNormalizer,
+                                   @Value("${app.ranking.cache-max-entries:1000}") int maxEntries,
+                                   @Value("${app.ranking.cache-ttl-seconds:300}") long ttlSeconds) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.jobPostingRepository = jobPostingRepository;
+        this.userRepository = userRepository;
+        this.sitterProfileRepository = sitterProfileRepository;
+        this.sitterAiVideoProfileRepository = sitterAiVideoProfileRepository;
+        this.objectMapper = objectMapper;
+        this.payRateNormalizer = payRateNormalizer;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    /**
+     * 구인글 지원자 랭킹 조회 (철회된 지원서 제외)
+     * @param email 요청자 이메일 (구인글 작성 부모 또는 관리자)
+     * @param jobPostingId 구인글 ID
+     * @return 점수 내림차순 지원자 목록
+     */
+    @Transactional(readOnly = true)
+    public ApplicantRankingResponse getRankedApplicants(String email, Long jobPostingId) {
+        // 세대는 트랜잭션의 첫 조회 전에 읽는다 - MySQL REPEATABLE READ 스냅샷은 첫 조회 시점에 고정되므로,
+        // 이후에 읽으면 그 사이 커밋된 지원이 빠진 결과를 유효한 캐시로 저장할 수 있다
+        long stamp = generation.get();
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 구인글을 찾을 수 없습니다: " + jobPostingId));
+
+        if (user instanceof Parent) {
+            if (!jobPosting.getParent().getId().equals(user.getId())) {
+                throw new AccessDeniedException("해당 구인글의 지원서를 조회할 권한이 없습니다.");
+            }
+        } else if (!(user instanceof Admin)) {
+            throw new AccessDeniedException("부모 또는 관리자 회원만 지원서를 조회할 수 있습니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        CachedRanking cached = entries.get(jobPostingId);
+        if (cached != null && isValid(cached, jobPostingId, jobPosting.getVersion(), now)) {
+            return cached.response;
+        }
+
+        ApplicantRankingResponse response = rank(jobPosting);
+        store(jobPostingId, new CachedRanking(response, jobPosting.getVersion(), stamp, now));
+        return response;
+    }
+
+    // 지원/철회/상태 변경 커밋 후 해당 구인글 랭킹 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobApplicationChanged(JobApplicationChangedEvent event) {
+        if (event.getJobPostingId() == null) {
+            return;
+        }
+        invalidatedAt.put(event.getJobPostingId(), generation.incrementAndGet());
+        entries.remove(event.getJobPostingId());
+        if (invalidatedAt.size() > maxEntries) {
+            invalidateAll();
+        }
+    }
+
+    // AI 분석 결과 변경은 시터가 지원한 모든 구인글에 영향을 주므로 전체 무효화 (드물게 발생)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAiProfileStatusChanged(AiProfileStatusChangedEvent event) {
+        invalidateAll();
+    }
+
+    private ApplicantRankingResponse rank(JobPosting jobPosting) {
+        List<JobApplication> applications = jobApplicationRepository.findByJobPostingId(jobPosting.getId()).stream()
+                .filter(application -> application.getStatus() != JobApplication.ApplicationStatus.WITHDRAWN)
+                .collect(Collectors.toList());
+
+        Double postingHourlyRate = jobPosting.getNormalizedHourlyRate() != null
+                ? jobPosting.getNormalizedHourlyRate()
+                : payRateNormalizer.toHourly(jobPosting.getHourlyRate(), jobPosting.getPayType());
+        if (applications.isEmpty()) {
+            return ApplicantRankingResponse.builder()
+                    .jobPostingId(jobPosting.getId())
+                    .postingHourlyRate(postingHourlyRate)
+                    .applicantCount(0)
+                    .computedAt(LocalDateTime.now())
+                    .applicants(List.of())
+                    .build();
+        }
+
+        Set<Long> sitterIds = applications.stream()
+                .map(application -> application.getSitter().getId())
+                .collect(Collectors.toSet());
+
+        // 시터 평점 일괄 조회
+        Map<Long, Object[]> ratings = new HashMap<>();
+        for (Object[] row : sitterProfileRepository.findRatingsBySitterIds(sitterIds)) {
+            ratings.put((Long) row[0], row);
+        }
+
+        // AI 분석 결과 일괄 조회 (활성/검토 중 프로필만 반영)
+        Map<Long, Double> aiScores = new HashMap<>();
+        for (Object[] row : sitterAiVideoProfileRepository.findAnalysisResultsBySitterIds(sitterIds)) {
+            SitterAiVideoProfile.ProfileStatus status = (SitterAiVideoProfile.ProfileStatus) row[1];
+            if (status != SitterAiVideoProfile.ProfileStatus.ACTIVE
+                    && status != SitterAiVideoProfile.ProfileStatus.REVIEWING) {
+                continue;
+            }
+            Double overallScore = parseOverallScore((Long) row[0], (String) row[2]);
+            if (overallScore != null) {
+                aiScores.put((Long) row[0], overallScore);
+            }
+        }
+
+        List<RankedApplicantResponse> ranked = new ArrayList<>(applications.size());
+        Map<Long, LocalDateTime> appliedAt = new HashMap<>();
+        for (JobApplication application : applications) {
+            appliedAt.put(application.getId(), application.getCreatedAt());
+            ranked.add(score(application, jobPosting, postingHourlyRate,
+                    ratings.get(application.getSitter().getId()), aiScores.get(application.getSitter().getId())));
+        }
+
+        // 총점 내림차순, 동점이면 먼저 지원한 순
+        ranked.sort(Comparator.comparingDouble(RankedApplicantResponse::getScore).reversed()
+                .thenComparing(r -> appliedAt.get(r.getApplication().getId()),
+                        Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(r -> r.getApplication().getId()));
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+
+        return ApplicantRankingResponse.builder()
+                .jobPostingId(jobPosting.getId())
+                .postingHourlyRate(postingHourlyRate)
+                .applicantCount(ranked.size())
+                .computedAt(LocalDateTime.now())
+                .applicants(Collections.unmodifiableList(ranked))
+                .build();
+    }
+
+    private RankedApplicantResponse score(JobApplication application, JobPosting jobPosting,
+                                          Double postingHourlyRate, Object[] ratingRow, Double aiOverallScore) {
+        Sitter sitter = application.getSitter();
+
+        // 평점 (리뷰 수 기반 베이지안 평균)
+        Double rating = ratingRow != null && ratingRow[1] != null ? ((BigDecimal) ratingRow[1]).doubleValue() : null;
+        Integer totalReviews = ratingRow != null && ratingRow[2] != null ? (Integer) ratingRow[2] : 0;
+        double reviews = rating != null ? totalReviews : 0;
+        double adjustedRating = ((rating != null ? rating : 0.0) * reviews + PRIOR_RATING * PRIOR_REVIEWS)
+                / (reviews + PRIOR_REVIEWS);
+        double ratingScore = clamp(adjustedRating / MAX_RATING);
+
+        // 인증
+        boolean verified = Boolean.TRUE.equals(sitter.getIsVerified());
+        double verificationScore = verified ? 1.0 : 0.0;
+
+        // 경력 (요구 경력 대비 충족률)
+        int years = sitter.getExperienceYears() != null ? sitter.getExperienceYears() : 0;
+        Integer required = jobPosting.getRequiredExperienceYears();
+        double experienceScore = (required == null || required <= 0)
+                ? clamp(years / EXPERIENCE_SATURATION_YEARS)
+                : clamp((double) years / required);
+
+        // 급여 적합도 (제안 시급이 구인글 시급 이하이면 만점, 초과분에 비례해 감점)
+        Double proposed = application.getProposedHourlyRate() != null
+                ? application.getProposedHourlyRate() : sitter.getHourlyRate();
+        double payScore = 1.0;
+        if (proposed != null && postingHourlyRate != null && postingHourlyRate > 0 && proposed > postingHourlyRate) {
+            payScore = clamp(1.0 - (proposed / postingHourlyRate - 1.0) * PAY_OVERRUN_PENALTY);
+        }
+
+        // AI 분석 (결과 없으면 0점)
+        double aiScore = aiOverallScore != null ? clamp(aiOverallScore) : 0.0;
+
+        double total = WEIGHT_RATING * ratingScore
+                + WEIGHT_VERIFICATION * verificationScore
+                + WEIGHT_EXPERIENCE * experienceScore
+                + WEIGHT_PAY * payScore
+                + WEIGHT_AI * aiScore;
+
+        return RankedApplicantResponse.builder()
+                .score(Math.round(total * 1000.0) / 10.0)
+                .application(JobApplicationResponse.from(application))
+                .sitterRating(rating)
+                .totalReviews(totalReviews)
+                .verified(verified)
+                .experienceYears(sitter.getExperienceYears())
+                .proposedHourlyRate(proposed)
+                .aiOverallScore(aiOverallScore)
+                .ratingScore(round(ratingScore))
+                .verificationScore(verificationScore)
+                .experienceScore(round(experienceScore))
+                .payScore(round(payScore))
+                .aiScore(round(aiScore))
+                .build();
+    }
+
+    private Double parseOverallScore(Long sitterId, String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, AiAnalysisResult.class).getOverallScore();
+        } catch (JsonProcessingException e) {
+            log.warn("AI 분석 결과 파싱 실패 - sitterId: {}", sitterId, e);
+            return null;
+        }
+    }
+
+    private boolean isValid(CachedRanking cached, Long jobPostingId, Long postingVersion, long now) {
+        return now - cached.createdAtMillis < ttlMillis
+                && Objects.equals(cached.postingVersion, postingVersion)
+                && cached.stamp >= allInvalidatedAt
+                && cached.stamp >= invalidatedAt.getOrDefault(jobPostingId, 0L);
+    }
+
+    private void store(Long jobPostingId, CachedRanking ranking) {
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> now - entry.createdAtMillis >= ttlMillis);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        // 계산 도중 무효화되었으면 저장하지 않음
+        if (ranking.stamp >= allInvalidatedAt
+                && ranking.stamp >= invalidatedAt.getOrDefault(jobPostingId, 0L)) {
+            entries.put(jobPostingId, ranking);
+        }
+    }
+
+    private void invalidateAll() {
+        allInvalidatedAt = generation.incrementAndGet();
+        entries.clear();
+        invalidatedAt.clear();
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private static final class CachedRanking {
+        private final ApplicantRankingResponse response;
+        private final Long postingVersion;
+        private final long stamp;
+        private final long createdAtMillis;
+
+        private CachedRanking(ApplicantRankingResponse response, Long postingVersion, long stamp, long createdAtMillis) {
+            this.response = response;
+            this.postingVersion = postingVersion;
+            this.stamp = stamp;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
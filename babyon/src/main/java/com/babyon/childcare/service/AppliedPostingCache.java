@@ -0,0 +1,171 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.event.JobApplicationChangedEvent;
+import com.babyon.childcare.repository.JobApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시터별 "지원한 구인글 ID" 캐시 (선택 기능, app.applied-cache.enabled=true 일 때만 사용)
+ *
+ * 시터마다 정렬된 long[] 하나만 보관하여 피드 렌더링 시 포함 여부를 이진 탐색으로 판단한다.
+ * 배열은 교체 방식(copy-on-write)으로 갱신하므로 읽기는 잠금 없이 배열을 그대로 사용한다.
+ * 지원 커밋 시 해당 ID를 추가하고, 철회 커밋 시에는 항목을 무효화하여 다음 조회에서 DB 기준으로 다시 적재한다.
+ * (철회된 지원서도 uk_job_sitter 로 재지원을 막으므로 DB 조회 결과와 동일하게 유지된다)
+ *
+ * 적재 도중 지원/철회가 커밋되면 조회 결과가 이미 낡았을 수 있으므로, 적재 시작 세대와 시터별 변경 세대를 비교하여
+ * 그 사이 변경이 있었으면 결과를 저장하지 않는다 (ApplicantRankingService 와 같은 방식).
+ * 적재 조회는 세대를 읽은 뒤 시작하는 별도 읽기 트랜잭션에서 실행한다. 호출자 트랜잭션이 이미 읽은 스냅샷
+ * (MySQL REPEATABLE READ) 으로 조회하면 세대를 읽기 전에 커밋된 지원이 빠진 결과를 유효한 것으로 저장하게 된다.
+ */
+@Component
+@Slf4j
+public class AppliedPostingCache {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final TransactionTemplate loadTransaction;
+    private final boolean enabled;
+    private final int maxSitters;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    // 시터별 마지막 변경 세대 (적재 도중 변경된 결과가 캐시에 저장되지 않도록 적재 시작 세대와 비교)
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long allChangedAt = 0L;
+
+    public AppliedPostingCache(JobApplicationRepository jobApplicationRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.applied-cache.enabled:false}") boolean enabled,
+                               @Value("${app.applied-cache.max-sitters:10000}") int maxSitters,
+                               @Value("${app.applied-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxSitters = maxSitters;
+        this.ttlMillis = ttlSeconds * 1000L;
+        // 접근 순서 LRU - 최대 시터 수를 넘으면 가장 오래 사용하지 않은 항목 제거
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSitters;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주어진 구인글 ID 중 시터가 지원한 ID만 반환 (요청 순서 유지)
+     */
+    public List<Long> filterApplied(Long sitterId, Collection<Long> jobPostingIds) {
+        long[] applied = getAppliedIds(sitterId);
+        List<Long> result = new ArrayList<>();
+        for (Long jobPostingId : jobPostingIds) {
+            if (Arrays.binarySearch(applied, jobPostingId) >= 0) {
+                result.add(jobPostingId);
+            }
+        }
+        return result;
+    }
+
+    private long[] getAppliedIds(Long sitterId) {
+        Entry entry = entries.get(sitterId);
+        long now = System.currentTimeMillis();
+        if (entry != null && now - entry.loadedAt < ttlMillis) {
+            return entry.ids;
+        }
+
+        // 세대를 먼저 읽고, 스냅샷은 그 뒤에 시작하는 새 트랜잭션에서 만든다
+        long stamp = generation.get();
+        long[] ids = loadTransaction.execute(status -> jobApplicationRepository.findJobPostingIdsBySitterId(sitterId)
+                .stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray());
+        synchronized (entries) {
+            // 적재 도중 변경이 커밋되었으면 저장하지 않음 (이번 응답에는 사용, 다음 조회에서 다시 적재)
+            if (stamp >= allChangedAt && stamp >= changedAt.getOrDefault(sitterId, 0L)) {
+                entries.put(sitterId, new Entry(ids, now));
+            }
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobApplicationChanged(JobApplicationChangedEvent event) {
+        if (!enabled || event.getSitterId() == null) {
+            return;
+        }
+
+        switch (event.getType()) {
+            case APPLIED -> {
+                synchronized (entries) {
+                    markChanged(event.getSitterId());
+                    entries.computeIfPresent(event.getSitterId(),
+                            (sitterId, entry) -> entry.with(event.getJobPostingId()));
+                }
+            }
+            case WITHDRAWN -> {
+                synchronized (entries) {
+                    markChanged(event.getSitterId());
+                    entries.remove(event.getSitterId());
+                }
+            }
+            default -> {
+                // 상태 변경은 지원 여부에 영향 없음
+            }
+        }
+    }
+
+    // entries 잠금 안에서 호출 (적재 결과 저장 여부 판단과 순서를 맞춘다)
+    private void markChanged(Long sitterId) {
+        long stamp = generation.incrementAndGet();
+        if (changedAt.size() >= maxSitters) {
+            // 변경 기록이 너무 많으면 진행 중인 적재 결과를 모두 버리는 것으로 대신한다
+            changedAt.clear();
+            allChangedAt = stamp;
+        } else {
+            changedAt.put(sitterId, stamp);
+        }
+    }
+
+    // 정렬된 지원 구인글 ID 배열과 적재 시각
+    private static final class Entry {
+
+        private final long[] ids;
+        private final long loadedAt;
+
+        private Entry(long[] ids, long loadedAt) {
+            this.ids = ids;
+            this.loadedAt = loadedAt;
+        }
+
+        // 정렬 순서를 유지하며 ID를 추가한 새 항목
+        private Entry with(long jobPostingId) {
+            int index = Arrays.binarySearch(ids, jobPostingId);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            long[] next = new long[ids.length + 1];
+            System.arraycopy(ids, 0, next, 0, insertAt);
+            next[insertAt] = jobPostingId;
+            System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+            return new Entry(next, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.entity.Admin;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.entity.User;
+import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.util.ExportRowWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구인글/지원서 이력 내보내기 서비스
+ *
+ * JPA 엔티티/DTO 목록을 만들지 않고 forward-only JDBC 커서로 한 행씩 읽어
+ * 응답 출력 스트림에 바로 기록한다. 행 수와 무관하게 메모리 사용량이 일정하다.
+ *
+ * MySQL은 fetchSize=Integer.MIN_VALUE 일 때만 행 단위 스트리밍을 하므로
+ * DB 종류에 따라 fetch size를 결정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final List<String> APPLICATION_COLUMNS = List.of(
+            "id", "jobPostingId", "jobTitle", "sitterId", "sitterEmail", "coverLetter",
+            "proposedHourlyRate", "status", "createdAt", "updatedAt");
+
+    private static final String APPLICATION_SQL =
+            "SELECT ja.id, ja.job_posting_id, jp.title, ja.sitter_id, u.email, ja.cover_letter, " +
+            "ja.proposed_hourly_rate, ja.status, ja.created_at, ja.updated_at " +
+            "FROM job_applications ja " +
+            "JOIN job_postings jp ON jp.id = ja.job_posting_id " +
+            "JOIN users u ON u.id = ja.sitter_id ";
+
+    private static final List<String> POSTING_COLUMNS = List.of(
+            "id", "parentId", "title", "location", "startDate", "endDate", "hourlyRate", "payType",
+            "jobType", "requiredExperienceYears", "numberOfChildren", "isActive", "applicationCount",
+            "createdAt", "updatedAt");
+
+    private static final String POSTING_SQL =
+            "SELECT jp.id, jp.parent_id, jp.title, jp.location, jp.start_date, jp.end_date, jp.hourly_rate, " +
+            "jp.pay_type, jp.job_type, jp.required_experience_years, jp.number_of_children, jp.is_active, " +
+            "(SELECT COUNT(*) FROM job_applications ja WHERE ja.job_posting_id = jp.id), " +
+            "jp.created_at, jp.updated_at " +
+            "FROM job_postings jp ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * 내보내기 범위 확인
+     * @return 부모 ID (부모 회원) 또는 null (관리자: 전체)
+     */
+    public Long resolveExportParentId(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        if (user instanceof Admin) {
+            return null;
+        }
+        if (user instanceof Parent) {
+            return user.getId();
+        }
+        throw new AccessDeniedException("부모 또는 관리자 회원만 내보내기를 할 수 있습니다.");
+    }
+
+    /**
+     * 지원서 이력 내보내기
+     * @param parentId 부모 ID (null이면 전체)
+     * @param jobPostingId 특정 구인글로 제한 (선택)
+     */
+    public void exportApplications(Long parentId, Long jobPostingId, ExportRowWriter.Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(APPLICATION_SQL).append("WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (parentId != null) {
+            sql.append(" AND jp.parent_id = ?");
+            args.add(parentId);
+        }
+        if (jobPostingId != null) {
+            sql.append(" AND ja.job_posting_id = ?");
+            args.add(jobPostingId);
+        }
+        sql.append(" ORDER BY ja.id");
+
+        long rows = stream(sql.toString(), args, APPLICATION_COLUMNS, format, out);
+        log.info("지원서 내보내기 완료: parentId={}, jobPostingId={}, format={}, rows={}",
+                parentId, jobPostingId, format, rows);
+    }
+
+    /**
+     * 구인글 이력 내보내기
+     * @param parentId 부모 ID (null이면 전체)
+     */
+    public void exportJobPostings(Long parentId, ExportRowWriter.Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder(POSTING_SQL);
+        List<Object> args = new ArrayList<>();
+        if (parentId != null) {
+            sql.append("WHERE jp.parent_id = ? ");
+            args.add(parentId);
+        }
+        sql.append("ORDER BY jp.id");
+
+        long rows = stream(sql.toString(), args, POSTING_COLUMNS, format, out);
+        log.info("구인글 내보내기 완료: parentId={}, format={}, rows={}", parentId, format, rows);
+    }
+
+    // forward-only 커서로 조회하며 한 행씩 writer에 기록
+    private long stream(String sql, List<Object> args, List<String> columns,
+                        ExportRowWriter.Format format, OutputStream out) {
+        try (ExportRowWriter writer = ExportRowWriter.create(format, out, columns, objectMapper.getFactory())) {
+            Object[] row = new Object[columns.size()];
+            long[] count = {0};
+
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(isMySql(con.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, rs -> {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getObject(i + 1);
+                }
+                try {
+                    writer.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+
+            return count[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isMySql(String databaseProductName) {
+        return databaseProductName != null && databaseProductName.toLowerCase().contains("mysql");
+    }
+}
@@ -0,0 +1,177 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.entity.IdempotencyRecord;
+import com.babyon.childcare.exception.BusinessException;
+import com.babyon.childcare.repository.IdempotencyRecordRepository;
+import com.babyon.childcare.util.ConstraintViolationUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 서비스
+ *
+ * 키 기록 INSERT 와 실제 작업, 응답 저장을 한 트랜잭션으로 묶는다.
+ * 같은 키의 동시 요청은 uk_idempotency_key 에서 대기하다가 먼저 커밋된 결과를 그대로 돌려받고,
+ * 작업이 실패하면 키 기록도 롤백되므로 재시도 시 다시 실행된다.
+ * 만료된 기록은 같은 키로 다시 요청될 때 지우는 것 외에, 주기 작업이 배치 단위로 정리한다.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlHours;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.ttl-hours:24}") long ttlHours) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlHours = ttlHours;
+    }
+
+    /**
+     * 키가 없으면 action 을 그대로 실행하고, 키가 있으면 최초 1회만 실행한 뒤 같은 결과를 반환
+     * @param principal 요청자 (이메일)
+     * @param scope 작업 구분
+     * @param key Idempotency-Key 헤더 값 (null 가능)
+     * @param request 요청 본문 (같은 키로 다른 요청을 보냈는지 확인용)
+     * @param responseType 응답 타입
+     * @param action 실제 작업
+     */
+    public <T> T execute(String principal, String scope, String key, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("INVALID_IDEMPOTENCY_KEY",
+                    HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하이어야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        Optional<T> replay = findCompleted(principal, scope, key, requestHash, responseType);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                IdempotencyRecord record = idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .principal(principal)
+                        .scope(scope)
+                        .idempotencyKey(key)
+                        .requestHash(requestHash)
+                        .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                        .build());
+
+                T result = action.get();
+                record.setResponseBody(toJson(result));
+                return result;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolationUtils.isViolationOf(e, "uk_idempotency_key")) {
+                throw e;
+            }
+            // 같은 키의 동시 요청 - 먼저 커밋된 결과를 반환
+            log.info("동일 Idempotency-Key 동시 요청, 기존 결과 반환: scope={}, principal={}", scope, principal);
+            return findCompleted(principal, scope, key, requestHash, responseType)
+                    .orElseThrow(() -> new BusinessException("IDEMPOTENCY_IN_PROGRESS",
+                            "같은 " + HEADER + " 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    /**
+     * 만료된 기록 정리
+     * 한 번에 지우면 긴 트랜잭션이 삽입과 잠금을 다투므로 idx_expires_at 순으로 배치마다 나누어 삭제한다.
+     */
+    @Scheduled(cron = "${app.idempotency.cleanup-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        List<Long> expired;
+        do {
+            expired = idempotencyRecordRepository.findExpiredIds(now, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (expired.isEmpty()) {
+                break;
+            }
+            List<Long> batch = expired;
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteByIdIn(batch));
+            purged += batch.size();
+        } while (expired.size() == CLEANUP_BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("만료된 Idempotency-Key 기록 정리: {}건", purged);
+        }
+    }
+
+    // 커밋된 기록이 있으면 저장된 응답 반환 (만료 기록은 삭제)
+    private <T> Optional<T> findCompleted(String principal, String scope, String key, String requestHash,
+                                          Class<T> responseType) {
+        Optional<IdempotencyRecord> found =
+                idempotencyRecordRepository.findByPrincipalAndScopeAndIdempotencyKey(principal, scope, key);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IdempotencyRecord record = found.get();
+        if (record.isExpired()) {
+            idempotencyRecordRepository.delete(record);
+            return Optional.empty();
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new BusinessException("IDEMPOTENCY_KEY_REUSED",
+                    "같은 " + HEADER + " 로 다른 요청을 보낼 수 없습니다.");
+        }
+        if (record.getResponseBody() == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(record.getResponseBody(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다: " + record.getId(), e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,35 +1,63 @@
 package com.babyon.childcare.service;
 
+import com.babyon.childcare.dto.ApplicationDecisionRequest;
+import com.babyon.childcare.dto.ApplicationDecisionResponse;
+import com.babyon.childcare.dto.JobApplicationListResponse;
 import com.babyon.childcare.dto.JobApplicationRequest;
 import com.babyon.childcare.dto.JobApplicationResponse;
 import com.babyon.childcare.entity.*;
+import com.babyon.childcare.event.JobApplicationChangedEvent;
+import com.babyon.childcare.event.JobPostingChangedEvent;
 import com.babyon.childcare.exception.DuplicateApplicationException;
 import com.babyon.childcare.repository.JobApplicationRepository;
 import com.babyon.childcare.repository.JobPostingRepository;
 import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.util.ConstraintViolationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class JobApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHECK_IDS = 200;
+
     private final JobApplicationRepository jobApplicationRepository;
     private final JobPostingRepository jobPostingRepository;
     private final UserRepository userRepository;
+    private final AppliedPostingCache appliedPostingCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Autowired
     public JobApplicationService(JobApplicationRepository jobApplicationRepository,
                                  JobPostingRepository jobPostingRepository,
-                                 UserRepository userRepository) {
+                                 UserRepository userRepository,
+                                 AppliedPostingCache appliedPostingCache,
+                                 ApplicationEventPublisher eventPublisher,
+                                 NotificationOutboxService notificationOutboxService) {
         this.jobApplicationRepository = jobApplicationRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.userRepository = userRepository;
+        this.appliedPostingCache = appliedPostingCache;
+        this.eventPublisher = eventPublisher;
+        this.notificationOutboxService = notificationOutboxService;
     }
 
     // 지원서 제출
@@ -46,20 +74,17 @@ public class JobApplicationService {
 
         Sitter sitter = (Sitter) user;
 
-        // 구인글 조회
-        JobPosting jobPosting = jobPostingRepository.findById(request.getJobPostingId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 구인글을 찾을 수 없습니다: " + request.getJobPostingId()));
+        // 구인글 조회 (알림 수신자인 부모 함께 조회)
+        JobPosting jobPosting = jobPostingRepository.findByIdWithParent(request.getJobPostingId());
+        if (jobPosting == null) {
+            throw new IllegalArgumentException("해당 ID의 구인글을 찾을 수 없습니다: " + request.getJobPostingId());
+        }
 
         // 구인글 활성화 상태 확인
         if (!jobPosting.getIsActive()) {
             throw new IllegalArgumentException("비활성화된 구인글에는 지원할 수 없습니다.");
         }
 
-        // 이미 지원했는지 확인
-        if (jobApplicationRepository.existsByJobPostingIdAndSitterId(jobPosting.getId(), sitter.getId())) {
-            throw new DuplicateApplicationException(jobPosting.getId());
-        }
-
         // 지원서 생성
         JobApplication jobApplication = new JobApplication();
         jobApplication.setJobPosting(jobPosting);
@@ -68,8 +93,24 @@ public class JobApplicationService {
         jobApplication.setProposedHourlyRate(request.getProposedHourlyRate());
         jobApplication.setStatus(JobApplication.ApplicationStatus.PENDING);
 
-        // 저장
-        JobApplication savedJobApplication = jobApplicationRepository.save(jobApplication);
+        // 저장 (중복 여부는 사전 조회 없이 uk_job_sitter 유니크 키로 판단)
+        JobApplication savedJobApplication;
+        try {
+            savedJobApplication = jobApplicationRepository.saveAndFlush(jobApplication);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolationUtils.isViolationOf(e, "uk_job_sitter")) {
+                throw new DuplicateApplicationException(jobPosting.getId());
+            }
+            throw e;
+        }
+        publishChanged(JobApplicationChangedEvent.Type.APPLIED, savedJobApplication);
+
+        // 부모에게 새 지원 알림 (같은 트랜잭션의 아웃박스에 기록)
+        Parent parent = jobPosting.getParent();
+        notificationOutboxService.enqueue(parent.getId(), parent.getEmail(),
+                NotificationOutboxService.APPLICATION_SUBMITTED,
+                "[BabyOn] '" + jobPosting.getTitle() + "' 구인글에 새 지원자가 있습니다",
+                sitter.getEmail() + " 님이 지원했습니다.");
 
         // 응답 생성
         return convertToJobApplicationResponse(savedJobApplication);
@@ -99,6 +140,14 @@ public class JobApplicationService {
         // 지원서 상태 변경
         jobApplication.setStatus(JobApplication.ApplicationStatus.WITHDRAWN);
         jobApplicationRepository.save(jobApplication);
+        publishChanged(JobApplicationChangedEvent.Type.WITHDRAWN, jobApplication);
+
+        // 부모에게 지원 철회 알림
+        JobPosting jobPosting = jobApplication.getJobPosting();
+        notificationOutboxService.enqueue(jobPosting.getParent().getId(), jobPosting.getParent().getEmail(),
+                NotificationOutboxService.APPLICATION_WITHDRAWN,
+                "[BabyOn] '" + jobPosting.getTitle() + "' 구인글의 지원이 철회되었습니다",
+                jobApplication.getSitter().getEmail() + " 님이 지원을 철회했습니다.");
     }
 
     // 지원서 수락/거절
@@ -134,14 +183,25 @@ public class JobApplicationService {
 
         // 저장
         JobApplication updatedJobApplication = jobApplicationRepository.save(jobApplication);
+        publishChanged(JobApplicationChangedEvent.Type.STATUS_CHANGED, updatedJobApplication);
+
+        // 시터에게 상태 변경 알림
+        enqueueStatusNotification(updatedJobApplication.getSitter().getId(),
+                updatedJobApplication.getSitter().getEmail(),
+                updatedJobApplication.getJobPosting().getTitle(), updatedJobApplication.getStatus());
 
         // 응답 생성
         return convertToJobApplicationResponse(updatedJobApplication);
     }
 
-    // 특정 구인글에 대한 지원서 목록 조회
-    @Transactional(readOnly = true)
-    public List<JobApplicationResponse> getApplicationsByJobPosting(String email, Long jobPostingId) {
+    // 구인글 지원서 일괄 결정 (선택한 지원서 수락, 나머지 대기중 지원서 거절, 선택적으로 구인글 마감)
+    // 지원자 수와 무관하게 집합 단위 UPDATE 로 처리한다
+    // 대기중 지원서를 먼저 잠그고 잠근 ID 로만 변경하므로, 결정 도중 들어온 지원은 대기중으로 남고
+    // 상태가 바뀐 지원서는 모두 알림/이벤트 대상이 된다.
+    // READ COMMITTED: 잠금 이후 조회(시터 이메일)가 잠금 시점의 최신 커밋 데이터를 보도록 한다 (갭 잠금 없이 지원 허용)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ApplicationDecisionResponse decideApplications(String email, Long jobPostingId,
+                                                          ApplicationDecisionRequest request) {
         // 이메일로 사용자 조회
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
@@ -152,16 +212,104 @@ public class JobApplicationService {
 
         // 권한 확인
         if (user instanceof Parent) {
-            Parent parent = (Parent) user;
-            if (!jobPosting.getParent().getId().equals(parent.getId())) {
-                throw new AccessDeniedException("해당 구인글의 지원서를 조회할 권한이 없습니다.");
+            if (!jobPosting.getParent().getId().equals(user.getId())) {
+                throw new AccessDeniedException("해당 구인글의 지원서를 처리할 권한이 없습니다.");
             }
-        } else if (user instanceof Admin) {
-            // 관리자는 모든 구인글의 지원서 조회 가능
-        } else {
-            throw new AccessDeniedException("부모 또는 관리자 회원만 지원서를 조회할 수 있습니다.");
+        } else if (!(user instanceof Admin)) {
+            throw new AccessDeniedException("부모 또는 관리자 회원만 지원서를 처리할 수 있습니다.");
+        }
+
+        // 구인글 마감 (version 증가를 위해 엔티티로 변경 후 즉시 flush)
+        boolean postingClosed = false;
+        if (request.isClosePosting() && Boolean.TRUE.equals(jobPosting.getIsActive())) {
+            jobPosting.setIsActive(false);
+            jobPostingRepository.saveAndFlush(jobPosting);
+            postingClosed = true;
+            eventPublisher.publishEvent(new JobPostingChangedEvent(jobPostingId, false));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> acceptIds = request.getAcceptApplicationIds() == null
+                ? List.of()
+                : request.getAcceptApplicationIds().stream().distinct().collect(Collectors.toList());
+
+        // 처리 대상: 이 구인글의 대기중 지원서 (잠금 - 결정이 끝날 때까지 철회/상태 변경 불가)
+        String jobTitle = jobPosting.getTitle();
+        Long parentId = jobPosting.getParent().getId();
+        Set<Long> pendingIds = (!acceptIds.isEmpty() || request.isRejectOthers())
+                ? jobApplicationRepository.findByJobPostingIdAndStatusForUpdate(
+                        jobPostingId, JobApplication.ApplicationStatus.PENDING).stream()
+                        .map(JobApplication::getId)
+                        .collect(Collectors.toSet())
+                : Set.of();
+        // 알림 대상 (지원서 ID, 시터 ID, 시터 이메일) - 잠근 지원서만 (잠근 뒤 들어온 지원 제외)
+        List<Object[]> pendingApplicants = pendingIds.isEmpty() ? List.of()
+                : jobApplicationRepository.findApplicantsByJobPostingIdAndStatus(
+                        jobPostingId, JobApplication.ApplicationStatus.PENDING).stream()
+                        .filter(applicant -> pendingIds.contains((Long) applicant[0]))
+                        .collect(Collectors.toList());
+
+        // 수락: 잠근 대기중 지원서 중 선택한 것
+        Set<Long> acceptIdSet = acceptIds.stream().filter(pendingIds::contains).collect(Collectors.toSet());
+        int accepted = acceptIdSet.isEmpty() ? 0 : jobApplicationRepository.updateStatusByIds(
+                jobPostingId, new ArrayList<>(acceptIdSet),
+                JobApplication.ApplicationStatus.PENDING, JobApplication.ApplicationStatus.ACCEPTED, now);
+
+        // 거절: 잠근 대기중 지원서 중 나머지 (잠근 이후 들어온 지원은 대기중으로 남는다)
+        List<Long> rejectIds = request.isRejectOthers()
+                ? pendingIds.stream().filter(id -> !acceptIdSet.contains(id)).collect(Collectors.toList())
+                : List.of();
+        int rejected = rejectIds.isEmpty() ? 0 : jobApplicationRepository.updateStatusByIds(
+                jobPostingId, rejectIds,
+                JobApplication.ApplicationStatus.PENDING, JobApplication.ApplicationStatus.REJECTED, now);
+
+        // 상태가 바뀐 시터들에게 알림 (배치 INSERT)
+        if (accepted > 0 || rejected > 0) {
+            List<NotificationOutbox> notifications = new ArrayList<>();
+            for (Object[] applicant : pendingApplicants) {
+                boolean isAccepted = acceptIdSet.contains((Long) applicant[0]);
+                if (!isAccepted && !request.isRejectOthers()) {
+                    continue;
+                }
+                JobApplication.ApplicationStatus newStatus = isAccepted
+                        ? JobApplication.ApplicationStatus.ACCEPTED
+                        : JobApplication.ApplicationStatus.REJECTED;
+                notifications.add(statusNotification((Long) applicant[1], (String) applicant[2], jobTitle, newStatus));
+                eventPublisher.publishEvent(new JobApplicationChangedEvent(
+                        JobApplicationChangedEvent.Type.STATUS_CHANGED, (Long) applicant[0], jobPostingId,
+                        parentId, (Long) applicant[1], newStatus.name()));
+            }
+            notificationOutboxService.enqueueAll(notifications);
+        }
+
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (JobApplication.ApplicationStatus status : JobApplication.ApplicationStatus.values()) {
+            statusCounts.put(status.name(), 0L);
+        }
+        for (Object[] row : jobApplicationRepository.countByStatusForJobPosting(jobPostingId)) {
+            statusCounts.put(((JobApplication.ApplicationStatus) row[0]).name(), (Long) row[1]);
         }
 
+        return ApplicationDecisionResponse.builder()
+                .jobPostingId(jobPostingId)
+                .acceptedCount(accepted)
+                .acceptSkippedCount(acceptIds.size() - accepted)
+                .rejectedCount(rejected)
+                .postingClosed(postingClosed)
+                .statusCounts(statusCounts)
+                .build();
+    }
+
+    // 특정 구인글에 대한 지원서 목록 조회
+    @Transactional(readOnly = true)
+    public List<JobApplicationResponse> getApplicationsByJobPosting(String email, Long jobPostingId) {
+        // 이메일로 사용자 조회
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        // 구인글 조회 및 권한 확인
+        checkCanViewApplicationsOf(user, jobPostingId);
+
         // 지원서 조회
         List<JobApplication> applications = jobApplicationRepository.findByJobPostingId(jobPostingId);
 
@@ -208,6 +356,27 @@ public class JobApplicationService {
         return jobApplicationRepository.existsByJobPostingIdAndSitterId(jobPostingId, sitter.getId());
     }
 
+    // 여러 구인글에 대해 이미 지원했는지 일괄 확인 (시터 피드용) - 지원한 구인글 ID만 반환
+    // 트랜잭션을 열지 않는다 - 캐시 적재는 AppliedPostingCache 가 자체 트랜잭션으로 조회한다 (커넥션 이중 점유 방지)
+    public List<Long> findAppliedJobPostingIds(String email, List<Long> jobPostingIds) {
+        if (jobPostingIds.size() > MAX_CHECK_IDS) {
+            throw new IllegalArgumentException("한 번에 확인할 수 있는 구인글은 " + MAX_CHECK_IDS + "개 이하입니다.");
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        if (!(user instanceof Sitter) || jobPostingIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> distinctIds = jobPostingIds.stream().distinct().collect(Collectors.toList());
+        if (appliedPostingCache.isEnabled()) {
+            return appliedPostingCache.filterApplied(user.getId(), distinctIds);
+        }
+        return new ArrayList<>(jobApplicationRepository.findAppliedJobPostingIds(user.getId(), distinctIds));
+    }
+
     // 부모의 구인글에 대한 모든 지원서 조회
     @Transactional(readOnly = true)
     public List<JobApplicationResponse> getAllApplicationsForParent(String email) {
@@ -231,19 +400,150 @@ public class JobApplicationService {
                 .collect(Collectors.toList());
     }
 
+    // 특정 구인글에 대한 지원서 목록 조회 (키셋 페이징)
+    @Transactional(readOnly = true)
+    public JobApplicationListResponse getApplicationsByJobPostingPage(String email, Long jobPostingId,
+                                                                      Long cursor, int size, String sort) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        checkCanViewApplicationsOf(user, jobPostingId);
+
+        boolean ascending = isAscending(sort);
+        List<JobApplication> applications = jobApplicationRepository.findSliceByJobPostingId(
+                jobPostingId, lowerBound(cursor, ascending), upperBound(cursor, ascending), slicePageable(size, ascending));
+
+        return toListResponse(applications, size, ascending);
+    }
+
+    // 특정 시터의 지원서 목록 조회 (키셋 페이징)
+    @Transactional(readOnly = true)
+    public JobApplicationListResponse getMyApplicationsPage(String email, Long cursor, int size, String sort) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        if (!(user instanceof Sitter)) {
+            throw new AccessDeniedException("시터 회원만 자신의 지원서를 조회할 수 있습니다.");
+        }
+
+        boolean ascending = isAscending(sort);
+        List<JobApplication> applications = jobApplicationRepository.findSliceBySitterId(
+                user.getId(), lowerBound(cursor, ascending), upperBound(cursor, ascending), slicePageable(size, ascending));
+
+        return toListResponse(applications, size, ascending);
+    }
+
+    // 부모의 구인글에 대한 모든 지원서 조회 (키셋 페이징)
+    @Transactional(readOnly = true)
+    public JobApplicationListResponse getAllApplicationsForParentPage(String email, Long cursor, int size, String sort) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        if (!(user instanceof Parent)) {
+            throw new AccessDeniedException("부모 회원만 자신의 구인글에 대한 지원서를 조회할 수 있습니다.");
+        }
+
+        boolean ascending = isAscending(sort);
+        List<JobApplication> applications = jobApplicationRepository.findSliceByParentId(
+                user.getId(), lowerBound(cursor, ascending), upperBound(cursor, ascending), slicePageable(size, ascending));
+
+        return toListResponse(applications, size, ascending);
+    }
+
+    // 구인글 지원서 조회 권한 확인 (작성한 부모 또는 관리자)
+    private void checkCanViewApplicationsOf(User user, Long jobPostingId) {
+        JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 구인글을 찾을 수 없습니다: " + jobPostingId));
+
+        if (user instanceof Parent) {
+            Parent parent = (Parent) user;
+            if (!jobPosting.getParent().getId().equals(parent.getId())) {
+                throw new AccessDeniedException("해당 구인글의 지원서를 조회할 권한이 없습니다.");
+            }
+        } else if (user instanceof Admin) {
+            // 관리자는 모든 구인글의 지원서 조회 가능
+        } else {
+            throw new AccessDeniedException("부모 또는 관리자 회원만 지원서를 조회할 수 있습니다.");
+        }
+    }
+
+    // 정렬 옵션 해석 (latest: 최신순(기본), oldest: 오래된순) - 자동 증가 id 순서가 생성 순서와 같음
+    private boolean isAscending(String sort) {
+        if (sort == null || sort.isBlank() || "latest".equalsIgnoreCase(sort)) {
+            return false;
+        }
+        if ("oldest".equalsIgnoreCase(sort)) {
+            return true;
+        }
+        throw new IllegalArgumentException("잘못된 정렬 옵션입니다: " + sort + " (허용 값: latest, oldest)");
+    }
+
+    // 키셋 하한 (오래된순이면 cursor 이후)
+    private Long lowerBound(Long cursor, boolean ascending) {
+        return (ascending && cursor != null) ? cursor : 0L;
+    }
+
+    // 키셋 상한 (최신순이면 cursor 이전)
+    private Long upperBound(Long cursor, boolean ascending) {
+        return (!ascending && cursor != null) ? cursor : Long.MAX_VALUE;
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+    private PageRequest slicePageable(int size, boolean ascending) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+        return PageRequest.of(0, size + 1, ascending ? Sort.by("id").ascending() : Sort.by("id").descending());
+    }
+
+    private JobApplicationListResponse toListResponse(List<JobApplication> applications, int size, boolean ascending) {
+        boolean hasNext = applications.size() > size;
+        List<JobApplication> page = hasNext ? applications.subList(0, size) : applications;
+
+        return JobApplicationListResponse.builder()
+                .content(page.stream()
+                        .map(this::convertToJobApplicationResponse)
+                        .collect(Collectors.toList()))
+                .size(size)
+                .sort(ascending ? "oldest" : "latest")
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .build();
+    }
+
+    // 지원서 상태 변경 알림 기록
+    private void enqueueStatusNotification(Long sitterId, String sitterEmail, String jobTitle,
+                                           JobApplication.ApplicationStatus status) {
+        notificationOutboxService.enqueueAll(List.of(statusNotification(sitterId, sitterEmail, jobTitle, status)));
+    }
+
+    private NotificationOutbox statusNotification(Long sitterId, String sitterEmail, String jobTitle,
+                                                  JobApplication.ApplicationStatus status) {
+        String result = switch (status) {
+            case ACCEPTED -> "수락되었습니다";
+            case REJECTED -> "거절되었습니다";
+            case WITHDRAWN -> "철회되었습니다";
+            default -> "대기중으로 변경되었습니다";
+        };
+        return NotificationOutbox.builder()
+                .recipientId(sitterId)
+                .recipientEmail(sitterEmail)
+                .eventType(NotificationOutboxService.APPLICATION_STATUS_CHANGED)
+                .subject("[BabyOn] '" + jobTitle + "' 지원이 " + result)
+                .body("지원하신 '" + jobTitle + "' 구인글의 지원 상태가 " + status.name() + " 로 변경되었습니다.")
+                .build();
+    }
+
+    // 지원서 변경 이벤트 발행 (커밋 후 구독자에게 전달)
+    private void publishChanged(JobApplicationChangedEvent.Type type, JobApplication jobApplication) {
+        JobPosting jobPosting = jobApplication.getJobPosting();
+        eventPublisher.publishEvent(new JobApplicationChangedEvent(type, jobApplication.getId(),
+                jobPosting.getId(), jobPosting.getParent().getId(), jobApplication.getSitter().getId(),
+                jobApplication.getStatus().name()));
+    }
+
     // JobApplication 엔티티를 JobApplicationResponse DTO로 변환
     private JobApplicationResponse convertToJobApplicationResponse(JobApplication jobApplication) {
-        return JobApplicationResponse.builder()
-                .id(jobApplication.getId())
-                .jobPostingId(jobApplication.getJobPosting().getId())
-                .jobTitle(jobApplication.getJobPosting().getTitle())
-                .sitterId(jobApplication.getSitter().getId())
-                .sitterEmail(jobApplication.getSitter().getEmail())
-                .coverLetter(jobApplication.getCoverLetter())
-                .proposedHourlyRate(jobApplication.getProposedHourlyRate())
-                .status(jobApplication.getStatus().name())
-                .createdAt(jobApplication.getCreatedAt())
-                .updatedAt(jobApplication.getUpdatedAt())
-                .build();
+        return JobApplicationResponse.from(jobApplication);
     }
 }
\ No newline at end of file
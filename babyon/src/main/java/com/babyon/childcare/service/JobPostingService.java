@@ -2,35 +2,68 @@ package com.babyon.childcare.service;
 
 import com.babyon.childcare.dto.*;
 import com.babyon.childcare.entity.*;
+import com.babyon.childcare.event.JobPostingChangedEvent;
+import com.babyon.childcare.exception.BusinessException;
 import com.babyon.childcare.repository.JobApplicationRepository;
 import com.babyon.childcare.repository.JobPostingRepository;
+import com.babyon.childcare.repository.JobPostingSpecifications;
 import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.util.ETagUtils;
+import com.babyon.childcare.util.PayRateNormalizer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class JobPostingService {
 
+    public static final int MAX_FILTER_PAGE_SIZE = 100;
+    private static final int DEFAULT_FILTER_PAGE_SIZE = 20;
+
     private final JobPostingRepository jobPostingRepository;
     private final UserRepository userRepository;
     private final JobApplicationRepository jobApplicationRepository;
+    private final Validator validator;
+    private final PayRateNormalizer payRateNormalizer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pay.recompute-on-startup:false}")
+    private boolean recomputeOnStartup;
 
     @Autowired
     public JobPostingService(JobPostingRepository jobPostingRepository,
                              UserRepository userRepository,
-                             JobApplicationRepository jobApplicationRepository) {
+                             JobApplicationRepository jobApplicationRepository,
+                             Validator validator,
+                             PayRateNormalizer payRateNormalizer,
+                             ApplicationEventPublisher eventPublisher) {
         this.jobPostingRepository = jobPostingRepository;
         this.userRepository = userRepository;
         this.jobApplicationRepository = jobApplicationRepository;
+        this.validator = validator;
+        this.payRateNormalizer = payRateNormalizer;
+        this.eventPublisher = eventPublisher;
     }
 
     // 구인글 생성
@@ -49,38 +82,13 @@ public class JobPostingService {
 
         // 구인글 생성
         JobPosting jobPosting = new JobPosting();
-        jobPosting.setTitle(request.getTitle());
-        jobPosting.setDescription(request.getDescription());
         jobPosting.setParent(parent);
-        jobPosting.setLocation(request.getLocation());
-        jobPosting.setStartDate(request.getStartDate());
-        jobPosting.setEndDate(request.getEndDate());
-        jobPosting.setHourlyRate(request.getHourlyRate());
-        jobPosting.setRequiredExperienceYears(request.getRequiredExperienceYears());
-        jobPosting.setAgeOfChildren(request.getAgeOfChildren());
-        jobPosting.setNumberOfChildren(request.getNumberOfChildren());
         jobPosting.setIsActive(true);
-
-        // 구인 유형 설정
-        try {
-            JobPosting.JobType jobType = JobPosting.JobType.valueOf(request.getJobType());
-            jobPosting.setJobType(jobType);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("잘못된 구인 유형입니다: " + request.getJobType());
-        }
-
-        // 급여 타입 설정 (미입력 시 HOURLY 기본값)
-        if (request.getPayType() != null && !request.getPayType().isBlank()) {
-            try {
-                jobPosting.setPayType(JobPosting.PayType.valueOf(request.getPayType()));
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("잘못된 급여 타입입니다: " + request.getPayType()
-                        + " (허용 값: HOURLY, DAILY, MONTHLY)");
-            }
-        }
+        applyJobPostingRequest(jobPosting, request);
 
         // 저장
         JobPosting savedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(new JobPostingChangedEvent(savedJobPosting.getId(), true));
 
         // 응답 생성
         return convertToJobPostingResponse(savedJobPosting);
@@ -110,39 +118,115 @@ public class JobPostingService {
         }
 
         // 구인글 업데이트
-        jobPosting.setTitle(request.getTitle());
-        jobPosting.setDescription(request.getDescription());
-        jobPosting.setLocation(request.getLocation());
-        jobPosting.setStartDate(request.getStartDate());
-        jobPosting.setEndDate(request.getEndDate());
-        jobPosting.setHourlyRate(request.getHourlyRate());
-        jobPosting.setRequiredExperienceYears(request.getRequiredExperienceYears());
-        jobPosting.setAgeOfChildren(request.getAgeOfChildren());
-        jobPosting.setNumberOfChildren(request.getNumberOfChildren());
+        applyJobPostingRequest(jobPosting, request);
 
-        // 구인 유형 설정
-        try {
-            JobPosting.JobType jobType = JobPosting.JobType.valueOf(request.getJobType());
-            jobPosting.setJobType(jobType);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("잘못된 구인 유형입니다: " + request.getJobType());
+        // 저장
+        JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(new JobPostingChangedEvent(updatedJobPosting.getId(), false));
+
+        // 응답 생성
+        return convertToJobPostingResponse(updatedJobPosting);
+    }
+
+    // 구인글 일괄 생성/수정 (에이전시용)
+    // - 사용자 조회와 수정 대상 구인글 조회를 1회씩만 수행하고, 항목별 검증 실패는 부분 실패로 보고한다.
+    // - 저장은 한 번의 flush로 JDBC 배치 INSERT/UPDATE 된다 (hibernate.jdbc.batch_size).
+    @Transactional
+    public JobPostingBatchResponse batchUpsertJobPostings(String email, JobPostingBatchRequest request) {
+        // 이메일로 사용자 조회 (1회)
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + email));
+
+        // 부모 사용자 확인
+        if (!(user instanceof Parent)) {
+            throw new AccessDeniedException("부모 회원만 구인글을 작성할 수 있습니다.");
         }
 
-        // 급여 타입 설정 (미입력 시 기존 값 유지)
-        if (request.getPayType() != null && !request.getPayType().isBlank()) {
+        Parent parent = (Parent) user;
+        List<JobPostingBatchItemRequest> items = request.getItems();
+
+        // 수정 대상 구인글 일괄 조회
+        List<Long> updateIds = items.stream()
+                .map(JobPostingBatchItemRequest::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, JobPosting> existingPostings = updateIds.isEmpty()
+                ? Map.of()
+                : jobPostingRepository.findAllByIdInWithParent(updateIds).stream()
+                        .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+
+        JobPostingBatchItemResult[] results = new JobPostingBatchItemResult[items.size()];
+        Map<Integer, JobPosting> accepted = new LinkedHashMap<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        // 1패스 검증 및 엔티티 구성
+        for (int i = 0; i < items.size(); i++) {
+            JobPostingBatchItemRequest item = items.get(i);
             try {
-                jobPosting.setPayType(JobPosting.PayType.valueOf(request.getPayType()));
+                validateBatchItem(item);
+
+                JobPosting jobPosting;
+                if (item.getId() == null) {
+                    jobPosting = new JobPosting();
+                    jobPosting.setParent(parent);
+                    jobPosting.setIsActive(true);
+                } else {
+                    if (!seenIds.add(item.getId())) {
+                        throw new BusinessException("DUPLICATE_ITEM", "같은 구인글이 요청에 중복 포함되어 있습니다: " + item.getId());
+                    }
+                    jobPosting = existingPostings.get(item.getId());
+                    if (jobPosting == null) {
+                        throw new BusinessException("JOB_POSTING_NOT_FOUND", "해당 ID의 구인글을 찾을 수 없습니다: " + item.getId());
+                    }
+                    if (!jobPosting.getParent().getId().equals(parent.getId())) {
+                        throw new BusinessException("ACCESS_DENIED", "해당 구인글을 수정할 권한이 없습니다.");
+                    }
+                }
+
+                applyJobPostingRequest(jobPosting, item.getPosting());
+                accepted.put(i, jobPosting);
+            } catch (BusinessException e) {
+                results[i] = batchFailure(i, item == null ? null : item.getId(), e.getErrorCode(), e.getMessage());
             } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("잘못된 급여 타입입니다: " + request.getPayType()
-                        + " (허용 값: HOURLY, DAILY, MONTHLY)");
+                results[i] = batchFailure(i, item == null ? null : item.getId(), "INVALID_VALUE", e.getMessage());
             }
         }
 
-        // 저장
-        JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        // 일괄 저장 (한 번의 flush로 배치 실행)
+        if (!accepted.isEmpty()) {
+            jobPostingRepository.saveAll(accepted.values());
+            jobPostingRepository.flush();
+            accepted.values().forEach(jobPosting -> eventPublisher.publishEvent(new JobPostingChangedEvent(
+                    jobPosting.getId(), !existingPostings.containsKey(jobPosting.getId()))));
+        }
 
-        // 응답 생성
-        return convertToJobPostingResponse(updatedJobPosting);
+        // 수정된 구인글의 지원 수 일괄 조회 (신규 구인글은 0건)
+        List<Long> updatedIds = accepted.values().stream()
+                .map(JobPosting::getId)
+                .filter(existingPostings::containsKey)
+                .collect(Collectors.toList());
+        Map<Long, Long> countMap = updatedIds.isEmpty()
+                ? Map.of()
+                : jobApplicationRepository.countApplicationsByJobPostingIds(updatedIds).stream()
+                        .collect(Collectors.toMap(arr -> (Long) arr[0], arr -> (Long) arr[1]));
+
+        accepted.forEach((index, jobPosting) -> {
+            int count = countMap.getOrDefault(jobPosting.getId(), 0L).intValue();
+            results[index] = JobPostingBatchItemResult.builder()
+                    .index(index)
+                    .success(true)
+                    .id(jobPosting.getId())
+                    .posting(buildJobPostingResponse(jobPosting, count))
+                    .build();
+        });
+
+        return JobPostingBatchResponse.builder()
+                .requested(items.size())
+                .succeeded(accepted.size())
+                .failed(items.size() - accepted.size())
+                .results(Arrays.asList(results))
+                .build();
     }
 
     // 구인글 상세 조회 (권한 체크 포함)
@@ -185,6 +269,17 @@ public class JobPostingService {
         return convertToJobPostingResponse(jobPosting);
     }
 
+    // 구인글 상세 조회용 강한 ETag 계산 (본문 로드 없이 버전 정보만 조회)
+    // 비활성 구인글은 작성자 권한 확인이 필요하므로 null을 반환하여 전체 조회 경로를 타게 한다.
+    @Transactional(readOnly = true)
+    public String getJobPostingETag(Long jobPostingId) {
+        return jobPostingRepository.findVersionStampById(jobPostingId)
+                .filter(stamp -> Boolean.TRUE.equals(stamp.getIsActive()))
+                .map(stamp -> ETagUtils.strong("jp", jobPostingId, stamp.getVersion(),
+                        stamp.getUpdatedAt(), stamp.getApplicationCount()))
+                .orElse(null);
+    }
+
     // 구인글 비활성화 (삭제 대신)
     @Transactional
     public void deactivateJobPosting(String email, Long jobPostingId) {
@@ -211,12 +306,24 @@ public class JobPostingService {
         // 구인글 비활성화
         jobPosting.setIsActive(false);
         jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(new JobPostingChangedEvent(jobPostingId, false));
     }
 
-    // 모든 활성화된 구인글 목록 조회 (페이징)
+    // 모든 활성화된 구인글 목록 조회 (페이징, 시급 환산 급여 범위 필터)
     @Transactional(readOnly = true)
-    public JobPostingListResponse getAllActiveJobPostings(Pageable pageable) {
-        Page<JobPosting> jobPostings = jobPostingRepository.findByIsActiveTrueWithParent(pageable);
+    public JobPostingListResponse getAllActiveJobPostings(Double minHourlyRate, Double maxHourlyRate, Pageable pageable) {
+        if (minHourlyRate != null && maxHourlyRate != null && minHourlyRate > maxHourlyRate) {
+            throw new IllegalArgumentException("최소 시급은 최대 시급보다 클 수 없습니다: "
+                    + minHourlyRate + " > " + maxHourlyRate);
+        }
+
+        // 범위 조건이 있을 때만 인덱스 범위 조회 사용 (한쪽만 지정하면 반대쪽은 열린 구간)
+        Page<JobPosting> jobPostings = (minHourlyRate == null && maxHourlyRate == null)
+                ? jobPostingRepository.findByIsActiveTrueWithParent(pageable)
+                : jobPostingRepository.findActiveByNormalizedHourlyRateBetweenWithParent(
+                        minHourlyRate != null ? minHourlyRate : 0.0,
+                        maxHourlyRate != null ? maxHourlyRate : Double.MAX_VALUE,
+                        pageable);
 
         List<JobPostingResponse> content = convertToJobPostingResponseList(jobPostings.getContent());
 
@@ -291,6 +398,215 @@ public class JobPostingService {
                 .build();
     }
 
+    // 구인글 조건 검색 (지정한 조건만 AND 결합, 최신순 키셋 페이징)
+    @Transactional(readOnly = true)
+    public JobPostingCursorResponse filterJobPostings(JobPostingFilterRequest filter) {
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_FILTER_PAGE_SIZE;
+        if (size < 1 || size > MAX_FILTER_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_FILTER_PAGE_SIZE + " 사이여야 합니다: " + size);
+        }
+
+        Specification<JobPosting> spec = buildFilterSpecification(filter);
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            Object[] cursor = decodeFilterCursor(filter.getCursor());
+            spec = spec.and(JobPostingSpecifications.createdBefore((LocalDateTime) cursor[0], (Long) cursor[1]));
+        }
+
+        // 다음 페이지 존재 여부 판단을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<JobPosting> rows = jobPostingRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<JobPosting> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeFilterCursor(page.get(page.size() - 1)) : null;
+
+        return JobPostingCursorResponse.builder()
+                .content(convertToJobPostingResponseList(page))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 환산 기준 변경 후 기동 시 기존 구인글의 시급 환산 급여 재계산 (app.pay.recompute-on-startup=true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recomputeNormalizedHourlyRatesOnStartup() {
+        if (!recomputeOnStartup) {
+            return;
+        }
+        int updated = jobPostingRepository.recomputeNormalizedHourlyRates(
+                payRateNormalizer.getHoursPerDay(), payRateNormalizer.getHoursPerMonth());
+        log.info("구인글 시급 환산 급여 재계산 완료 - {}건 (1일 {}시간, 월 {}시간)",
+                updated, payRateNormalizer.getHoursPerDay(), payRateNormalizer.getHoursPerMonth());
+    }
+
+    // 조건 검색 Specification 구성 (미지정 조건은 술어를 추가하지 않음)
+    private Specification<JobPosting> buildFilterSpecification(JobPostingFilterRequest filter) {
+        Specification<JobPosting> spec = JobPostingSpecifications.activeWithParent();
+
+        if (filter.getJobTypes() != null && !filter.getJobTypes().isEmpty()) {
+            Set<JobPosting.JobType> jobTypes = new HashSet<>();
+            for (String jobType : filter.getJobTypes()) {
+                try {
+                    jobTypes.add(JobPosting.JobType.valueOf(jobType));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("잘못된 구인 유형입니다: " + jobType);
+                }
+            }
+            spec = spec.and(JobPostingSpecifications.jobTypeIn(jobTypes));
+        }
+        if (filter.getPayTypes() != null && !filter.getPayTypes().isEmpty()) {
+            Set<JobPosting.PayType> payTypes = new HashSet<>();
+            for (String payType : filter.getPayTypes()) {
+                try {
+                    payTypes.add(JobPosting.PayType.valueOf(payType));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("잘못된 급여 타입입니다: " + payType
+                            + " (허용 값: HOURLY, DAILY, MONTHLY)");
+                }
+            }
+            spec = spec.and(JobPostingSpecifications.payTypeIn(payTypes));
+        }
+
+        if (filter.getStartFrom() != null && filter.getStartTo() != null
+                && filter.getStartFrom().isAfter(filter.getStartTo())) {
+            throw new IllegalArgumentException("시작 일시 하한은 상한보다 늦을 수 없습니다.");
+        }
+        if (filter.getStartFrom() != null) {
+            spec = spec.and(JobPostingSpecifications.startDateFrom(filter.getStartFrom()));
+        }
+        if (filter.getStartTo() != null) {
+            spec = spec.and(JobPostingSpecifications.startDateTo(filter.getStartTo()));
+        }
+        if (filter.getEndTo() != null) {
+            spec = spec.and(JobPostingSpecifications.endDateTo(filter.getEndTo()));
+        }
+
+        if (filter.getMaxRequiredExperienceYears() != null) {
+            if (filter.getMaxRequiredExperienceYears() < 0) {
+                throw new IllegalArgumentException("요구 경력 상한은 0 이상이어야 합니다.");
+            }
+            spec = spec.and(JobPostingSpecifications.requiredExperienceAtMost(filter.getMaxRequiredExperienceYears()));
+        }
+
+        if (filter.getMinChildren() != null && filter.getMaxChildren() != null
+                && filter.getMinChildren() > filter.getMaxChildren()) {
+            throw new IllegalArgumentException("아이 숫자 하한은 상한보다 클 수 없습니다.");
+        }
+        if (filter.getMinChildren() != null) {
+            spec = spec.and(JobPostingSpecifications.numberOfChildrenAtLeast(filter.getMinChildren()));
+        }
+        if (filter.getMaxChildren() != null) {
+            spec = spec.and(JobPostingSpecifications.numberOfChildrenAtMost(filter.getMaxChildren()));
+        }
+
+        if (filter.getMinHourlyRate() != null && filter.getMaxHourlyRate() != null
+                && filter.getMinHourlyRate() > filter.getMaxHourlyRate()) {
+            throw new IllegalArgumentException("최소 시급은 최대 시급보다 클 수 없습니다: "
+                    + filter.getMinHourlyRate() + " > " + filter.getMaxHourlyRate());
+        }
+        if (filter.getMinHourlyRate() != null) {
+            spec = spec.and(JobPostingSpecifications.normalizedHourlyRateAtLeast(filter.getMinHourlyRate()));
+        }
+        if (filter.getMaxHourlyRate() != null) {
+            spec = spec.and(JobPostingSpecifications.normalizedHourlyRateAtMost(filter.getMaxHourlyRate()));
+        }
+
+        return spec;
+    }
+
+    // 키셋 커서 인코딩: "생성시각|ID" 를 URL-safe Base64 로 감싼 불투명 문자열
+    private String encodeFilterCursor(JobPosting last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 키셋 커서 디코딩: [생성시각(LocalDateTime), ID(Long)]
+    private Object[] decodeFilterCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return new Object[]{
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            };
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    // 일괄 요청 항목 Bean Validation (항목 단위 부분 실패 보고용)
+    private void validateBatchItem(JobPostingBatchItemRequest item) {
+        if (item == null || item.getPosting() == null) {
+            throw new BusinessException("VALIDATION_FAILED", "구인글 내용은 필수입니다");
+        }
+
+        Set<ConstraintViolation<JobPostingRequest>> violations = validator.validate(item.getPosting());
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new BusinessException("VALIDATION_FAILED", "입력값 검증에 실패했습니다: " + message);
+        }
+    }
+
+    // 요청 내용을 구인글 엔티티에 반영 (생성/수정/일괄 처리 공통)
+    // 변환/검증을 모두 마친 뒤에 엔티티를 변경하므로, 잘못된 값이면 관리 중인 엔티티가 일부만 바뀐 채 남지 않는다.
+    private void applyJobPostingRequest(JobPosting jobPosting, JobPostingRequest request) {
+        JobPosting.JobType jobType = parseJobType(request.getJobType());
+        // 급여 타입 미입력 시 기존 값 유지 (신규는 HOURLY 기본값)
+        JobPosting.PayType payType = request.getPayType() != null && !request.getPayType().isBlank()
+                ? parsePayType(request.getPayType())
+                : jobPosting.getPayType();
+        // 시급 환산 급여 계산
+        Double normalizedHourlyRate = payRateNormalizer.toHourly(request.getHourlyRate(), payType);
+
+        jobPosting.setTitle(request.getTitle());
+        jobPosting.setDescription(request.getDescription());
+        jobPosting.setLocation(request.getLocation());
+        jobPosting.setStartDate(request.getStartDate());
+        jobPosting.setEndDate(request.getEndDate());
+        jobPosting.setHourlyRate(request.getHourlyRate());
+        jobPosting.setRequiredExperienceYears(request.getRequiredExperienceYears());
+        jobPosting.setAgeOfChildren(request.getAgeOfChildren());
+        jobPosting.setNumberOfChildren(request.getNumberOfChildren());
+        jobPosting.setJobType(jobType);
+        jobPosting.setPayType(payType);
+        jobPosting.setNormalizedHourlyRate(normalizedHourlyRate);
+    }
+
+    private JobPosting.JobType parseJobType(String jobType) {
+        try {
+            return JobPosting.JobType.valueOf(jobType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("잘못된 구인 유형입니다: " + jobType);
+        }
+    }
+
+    private JobPosting.PayType parsePayType(String payType) {
+        try {
+            return JobPosting.PayType.valueOf(payType);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 급여 타입입니다: " + payType
+                    + " (허용 값: HOURLY, DAILY, MONTHLY)");
+        }
+    }
+
+    private JobPostingBatchItemResult batchFailure(int index, Long id, String errorCode, String message) {
+        return JobPostingBatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .id(id)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
     // JobPosting 엔티티를 JobPostingResponse DTO로 변환 (단일)
     private JobPostingResponse convertToJobPostingResponse(JobPosting jobPosting) {
         int applicationCount = jobApplicationRepository.countApplicationsByJobPostingId(jobPosting.getId());
@@ -341,6 +657,7 @@ public class JobPostingService {
                 .endDate(jobPosting.getEndDate())
                 .hourlyRate(jobPosting.getHourlyRate())
                 .payType(jobPosting.getPayType() != null ? jobPosting.getPayType().name() : JobPosting.PayType.HOURLY.name())
+                .normalizedHourlyRate(jobPosting.getNormalizedHourlyRate())
                 .requiredExperienceYears(jobPosting.getRequiredExperienceYears())
                 .jobType(jobPosting.getJobType() != null ? jobPosting.getJobType().name() : null)
                 .ageOfChildren(jobPosting.getAgeOfChildren())
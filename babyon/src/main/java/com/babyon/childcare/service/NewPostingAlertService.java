@@ -0,0 +1,118 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.NotificationOutbox;
+import com.babyon.childcare.repository.NotificationOutboxRepository;
+import com.babyon.childcare.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 신규 구인글 알림 팬아웃
+ *
+ * 구인글 등록 요청 경로에서는 실행되지 않는다. 커밋 이후 SitterMatchingService 가 matchingExecutor 에서
+ * 매칭 후보(서비스 지역 인덱스로 조회, 근무 가능 시간 충족)를 계산한 뒤 호출한다.
+ * 등록 트랜잭션이 남긴 posting_match_tasks.alert_pending 표식이 이 호출과 같은 트랜잭션에서 지워지므로,
+ * 작업이 버려지거나 재시작되어도 알림은 주기 재실행으로 한 번 기록된다.
+ * 수신자는 배치 단위로 처리하며, 시터별 최근 1시간 알림 건수가 상한에 도달하면 건너뛴다.
+ * 알림은 아웃박스에 기록되고 NotificationDispatcher 가 설정된 NotificationChannel 로 발송한다.
+ */
+@Service
+@Slf4j
+public class NewPostingAlertService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserRepository userRepository;
+    private final int maxPerHour;
+    private final int batchSize;
+
+    public NewPostingAlertService(NotificationOutboxService notificationOutboxService,
+                                  NotificationOutboxRepository outboxRepository,
+                                  UserRepository userRepository,
+                                  @Value("${app.alerts.new-posting.max-per-hour:3}") int maxPerHour,
+                                  @Value("${app.alerts.new-posting.batch-size:500}") int batchSize) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.maxPerHour = maxPerHour;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 매칭된 시터들에게 신규 구인글 알림 기록
+     * @param jobPosting 신규 구인글
+     * @param sitterIds 알림 대상 시터 ID (매칭 점수 내림차순)
+     * @return 기록된 알림 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int fanOut(JobPosting jobPosting, List<Long> sitterIds) {
+        if (sitterIds.isEmpty() || maxPerHour <= 0) {
+            return 0;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        String subject = "[BabyOn] 조건에 맞는 새 구인글 '" + jobPosting.getTitle() + "'이(가) 등록되었습니다";
+        String body = buildBody(jobPosting);
+
+        int enqueued = 0;
+        int limited = 0;
+        for (int from = 0; from < sitterIds.size(); from += batchSize) {
+            List<Long> batch = sitterIds.subList(from, Math.min(from + batchSize, sitterIds.size()));
+
+            // 최근 1시간 알림 건수 (시터별 발송 빈도 제한)
+            Map<Long, Long> recentCounts = outboxRepository
+                    .countByRecipientSince(batch, NotificationOutboxService.NEW_JOB_POSTING, since).stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+            List<Long> allowed = batch.stream()
+                    .filter(sitterId -> recentCounts.getOrDefault(sitterId, 0L) < maxPerHour)
+                    .collect(Collectors.toList());
+            limited += batch.size() - allowed.size();
+            if (allowed.isEmpty()) {
+                continue;
+            }
+
+            List<NotificationOutbox> notifications = new ArrayList<>(allowed.size());
+            for (Object[] row : userRepository.findEmailsByIdIn(allowed)) {
+                notifications.add(NotificationOutbox.builder()
+                        .recipientId((Long) row[0])
+                        .recipientEmail((String) row[1])
+                        .eventType(NotificationOutboxService.NEW_JOB_POSTING)
+                        .subject(subject)
+                        .body(body)
+                        .build());
+            }
+            notificationOutboxService.enqueueAll(notifications);
+            enqueued += notifications.size();
+        }
+
+        log.info("신규 구인글 알림 기록 - jobPostingId: {}, 대상: {}, 기록: {}, 빈도 제한: {}",
+                jobPosting.getId(), sitterIds.size(), enqueued, limited);
+        return enqueued;
+    }
+
+    private String buildBody(JobPosting jobPosting) {
+        StringBuilder body = new StringBuilder();
+        if (jobPosting.getLocation() != null) {
+            body.append("위치: ").append(jobPosting.getLocation()).append('\n');
+        }
+        if (jobPosting.getStartDate() != null) {
+            body.append("시작: ").append(jobPosting.getStartDate().format(DATE_FORMAT)).append('\n');
+        }
+        if (jobPosting.getNormalizedHourlyRate() != null) {
+            body.append("시급(환산): ").append(Math.round(jobPosting.getNormalizedHourlyRate())).append("원\n");
+        }
+        body.append("구인글 ID: ").append(jobPosting.getId());
+        return body.toString();
+    }
+}
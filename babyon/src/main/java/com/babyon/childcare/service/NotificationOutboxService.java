@@ -0,0 +1,70 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.entity.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 기록 서비스
+ *
+ * 반드시 도메인 변경 트랜잭션 안에서 호출되어야 한다 (MANDATORY).
+ * 도메인 변경이 롤백되면 알림도 함께 롤백되고, 커밋된 변경에 대해서만 알림이 발송된다.
+ * 여러 건은 JDBC 배치 INSERT 로 한 번에 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    public static final String APPLICATION_SUBMITTED = "APPLICATION_SUBMITTED";
+    public static final String APPLICATION_WITHDRAWN = "APPLICATION_WITHDRAWN";
+    public static final String APPLICATION_STATUS_CHANGED = "APPLICATION_STATUS_CHANGED";
+    public static final String NEW_JOB_POSTING = "NEW_JOB_POSTING";
+
+    private static final String INSERT_SQL = "INSERT INTO notification_outbox " +
+            "(recipient_id, recipient_email, event_type, subject, body, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long recipientId, String recipientEmail, String eventType, String subject, String body) {
+        enqueueAll(List.of(NotificationOutbox.builder()
+                .recipientId(recipientId)
+                .recipientEmail(recipientEmail)
+                .eventType(eventType)
+                .subject(subject)
+                .body(body)
+                .build()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<NotificationOutbox> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            if (notification.getRecipientId() != null) {
+                ps.setLong(1, notification.getRecipientId());
+            } else {
+                ps.setNull(1, Types.BIGINT);
+            }
+            ps.setString(2, notification.getRecipientEmail());
+            ps.setString(3, notification.getEventType());
+            ps.setString(4, notification.getSubject());
+            ps.setString(5, notification.getBody());
+            ps.setString(6, NotificationOutbox.Status.PENDING.name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.dto.JobApplicationResponse;
+import com.babyon.childcare.dto.ParentDashboardPostingResponse;
+import com.babyon.childcare.dto.ParentDashboardResponse;
+import com.babyon.childcare.entity.JobApplication;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.repository.JobApplicationRepository;
+import com.babyon.childcare.repository.JobPostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 부모 홈 화면 대시보드 집계 서비스
+ *
+ * 구인글 수와 무관하게 고정된 쿼리 수로 계산한다.
+ * 1) 부모의 구인글 목록, 2) 구인글·상태별 지원 수 GROUP BY,
+ * 3) 구인글별 최신 지원서 ID (ROW_NUMBER 윈도우 함수), 4) 해당 지원서 JOIN FETCH 일괄 로드
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParentDashboardService {
+
+    public static final int MAX_RECENT_LIMIT = 20;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    /**
+     * 부모 대시보드 조회
+     * @param parentId 부모 ID
+     * @param recentLimit 구인글별 최신 지원자 수 (1 ~ 20)
+     * @return 구인글별 상태별 지원 수와 최신 지원자
+     */
+    @Transactional(readOnly = true)
+    public ParentDashboardResponse getDashboard(Long parentId, int recentLimit) {
+        if (recentLimit < 1 || recentLimit > MAX_RECENT_LIMIT) {
+            throw new IllegalArgumentException("최신 지원자 조회 건수는 1 ~ " + MAX_RECENT_LIMIT + " 사이여야 합니다: " + recentLimit);
+        }
+
+        List<JobPosting> postings = jobPostingRepository.findAllByParentIdOrderByCreatedAtDesc(parentId);
+        if (postings.isEmpty()) {
+            return ParentDashboardResponse.builder()
+                    .parentId(parentId)
+                    .totalPostings(0)
+                    .activePostings(0)
+                    .statusCounts(emptyStatusCounts())
+                    .recentApplicantLimit(recentLimit)
+                    .postings(List.of())
+                    .build();
+        }
+
+        // 구인글·상태별 지원 수
+        Map<Long, Map<String, Long>> statusCountsByPosting = new HashMap<>();
+        Map<String, Long> totalStatusCounts = emptyStatusCounts();
+        for (Object[] row : jobApplicationRepository.countByStatusGroupedByJobPostingForParent(parentId)) {
+            Long jobPostingId = (Long) row[0];
+            String status = ((JobApplication.ApplicationStatus) row[1]).name();
+            Long count = (Long) row[2];
+            statusCountsByPosting.computeIfAbsent(jobPostingId, id -> emptyStatusCounts()).put(status, count);
+            totalStatusCounts.merge(status, count, Long::sum);
+        }
+
+        // 구인글별 최신 지원서 N건
+        List<Long> recentIds = jobApplicationRepository
+                .findLatestApplicationIdsPerJobPostingForParent(parentId, recentLimit).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        Map<Long, List<JobApplicationResponse>> recentByPosting = recentIds.isEmpty()
+                ? Map.of()
+                : jobApplicationRepository.findAllByIdInWithJobPostingAndSitter(recentIds).stream()
+                        .map(JobApplicationResponse::from)
+                        .collect(Collectors.groupingBy(JobApplicationResponse::getJobPostingId));
+
+        List<ParentDashboardPostingResponse> postingResponses = postings.stream()
+                .map(posting -> {
+                    Map<String, Long> counts = statusCountsByPosting.getOrDefault(posting.getId(), emptyStatusCounts());
+                    return ParentDashboardPostingResponse.builder()
+                            .id(posting.getId())
+                            .title(posting.getTitle())
+                            .location(posting.getLocation())
+                            .startDate(posting.getStartDate())
+                            .isActive(posting.getIsActive())
+                            .createdAt(posting.getCreatedAt())
+                            .applicationCount(counts.values().stream().mapToLong(Long::longValue).sum())
+                            .statusCounts(counts)
+                            .recentApplications(recentByPosting.getOrDefault(posting.getId(), List.of()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        int activePostings = (int) postings.stream().filter(p -> Boolean.TRUE.equals(p.getIsActive())).count();
+        log.debug("부모 대시보드 조회: parentId={}, postings={}, recentApplications={}",
+                parentId, postings.size(), recentIds.size());
+
+        return ParentDashboardResponse.builder()
+                .parentId(parentId)
+                .totalPostings(postings.size())
+                .activePostings(activePostings)
+                .statusCounts(totalStatusCounts)
+                .recentApplicantLimit(recentLimit)
+                .postings(postingResponses)
+                .build();
+    }
+
+    // 모든 상태를 0으로 채운 상태별 건수 맵 (enum 선언 순서 유지)
+    private Map<String, Long> emptyStatusCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (JobApplication.ApplicationStatus status : JobApplication.ApplicationStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,424 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.entity.ResumableUpload;
+import com.babyon.childcare.event.ResumableUploadReleasedEvent;
+import com.babyon.childcare.exception.FileSizeExceededException;
+import com.babyon.childcare.exception.InvalidFileException;
+import com.babyon.childcare.exception.InvalidFileTypeException;
+import com.babyon.childcare.exception.ResumableUploadException;
+import com.babyon.childcare.exception.SitterNotFoundException;
+import com.babyon.childcare.repository.ResumableUploadRepository;
+import com.babyon.childcare.repository.SitterRepository;
+import com.babyon.childcare.storage.FileSystemMultipartFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 재개 가능한 영상 업로드 Service (tus 1.0 core + creation, expiration, checksum, termination)
+ *
+ * 모바일 네트워크에서 100MB 영상을 한 번의 multipart 요청으로 올리면 연결이 끊길 때마다 처음부터 다시 보내야 한다.
+ * 세션을 만든 뒤 청크(PATCH)를 이어 보내고, 끊기면 HEAD 로 서버 오프셋을 확인해 그 지점부터 재개한다.
+ *
+ * - 청크는 세션별 임시 파일의 해당 오프셋에 FileChannel 로 기록하고, fsync 후에만 DB 오프셋을 전진시킨다
+ *   (DB 오프셋은 항상 디스크에 확정된 바이트 수 이하)
+ * - Upload-Checksum(sha256) 이 있으면 기록하면서 계산한 해시와 비교하고, 다르면 오프셋까지 잘라내 폐기한다
+ * - 같은 업로드의 동시 PATCH 는 인스턴스 내 잠금 + DB 오프셋 compare-and-set 으로 막는다
+ * - 청크를 받을 때마다 만료 시각을 연장하고, 만료된 세션은 정리 작업이 임시 파일과 함께 삭제한다
+ * - 완료된 세션은 consume 으로 MultipartFile 처럼 꺼내 기존 업로드 경로(VideoStorage)에 넘긴다
+ *
+ * 임시 파일은 인스턴스 로컬 디스크에 있으므로 여러 인스턴스 운영 시 업로드 ID 기준 고정 라우팅이나 공유 디스크가 필요하다.
+ */
+@Slf4j
+@Service
+public class ResumableUploadService {
+
+    public static final String TUS_VERSION = "1.0.0";
+    public static final String CHECKSUM_ALGORITHM = "sha256";
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CLEANUP_BATCH_SIZE = 500;
+
+    private final ResumableUploadRepository uploadRepository;
+    private final SitterRepository sitterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Path uploadDir;
+    private final Duration ttl;
+    private final long maxSizeBytes;
+    private final int maxActivePerSitter;
+
+    // 이 인스턴스에서 청크를 기록 중인 업로드 ID (같은 업로드의 동시 PATCH 차단)
+    private final Set<String> writing = ConcurrentHashMap.newKeySet();
+
+    public ResumableUploadService(ResumableUploadRepository uploadRepository,
+                                  SitterRepository sitterRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.upload.resumable.dir:${java.io.tmpdir}/babyon-resumable}") String uploadDir,
+                                  @Value("${app.upload.resumable.ttl-hours:24}") long ttlHours,
+                                  @Value("${app.upload.resumable.max-size-mb:100}") long maxSizeMb,
+                                  @Value("${app.upload.resumable.max-active-per-sitter:4}") int maxActivePerSitter) {
+        this.uploadRepository = uploadRepository;
+        this.sitterRepository = sitterRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.uploadDir = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxActivePerSitter = maxActivePerSitter;
+
+        try {
+            Files.createDirectories(this.uploadDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("재개 업로드 디렉터리를 만들 수 없습니다: " + this.uploadDir, e);
+        }
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    /**
+     * 업로드 세션 생성 (tus creation)
+     */
+    @Transactional
+    public ResumableUpload create(Long sitterId, long uploadLength, String fileName, String contentType) {
+        if (!sitterRepository.existsById(sitterId)) {
+            throw new SitterNotFoundException(sitterId);
+        }
+        if (uploadLength <= 0) {
+            throw new InvalidFileException("Upload-Length must be positive");
+        }
+        if (uploadLength > maxSizeBytes) {
+            throw new FileSizeExceededException("Video", maxSizeBytes);
+        }
+        if (contentType == null || !contentType.startsWith("video/")) {
+            throw new InvalidFileTypeException("Video", "video");
+        }
+        if (uploadRepository.countBySitterId(sitterId) >= maxActivePerSitter) {
+            throw new ResumableUploadException(429, "TOO_MANY_UPLOADS",
+                    "진행 중인 업로드가 너무 많습니다. 기존 업로드를 완료하거나 취소해주세요.");
+        }
+
+        String id = UUID.randomUUID().toString();
+        try {
+            Files.createFile(partFile(id));
+        } catch (IOException e) {
+            throw new InvalidFileException("업로드 임시 파일을 만들 수 없습니다.", e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ResumableUpload upload = uploadRepository.save(ResumableUpload.builder()
+                .id(id)
+                .sitterId(sitterId)
+                .fileName(fileName)
+                .contentType(contentType)
+                .uploadLength(uploadLength)
+                .expiresAt(now.plus(ttl))
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        log.info("Resumable upload created: id={}, sitterId={}, length={}", id, sitterId, uploadLength);
+        return upload;
+    }
+
+    /**
+     * 업로드 세션 조회 (tus HEAD - 재개할 오프셋 확인)
+     */
+    @Transactional(readOnly = true)
+    public ResumableUpload get(Long sitterId, String uploadId) {
+        return findActive(sitterId, uploadId);
+    }
+
+    /**
+     * 청크 기록 (tus PATCH)
+     * @param offset 클라이언트가 보낸 Upload-Offset (서버 오프셋과 같아야 한다)
+     * @param contentLength 요청 본문 길이 (모르면 -1)
+     * @param checksum Upload-Checksum 헤더 ("sha256 <base64>", 선택)
+     * @return 기록 후 오프셋
+     */
+    public long appendChunk(Long sitterId, String uploadId, long offset, long contentLength,
+                            String checksum, InputStream body) {
+        byte[] expectedDigest = parseChecksum(checksum);
+
+        // 잠금을 먼저 잡은 뒤 오프셋을 읽어야 앞선 요청이 기록한 바이트를 잘라내지 않는다
+        if (!writing.add(uploadId)) {
+            throw ResumableUploadException.locked(uploadId);
+        }
+        try {
+            ResumableUpload upload = findActive(sitterId, uploadId);
+            long serverOffset = upload.getUploadOffset();
+            if (serverOffset != offset) {
+                throw ResumableUploadException.offsetMismatch(serverOffset, offset);
+            }
+            long remaining = upload.getUploadLength() - offset;
+            if (contentLength > remaining) {
+                throw lengthExceeded(upload);
+            }
+
+            long written = writeChunk(upload, offset, remaining, expectedDigest, body);
+            if (written == 0) {
+                return offset;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            long newOffset = offset + written;
+            Integer updated = transactionTemplate.execute(status ->
+                    uploadRepository.advanceOffset(uploadId, offset, newOffset, now.plus(ttl), now));
+            if (updated == null || updated == 0) {
+                // 기록 도중 취소되었거나 만료 정리된 세션
+                throw ResumableUploadException.notFound(uploadId);
+            }
+
+            log.debug("Resumable upload chunk stored: id={}, offset={}, length={}", uploadId, newOffset, upload.getUploadLength());
+            return newOffset;
+        } finally {
+            writing.remove(uploadId);
+        }
+    }
+
+    /**
+     * 업로드 취소 (tus termination)
+     */
+    @Transactional
+    public void terminate(Long sitterId, String uploadId) {
+        ResumableUpload upload = findActive(sitterId, uploadId);
+        uploadRepository.delete(upload);
+        eventPublisher.publishEvent(new ResumableUploadReleasedEvent(uploadId));
+        log.info("Resumable upload terminated: id={}, sitterId={}", uploadId, sitterId);
+    }
+
+    /**
+     * 완료된 업로드를 꺼내 사용 (호출자 트랜잭션 안에서만)
+     * 세션 행은 호출자 트랜잭션과 함께 삭제되고 임시 파일은 커밋 후 지워지므로,
+     * 반환된 파일은 트랜잭션이 끝나기 전까지 읽어야 한다. 롤백되면 세션이 남아 다시 완료 요청할 수 있다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public MultipartFile consume(Long sitterId, String uploadId) {
+        ResumableUpload upload = findActive(sitterId, uploadId);
+        if (!upload.isComplete()) {
+            throw new ResumableUploadException(409, "UPLOAD_INCOMPLETE",
+                    String.format("업로드가 아직 완료되지 않았습니다: %s (%d/%d bytes)",
+                            uploadId, upload.getUploadOffset(), upload.getUploadLength()));
+        }
+
+        uploadRepository.delete(upload);
+        eventPublisher.publishEvent(new ResumableUploadReleasedEvent(uploadId));
+
+        return new FileSystemMultipartFile(partFile(uploadId), "video",
+                upload.getFileName(), upload.getContentType(), upload.getUploadLength());
+    }
+
+    /**
+     * 해제된 세션의 임시 파일 삭제 (세션 삭제 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUploadReleased(ResumableUploadReleasedEvent event) {
+        deletePartFile(event.getUploadId());
+    }
+
+    /**
+     * 만료된 세션과 임시 파일 정리
+     * 세션 행이 없는 오래된 임시 파일(다른 인스턴스가 세션을 정리했거나 삭제에 실패한 경우)도 함께 지운다.
+     */
+    @Scheduled(cron = "${app.upload.resumable.cleanup-cron:0 */10 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        List<String> expired;
+        do {
+            expired = uploadRepository.findExpiredIds(now, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (expired.isEmpty()) {
+                break;
+            }
+            List<String> batch = expired;
+            transactionTemplate.executeWithoutResult(status -> uploadRepository.deleteByIdIn(batch));
+            batch.forEach(this::deletePartFile);
+            purged += batch.size();
+        } while (expired.size() == CLEANUP_BATCH_SIZE);
+
+        int orphans = purgeOrphanFiles(Instant.now().minus(ttl));
+        if (purged > 0 || orphans > 0) {
+            log.info("만료된 재개 업로드 정리: 세션 {}건, 임시 파일 {}건", purged, orphans);
+        }
+    }
+
+    // ========================= Private Helper Methods =========================
+
+    private ResumableUpload findActive(Long sitterId, String uploadId) {
+        return uploadRepository.findByIdAndSitterId(uploadId, sitterId)
+                .filter(upload -> !upload.isExpired(LocalDateTime.now()))
+                .orElseThrow(() -> ResumableUploadException.notFound(uploadId));
+    }
+
+    /**
+     * 본문을 임시 파일의 offset 위치부터 기록하고 fsync 한다.
+     * 선언된 길이를 넘거나 체크섬이 다르면 offset 까지 잘라내고 실패시킨다.
+     * 체크섬 없이 전송 도중 연결이 끊기면 받은 만큼은 보존한다 (tus core 권장 동작).
+     * @return 기록한 바이트 수
+     */
+    private long writeChunk(ResumableUpload upload, long offset, long remaining,
+                            byte[] expectedDigest, InputStream body) {
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(partFile(upload.getId()), StandardOpenOption.WRITE)) {
+            // 이전 요청이 중단되며 남긴 미확정 바이트 제거
+            channel.truncate(offset);
+            channel.position(offset);
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long written = 0;
+            try {
+                int n;
+                while ((n = body.read(buffer.array())) != -1) {
+                    if (written + n > remaining) {
+                        channel.truncate(offset);
+                        throw lengthExceeded(upload);
+                    }
+                    digest.update(buffer.array(), 0, n);
+                    buffer.clear().limit(n);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    written += n;
+                }
+            } catch (IOException e) {
+                if (expectedDigest != null || written == 0) {
+                    channel.truncate(offset);
+                    throw e;
+                }
+                log.info("Resumable upload chunk interrupted, keeping received bytes: id={}, received={}",
+                        upload.getId(), written);
+            }
+
+            if (expectedDigest != null && !MessageDigest.isEqual(expectedDigest, digest.digest())) {
+                channel.truncate(offset);
+                throw ResumableUploadException.checksumMismatch();
+            }
+            channel.force(false);
+            return written;
+        } catch (IOException e) {
+            throw new InvalidFileException("청크를 저장하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * Upload-Checksum 헤더 파싱 ("sha256 <base64 digest>")
+     * @return 기대 digest, 헤더가 없으면 null
+     */
+    private byte[] parseChecksum(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String[] parts = header.trim().split(" ", 2);
+        if (parts.length != 2 || !CHECKSUM_ALGORITHM.equals(parts[0])) {
+            throw new ResumableUploadException(400, "UNSUPPORTED_CHECKSUM",
+                    "지원하지 않는 체크섬 알고리즘입니다 (sha256 만 지원)");
+        }
+        try {
+            byte[] expected = Base64.getDecoder().decode(parts[1].trim());
+            if (expected.length != 32) {
+                throw new IllegalArgumentException("invalid sha256 length");
+            }
+            return expected;
+        } catch (IllegalArgumentException e) {
+            throw new ResumableUploadException(400, "INVALID_CHECKSUM", "Upload-Checksum 값이 올바르지 않습니다.");
+        }
+    }
+
+    private ResumableUploadException lengthExceeded(ResumableUpload upload) {
+        return new ResumableUploadException(413, "UPLOAD_LENGTH_EXCEEDED",
+                "요청 본문이 선언된 Upload-Length(" + upload.getUploadLength() + ")를 초과합니다.");
+    }
+
+    /**
+     * 세션 행이 없는 오래된 임시 파일 삭제
+     * @return 삭제한 파일 수
+     */
+    private int purgeOrphanFiles(Instant olderThan) {
+        Map<String, Path> candidates;
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            candidates = files
+                    .filter(path -> path.getFileName().toString().endsWith(PART_SUFFIX))
+                    .filter(path -> isOlderThan(path, olderThan))
+                    .limit(CLEANUP_BATCH_SIZE)
+                    .collect(Collectors.toMap(this::uploadIdOf, Function.identity()));
+        } catch (IOException e) {
+            log.warn("재개 업로드 임시 디렉터리 조회 실패: dir={}, error={}", uploadDir, e.getMessage());
+            return 0;
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        uploadRepository.findExistingIds(candidates.keySet()).forEach(candidates::remove);
+        candidates.keySet().forEach(this::deletePartFile);
+        return candidates.size();
+    }
+
+    private boolean isOlderThan(Path path, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(instant);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String uploadIdOf(Path partFile) {
+        String name = partFile.getFileName().toString();
+        return name.substring(0, name.length() - PART_SUFFIX.length());
+    }
+
+    private Path partFile(String uploadId) {
+        return uploadDir.resolve(uploadId + PART_SUFFIX);
+    }
+
+    private void deletePartFile(String uploadId) {
+        try {
+            Files.deleteIfExists(partFile(uploadId));
+        } catch (IOException e) {
+            log.warn("재개 업로드 임시 파일 삭제 실패 (무시): id={}, error={}", uploadId, e.getMessage());
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
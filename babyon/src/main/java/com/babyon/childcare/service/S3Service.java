@@ -1,71 +1,287 @@
 package com.babyon.childcare.service;
 
-import lombok.RequiredArgsConstructor;
+import com.babyon.childcare.storage.PresignedUrlCache;
+import com.babyon.childcare.storage.StoredObjectMetadata;
+import com.babyon.childcare.storage.UploadResult;
+import com.babyon.childcare.storage.VideoStorage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
 
 /**
- * AWS S3 파일 업로드/다운로드 서비스
+ * AWS S3 파일 업로드/다운로드 서비스 (VideoStorage 의 S3 구현, app.storage.type=s3)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class S3Service {
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Service implements VideoStorage {
+
+    /** S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외) */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Executor uploadExecutor;
+    private final PresignedUrlCache presignedUrlCache;
+    private final int partSize;
+    private final int partConcurrency;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
 
+    public S3Service(S3Client s3Client,
+                     S3Presigner s3Presigner,
+                     @Qualifier("s3UploadExecutor") Executor uploadExecutor,
+                     PresignedUrlCache presignedUrlCache,
+                     @Value("${aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+                     @Value("${aws.s3.multipart.concurrency:4}") int partConcurrency) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.uploadExecutor = uploadExecutor;
+        this.presignedUrlCache = presignedUrlCache;
+        this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        this.partConcurrency = Math.max(1, partConcurrency);
+    }
+
     /**
-     * 파일 업로드
-     * @param file 업로드할 파일
-     * @param folder S3 내 폴더 경로 (예: "videos/intro", "videos/answer")
-     * @return 업로드된 파일의 S3 키 (경로)
+     * 취소 가능한 스트리밍 멀티파트 업로드 (내용 해시 기반 중복 제거)
+     * 입력 스트림을 파트 크기 단위로 읽어 여러 파트를 동시에 전송한다.
+     * 동시에 메모리에 올라가는 파트 버퍼는 concurrency 개로 제한되며, 한 파트라도 실패하면 업로드를 중단(abort)한다.
+     * 파일이 한 파트보다 작으면 단일 PUT 으로 업로드한다.
+     * 다음 파트를 읽기 전마다 취소 여부를 확인하고, 취소되면 업로드를 중단(abort)한다.
+     * 파트를 읽는 동안 SHA-256 을 함께 계산하며(추가 읽기 없음), 같은 해시의 기존 객체가 있으면
+     * 새 객체를 만들지 않고 기존 키를 반환한다.
+     * - 한 파트 이하 파일: 해시가 PUT 전에 확정되므로 업로드 자체를 생략한다.
+     * - 멀티파트 파일: complete 대신 abort 하여 중복 객체가 생기지 않게 한다. 전송 후에야 중복을 알 수 있으므로,
+     *   호출자가 클라이언트 선언 해시로 전송 전에 재사용을 판단할 수 있으면 먼저 판단한다
+     *   (SitterAiVideoProfileService.uploadVideo).
+     * @param cancelled 취소 여부
+     * @param reusableKeysBySha256 재사용 가능한 기존 객체 키 (SHA-256 hex → S3 키)
+     * @throws CancellationException 업로드가 취소된 경우
      */
-    public String uploadFile(MultipartFile file, String folder) {
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".")
-            ? originalFilename.substring(originalFilename.lastIndexOf("."))
-            : "";
+    @Override
+    public UploadResult upload(MultipartFile file, String folder, BooleanSupplier cancelled,
+                               Map<String, String> reusableKeysBySha256) {
+        return uploadFileMultipart(file, folder, cancelled, reusableKeysBySha256);
+    }
+
+    public UploadResult uploadFileMultipart(MultipartFile file, String folder, BooleanSupplier cancelled,
+                                            Map<String, String> reusableKeysBySha256) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("업로드가 취소되었습니다.");
+        }
+        if (file.getSize() <= partSize) {
+            return uploadSinglePart(file, folder, reusableKeysBySha256);
+        }
 
-        String fileName = UUID.randomUUID().toString() + extension;
-        String key = folder + "/" + fileName;
+        String key = newObjectKey(folder, file.getOriginalFilename());
+        long startedAt = System.nanoTime();
 
+        String uploadId;
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .contentType(file.getContentType())
-                .contentLength(file.getSize())
-                .build();
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .build()).uploadId();
+        } catch (SdkException e) {
+            log.error("멀티파트 업로드 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("S3 업로드 중 오류가 발생했습니다.", e);
+        }
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(partConcurrency);
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            int partNumber = 1;
+            while (true) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException("업로드가 취소되었습니다.");
+                }
+                inFlight.acquire();
+                byte[] buffer = in.readNBytes(partSize);
+                if (buffer.length == 0) {
+                    inFlight.release();
+                    break;
+                }
+                int number = partNumber++;
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(key, uploadId, number, buffer), uploadExecutor)
+                        .whenComplete((part, ex) -> inFlight.release()));
+
+                // 이미 실패한 파트가 있으면 나머지를 읽지 않는다
+                if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+            }
 
-            s3Client.putObject(putObjectRequest,
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> future : futures) {
+                parts.add(future.join());
+            }
+            parts.sort(Comparator.comparing(CompletedPart::partNumber));
 
-            log.info("파일 업로드 성공: bucket={}, key={}", bucketName, key);
-            return key;
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String existingKey = reusableKeysBySha256.get(sha256);
+            if (existingKey != null) {
+                abortMultipartUpload(key, uploadId, futures);
+                log.info("동일 내용의 기존 객체 재사용: existingKey={}, sha256={}", existingKey, sha256);
+                return new UploadResult(existingKey, sha256, true);
+            }
 
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+
+            log.info("멀티파트 업로드 성공: bucket={}, key={}, size={}, parts={}, elapsedMs={}",
+                    bucketName, key, file.getSize(), parts.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            return new UploadResult(key, sha256, false);
+
+        } catch (CancellationException e) {
+            abortMultipartUpload(key, uploadId, futures);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipartUpload(key, uploadId, futures);
+            throw new RuntimeException("파일 업로드가 중단되었습니다.", e);
         } catch (IOException e) {
+            abortMultipartUpload(key, uploadId, futures);
             log.error("파일 업로드 실패: {}", e.getMessage(), e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            // S3Exception 외의 SdkException(네트워크 오류 등), 전송 풀 거부 등 어떤 실패든 남은 파트를 정리한다
+            abortMultipartUpload(key, uploadId, futures);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("S3 멀티파트 업로드 오류: key={}, {}", key, cause.getMessage(), cause);
+            throw new RuntimeException("S3 업로드 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 한 파트 이하 파일 업로드 (메모리에 읽으며 해시 계산 후 단일 PUT)
+     */
+    private UploadResult uploadSinglePart(MultipartFile file, String folder, Map<String, String> reusableKeysBySha256) {
+        byte[] content;
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            content = in.readAllBytes();
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        String existingKey = reusableKeysBySha256.get(sha256);
+        if (existingKey != null) {
+            log.info("동일 내용의 기존 객체 재사용: existingKey={}, sha256={}", existingKey, sha256);
+            return new UploadResult(existingKey, sha256, true);
+        }
+
+        String key = newObjectKey(folder, file.getOriginalFilename());
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .contentLength((long) content.length)
+                    .build(),
+                RequestBody.fromBytes(content));
         } catch (S3Exception e) {
             log.error("S3 업로드 오류: {}", e.awsErrorDetails().errorMessage(), e);
             throw new RuntimeException("S3 업로드 중 오류가 발생했습니다.", e);
         }
+
+        log.info("파일 업로드 성공: bucket={}, key={}", bucketName, key);
+        return new UploadResult(key, sha256, false);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer) {
+        long startedAt = System.nanoTime();
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) buffer.length)
+                        .build(),
+                RequestBody.fromBytes(buffer));
+        log.info("파트 업로드 완료: key={}, part={}, bytes={}, elapsedMs={}",
+                key, partNumber, buffer.length, (System.nanoTime() - startedAt) / 1_000_000);
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    /**
+     * 진행 중인 파트 전송이 끝난 뒤 멀티파트 업로드를 중단한다.
+     * 중단 이후 완료된 파트가 남아 과금되지 않도록 전송 완료를 먼저 기다린다.
+     */
+    private void abortMultipartUpload(String key, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).exceptionally(ex -> null).join();
+        } catch (Exception ignored) {
+            // 개별 파트 실패는 이미 상위에서 처리된다
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("멀티파트 업로드 중단: bucket={}, key={}, uploadId={}", bucketName, key, uploadId);
+        } catch (SdkException e) {
+            log.error("멀티파트 업로드 중단 실패: key={}, uploadId={}, {}", key, uploadId, e.getMessage(), e);
+        }
+    }
+
+    private String extractExtension(String originalFilename) {
+        return originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
     }
 
     /**
@@ -73,17 +289,24 @@ public class S3Service {
      * @param key S3 객체 키
      * @return Presigned URL
      */
+    @Override
     public String generatePresignedUrl(String key) {
         return generatePresignedUrl(key, Duration.ofHours(1));
     }
 
     /**
      * Presigned URL 생성 (사용자 정의 만료 시간)
+     * 같은 키의 URL 은 만료가 가까워질 때까지 캐시에서 재사용하여 조회마다 SigV4 서명을 반복하지 않는다.
      * @param key S3 객체 키
      * @param duration URL 유효 기간
      * @return Presigned URL
      */
+    @Override
     public String generatePresignedUrl(String key, Duration duration) {
+        return presignedUrlCache.get(key, duration, () -> presignGetUrl(key, duration));
+    }
+
+    private String presignGetUrl(String key, Duration duration) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
@@ -107,10 +330,102 @@ public class S3Service {
         }
     }
 
+    /**
+     * 새 객체 키 생성 (폴더/UUID.확장자)
+     * @param folder S3 내 폴더 경로
+     * @param originalFilename 원본 파일명 (확장자 추출용)
+     * @return S3 객체 키
+     */
+    @Override
+    public String newObjectKey(String folder, String originalFilename) {
+        return folder + "/" + UUID.randomUUID() + extractExtension(originalFilename);
+    }
+
+    /**
+     * Presigned PUT URL 생성 (클라이언트 직접 업로드용)
+     * Content-Type 과 Content-Length 가 서명에 포함되므로 클라이언트는 같은 값으로 업로드해야 한다.
+     * @param key S3 객체 키
+     * @param contentType 업로드할 파일의 MIME 타입
+     * @param contentLength 업로드할 파일 크기 (bytes)
+     * @param duration URL 유효 기간
+     * @return Presigned URL
+     */
+    @Override
+    public String generatePresignedPutUrl(String key, String contentType, long contentLength, Duration duration) {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(duration)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+            log.debug("Presigned PUT URL 생성: key={}, duration={}", key, duration);
+            return presignedRequest.url().toString();
+
+        } catch (S3Exception e) {
+            log.error("Presigned PUT URL 생성 실패: {}", e.awsErrorDetails().errorMessage(), e);
+            throw new RuntimeException("Presigned URL 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 객체 메타데이터 조회
+     * @param key S3 객체 키
+     * @return 객체가 없으면 빈 값
+     */
+    @Override
+    public Optional<StoredObjectMetadata> findObjectMetadata(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+            long contentLength = response.contentLength() != null ? response.contentLength() : 0L;
+            return Optional.of(new StoredObjectMetadata(contentLength, response.contentType()));
+
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("객체 메타데이터 조회 실패: {}", e.awsErrorDetails().errorMessage(), e);
+            throw new RuntimeException("S3 객체 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 객체 일부 읽기 (Range: bytes=offset-(offset+length-1))
+     */
+    @Override
+    public byte[] readRange(String key, long offset, int length) throws IOException {
+        if (length <= 0) {
+            return new byte[0];
+        }
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build())
+                .asByteArray();
+        } catch (SdkException e) {
+            throw new IOException("S3 객체 범위 읽기에 실패했습니다: key=" + key, e);
+        }
+    }
+
     /**
      * 파일 삭제
      * @param key S3 객체 키
      */
+    @Override
     public void deleteFile(String key) {
         try {
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -119,6 +434,7 @@ public class S3Service {
                 .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            presignedUrlCache.invalidate(key);
             log.info("파일 삭제 성공: bucket={}, key={}", bucketName, key);
 
         } catch (S3Exception e) {
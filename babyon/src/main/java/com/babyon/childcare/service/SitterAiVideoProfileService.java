@@ -1,24 +1,60 @@
 package com.babyon.childcare.service;
 
+import com.babyon.childcare.dto.AiProfileCompleteRequest;
 import com.babyon.childcare.dto.AiProfileResponse;
+import com.babyon.childcare.dto.AiProfileResumableCompleteRequest;
 import com.babyon.childcare.dto.AiProfileUploadRequest;
+import com.babyon.childcare.dto.AiProfileUploadUrlRequest;
+import com.babyon.childcare.dto.AiProfileUploadUrlResponse;
 import com.babyon.childcare.dto.AiQuestionResponse;
 import com.babyon.childcare.entity.AiQuestion;
 import com.babyon.childcare.entity.Sitter;
 import com.babyon.childcare.entity.SitterAiVideoProfile;
+import com.babyon.childcare.event.AiProfileStatusChangedEvent;
+import com.babyon.childcare.event.AiProfileVideosReplacedEvent;
+import com.babyon.childcare.event.AiQuestionUsedEvent;
 import com.babyon.childcare.exception.*;
 import com.babyon.childcare.repository.AiQuestionRepository;
 import com.babyon.childcare.repository.SitterAiVideoProfileRepository;
 import com.babyon.childcare.repository.SitterRepository;
-import lombok.RequiredArgsConstructor;
+import com.babyon.childcare.storage.RangedObjectInputStream;
+import com.babyon.childcare.storage.StoredObjectMetadata;
+import com.babyon.childcare.storage.UploadResult;
+import com.babyon.childcare.storage.VideoStorage;
+import com.babyon.childcare.util.Mp4DurationParser;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Random;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 시터 AI 화상 이력서 Service
@@ -26,47 +62,66 @@ import java.util.Random;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SitterAiVideoProfileService {
 
     private final SitterAiVideoProfileRepository aiVideoProfileRepository;
     private final AiQuestionRepository aiQuestionRepository;
+    private final AiQuestionPool aiQuestionPool;
     private final SitterRepository sitterRepository;
-    private final S3Service s3Service;
+    private final VideoStorage videoStorage;
+    private final ResumableUploadService resumableUploadService;
+    private final ViewCountBuffer viewCountBuffer;
     private final AiAnalysisService aiAnalysisService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor videoUploadExecutor;
+
+    public SitterAiVideoProfileService(SitterAiVideoProfileRepository aiVideoProfileRepository,
+                                       AiQuestionRepository aiQuestionRepository,
+                                       AiQuestionPool aiQuestionPool,
+                                       SitterRepository sitterRepository,
+                                       VideoStorage videoStorage,
+                                       ResumableUploadService resumableUploadService,
+                                       ViewCountBuffer viewCountBuffer,
+                                       AiAnalysisService aiAnalysisService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Qualifier("videoUploadExecutor") Executor videoUploadExecutor) {
+        this.aiVideoProfileRepository = aiVideoProfileRepository;
+        this.aiQuestionRepository = aiQuestionRepository;
+        this.aiQuestionPool = aiQuestionPool;
+        this.sitterRepository = sitterRepository;
+        this.videoStorage = videoStorage;
+        this.resumableUploadService = resumableUploadService;
+        this.viewCountBuffer = viewCountBuffer;
+        this.aiAnalysisService = aiAnalysisService;
+        this.eventPublisher = eventPublisher;
+        this.videoUploadExecutor = videoUploadExecutor;
+    }
 
     private static final int MAX_VIDEO_DURATION_SECONDS = 120; // 최대 영상 길이: 120초
     private static final long MAX_VIDEO_FILE_SIZE_BYTES = 100 * 1024 * 1024; // 최대 파일 크기: 100MB
-    private static final int RANDOM_QUESTION_SAMPLE_SIZE = 10; // 랜덤 질문 샘플 크기
+    private static final Duration UPLOAD_URL_TTL = Duration.ofMinutes(15); // 직접 업로드 URL 유효 기간
+    // 직접 업로드 객체 이름 (newObjectKey 가 만든 "UUID.확장자", 경로 구분자 불가)
+    private static final Pattern UPLOADED_OBJECT_NAME = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.[^/\\\\]*)?");
 
     /**
      * 랜덤 AI 질문 조회
-     * 사용 횟수가 적은 질문을 우선적으로 선택하여 질문 분배를 균등하게 함
+     * 사용 횟수가 적은 질문일수록 높은 확률로 선택하여 질문 분배를 균등하게 함 (메모리 질문 풀에서 선택)
      */
     public AiQuestionResponse getRandomQuestion() {
-        List<AiQuestion> activeQuestions = aiQuestionRepository.findActiveQuestionsOrderByUsageCount();
-
-        if (activeQuestions.isEmpty()) {
-            throw new AiQuestionNotFoundException("No active AI questions available");
-        }
-
-        // 사용 횟수가 가장 적은 상위 N개 중에서 랜덤 선택
-        int sampleSize = Math.min(RANDOM_QUESTION_SAMPLE_SIZE, activeQuestions.size());
-        List<AiQuestion> topQuestions = activeQuestions.subList(0, sampleSize);
-
-        Random random = new Random();
-        AiQuestion selectedQuestion = topQuestions.get(random.nextInt(topQuestions.size()));
+        AiQuestionResponse selectedQuestion = aiQuestionPool.sample()
+                .orElseThrow(() -> new AiQuestionNotFoundException("No active AI questions available"));
 
         log.info("Selected random AI question: ID={}, Category={}",
-                selectedQuestion.getId(), selectedQuestion.getQuestionCategory());
+                selectedQuestion.getQuestionId(), selectedQuestion.getQuestionCategory());
 
-        return AiQuestionResponse.fromEntity(selectedQuestion);
+        return selectedQuestion;
     }
 
     /**
      * AI 화상 이력서 업로드/업데이트
-     * 두 개의 영상 파일(인트로, 답변)을 S3에 업로드하고 DB에 저장
+     * 두 개의 영상 파일(인트로, 답변)을 영상 저장소(S3/로컬)에 업로드하고 DB에 저장
      */
     @Transactional
     public AiProfileResponse uploadOrUpdateProfile(Long sitterId, AiProfileUploadRequest request) {
@@ -82,43 +137,196 @@ public class SitterAiVideoProfileService {
         validateVideoFile(request.getIntroVideo(), "Intro Video");
         validateVideoFile(request.getAnswerVideo(), "Answer Video");
 
-        // 4. 영상 길이 검증 (현재: 파일 크기 기반 추정, FUTURE: FFmpeg 통합)
+        // 4. 영상 길이 검증 (MP4/MOV 컨테이너 헤더 기준, 해석 불가 시 파일 크기 기반 추정)
         Integer introDuration = extractVideoDuration(request.getIntroVideo());
         Integer answerDuration = extractVideoDuration(request.getAnswerVideo());
 
         validateVideoDuration(introDuration, "Intro Video");
         validateVideoDuration(answerDuration, "Answer Video");
 
-        // 5. S3에 영상 파일 업로드
-        String introVideoUrl = uploadVideoToS3(request.getIntroVideo(), sitterId, "intro");
-        String answerVideoUrl = uploadVideoToS3(request.getAnswerVideo(), sitterId, "answer");
+        // 5. 저장소에 영상 파일 동시 업로드 (둘 다 완료된 뒤에만 DB 저장)
+        //    기존 프로필과 내용(SHA-256)이 같은 영상은 새 객체를 만들지 않고 기존 키를 재사용한다
+        //    (클라이언트가 해시를 알려주면 전송 전에 확인하여 저장소 전송 자체를 생략한다)
+        long uploadStartedAt = System.nanoTime();
+        Map<String, String> reusableKeys = findReusableVideoKeys(sitterId);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        CompletableFuture<UploadResult> introUpload =
+                uploadVideoAsync(request.getIntroVideo(), request.getIntroVideoSha256(), sitterId, "intro",
+                        cancelled, reusableKeys);
+        CompletableFuture<UploadResult> answerUpload =
+                uploadVideoAsync(request.getAnswerVideo(), request.getAnswerVideoSha256(), sitterId, "answer",
+                        cancelled, reusableKeys);
+        UploadResult intro;
+        UploadResult answer;
+        try {
+            CompletableFuture.allOf(introUpload, answerUpload).join();
+            intro = introUpload.join();
+            answer = answerUpload.join();
+        } catch (CompletionException e) {
+            // 한쪽이 실패하면 다른 쪽은 취소되며, 이미 완료된 업로드는 삭제한다
+            cleanupCompletedUpload(introUpload);
+            cleanupCompletedUpload(answerUpload);
+            throw unwrapUploadFailure(introUpload, answerUpload, e);
+        }
+        log.info("AI profile videos uploaded: sitterId={}, elapsedMs={}",
+                sitterId, (System.nanoTime() - uploadStartedAt) / 1_000_000);
+
+        // 6~10. 프로필 저장 및 AI 분석 트리거
+        return saveProfileAndTriggerAnalysis(sitter, aiQuestion,
+                intro.getKey(), intro.getSha256(), introDuration,
+                answer.getKey(), answer.getSha256(), answerDuration, request.getStatus());
+    }
+
+    /**
+     * AI 화상 이력서 직접 업로드 URL 발급 (1단계)
+     * 영상은 앱 서버를 거치지 않고 Presigned PUT URL 로 저장소에 직접 업로드된다.
+     * 발급된 키는 시터 전용 폴더 아래에 생성되며, 완료 API 에서 소유 여부를 다시 확인한다.
+     */
+    public AiProfileUploadUrlResponse issueUploadUrls(Long sitterId, AiProfileUploadUrlRequest request) {
+        if (!sitterRepository.existsById(sitterId)) {
+            throw new SitterNotFoundException(sitterId);
+        }
+
+        validateVideoMetadata(request.getIntroContentType(), request.getIntroFileSize(), "Intro Video");
+        validateVideoMetadata(request.getAnswerContentType(), request.getAnswerFileSize(), "Answer Video");
+
+        String folder = videoFolder(sitterId);
+        String introKey = videoStorage.newObjectKey(folder, request.getIntroFileName());
+        String answerKey = videoStorage.newObjectKey(folder, request.getAnswerFileName());
+
+        AiProfileUploadUrlResponse response = AiProfileUploadUrlResponse.builder()
+                .introVideoKey(introKey)
+                .introUploadUrl(videoStorage.generatePresignedPutUrl(introKey,
+                        request.getIntroContentType(), request.getIntroFileSize(), UPLOAD_URL_TTL))
+                .answerVideoKey(answerKey)
+                .answerUploadUrl(videoStorage.generatePresignedPutUrl(answerKey,
+                        request.getAnswerContentType(), request.getAnswerFileSize(), UPLOAD_URL_TTL))
+                .expiresAt(LocalDateTime.now().plus(UPLOAD_URL_TTL))
+                .build();
+
+        log.info("Issued direct upload URLs for sitter: {}, introKey={}, answerKey={}", sitterId, introKey, answerKey);
+        return response;
+    }
+
+    /**
+     * AI 화상 이력서 직접 업로드 완료 (2단계)
+     * 저장소에 업로드된 객체의 존재 여부와 크기/형식을 메타데이터 조회(S3 headObject)로 확인하고,
+     * 영상 길이는 범위 읽기(ranged GET)로 컨테이너 헤더(moov/mvhd)만 읽어 검증한 뒤
+     * 기존 업로드와 동일하게 프로필을 저장하고 AI 분석을 트리거한다.
+     * 검증에 실패하면 업로드된 두 객체를 삭제한다 (이미 저장된 프로필이 참조하는 객체는 제외).
+     */
+    @Transactional
+    public AiProfileResponse completeDirectUpload(Long sitterId, AiProfileCompleteRequest request) {
+        String introKey = request.getIntroVideoKey();
+        String answerKey = request.getAnswerVideoKey();
+        // 소유 여부를 먼저 확인하므로 이후 실패 시 삭제 대상은 이 시터의 객체뿐이다
+        requireOwnUploadKey(sitterId, introKey, "Intro Video");
+        requireOwnUploadKey(sitterId, answerKey, "Answer Video");
+
+        // 같은 키로 완료를 재시도한 경우 현재 프로필이 쓰는 객체는 지우지 않는다
+        Set<String> referencedKeys = aiVideoProfileRepository.findBySitterId(sitterId)
+                .map(profile -> Stream.of(profile.getIntroVideoUrl(), profile.getAnswerVideoUrl())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .orElse(Set.of());
+
+        try {
+            if (introKey.equals(answerKey)) {
+                throw new InvalidFileException("Intro and answer videos must be different uploads");
+            }
+
+            Sitter sitter = sitterRepository.findById(sitterId)
+                    .orElseThrow(() -> new SitterNotFoundException(sitterId));
+
+            AiQuestion aiQuestion = aiQuestionRepository.findByIdAndIsActiveTrue(request.getAiQuestionId())
+                    .orElseThrow(() -> new AiQuestionNotFoundException(request.getAiQuestionId()));
+
+            Integer introDuration = verifyUploadedVideo(introKey, "Intro Video");
+            Integer answerDuration = verifyUploadedVideo(answerKey, "Answer Video");
+
+            // 직접 업로드는 내용을 서버에서 읽지 않으므로 해시를 알 수 없다
+            return saveProfileAndTriggerAnalysis(sitter, aiQuestion,
+                    introKey, null, introDuration,
+                    answerKey, null, answerDuration, request.getStatus());
+        } catch (BusinessException e) {
+            // 검증에 실패한 업로드는 남겨두지 않는다
+            Stream.of(introKey, answerKey)
+                    .distinct()
+                    .filter(key -> !referencedKeys.contains(key))
+                    .forEach(this::safeDeleteFromStorage);
+            throw e;
+        }
+    }
+
+    /**
+     * AI 화상 이력서 재개 가능 업로드 완료
+     * 재개 가능한 업로드(tus)로 서버에 조립된 두 영상을 꺼내 multipart 업로드와 같은 경로로 검증/저장한다.
+     * 업로드 세션은 이 트랜잭션과 함께 삭제되므로, 실패하면 세션이 남아 같은 업로드 ID 로 다시 완료 요청할 수 있다.
+     */
+    @Transactional
+    public AiProfileResponse completeResumableUpload(Long sitterId, AiProfileResumableCompleteRequest request) {
+        if (request.getIntroUploadId().equals(request.getAnswerUploadId())) {
+            throw new InvalidFileException("Intro and answer videos must be different uploads");
+        }
+
+        AiProfileUploadRequest uploadRequest = AiProfileUploadRequest.builder()
+                .introVideo(resumableUploadService.consume(sitterId, request.getIntroUploadId()))
+                .answerVideo(resumableUploadService.consume(sitterId, request.getAnswerUploadId()))
+                .aiQuestionId(request.getAiQuestionId())
+                .status(request.getStatus())
+                .build();
+
+        return uploadOrUpdateProfile(sitterId, uploadRequest);
+    }
+
+    /**
+     * 프로필 저장, 질문 사용 횟수 증가, AI 분석 트리거 (업로드 방식과 무관한 공통 처리)
+     */
+    private AiProfileResponse saveProfileAndTriggerAnalysis(Sitter sitter, AiQuestion aiQuestion,
+                                                            String introVideoUrl, String introSha256,
+                                                            Integer introDuration,
+                                                            String answerVideoUrl, String answerSha256,
+                                                            Integer answerDuration,
+                                                            String status) {
+        Long sitterId = sitter.getId();
 
         // 6. 기존 프로필 조회 또는 새로 생성
         SitterAiVideoProfile profile = aiVideoProfileRepository.findBySitterId(sitterId)
                 .orElse(new SitterAiVideoProfile());
 
+        // 교체되어 더 이상 참조하지 않는 기존 객체 (커밋 후 삭제)
+        List<String> replacedKeys = Stream.of(profile.getIntroVideoUrl(), profile.getAnswerVideoUrl())
+                .filter(key -> key != null && !key.equals(introVideoUrl) && !key.equals(answerVideoUrl))
+                .distinct()
+                .collect(Collectors.toList());
+
         // 7. 프로필 데이터 업데이트
         profile.setSitterId(sitterId);
         profile.setSitter(sitter);
         profile.setIntroVideoUrl(introVideoUrl);
+        profile.setIntroVideoSha256(introSha256);
         profile.setIntroVideoDurationSeconds(introDuration);
         profile.setAiQuestion(aiQuestion);
         profile.setAnswerVideoUrl(answerVideoUrl);
+        profile.setAnswerVideoSha256(answerSha256);
         profile.setAnswerVideoDurationSeconds(answerDuration);
 
         // 상태 설정 (요청에 상태가 있으면 사용, 없으면 PENDING)
-        if (request.getStatus() != null) {
-            profile.setStatus(SitterAiVideoProfile.ProfileStatus.valueOf(request.getStatus()));
+        if (status != null) {
+            profile.setStatus(SitterAiVideoProfile.ProfileStatus.valueOf(status));
         } else if (profile.getStatus() == null) {
             profile.setStatus(SitterAiVideoProfile.ProfileStatus.PENDING);
         }
 
         // 8. DB 저장 (상태: PENDING)
         SitterAiVideoProfile savedProfile = aiVideoProfileRepository.save(profile);
+        eventPublisher.publishEvent(new AiProfileStatusChangedEvent(sitterId, savedProfile.getStatus().name()));
+        if (!replacedKeys.isEmpty()) {
+            eventPublisher.publishEvent(new AiProfileVideosReplacedEvent(sitterId, replacedKeys));
+        }
 
-        // 9. AI 질문 사용 횟수 증가
-        aiQuestion.setUsageCount(aiQuestion.getUsageCount() + 1);
-        aiQuestionRepository.save(aiQuestion);
+        // 9. AI 질문 사용 횟수 증가 (커밋 후 질문 풀에 모았다가 주기적으로 usage_count + delta 로 반영)
+        eventPublisher.publishEvent(new AiQuestionUsedEvent(aiQuestion.getId()));
 
         log.info("AI video profile uploaded successfully for sitter: {}", sitterId);
 
@@ -139,17 +347,30 @@ public class SitterAiVideoProfileService {
 
         AiProfileResponse response = AiProfileResponse.fromEntity(profile);
         
-        // S3 키를 Presigned URL로 변환 (1시간 유효)
+        // 객체 키를 Presigned URL로 변환 (1시간 유효)
         if (response.getIntroVideoUrl() != null) {
-            response.setIntroVideoUrl(s3Service.generatePresignedUrl(response.getIntroVideoUrl()));
+            response.setIntroVideoUrl(videoStorage.generatePresignedUrl(response.getIntroVideoUrl()));
         }
         if (response.getAnswerVideoUrl() != null) {
-            response.setAnswerVideoUrl(s3Service.generatePresignedUrl(response.getAnswerVideoUrl()));
+            response.setAnswerVideoUrl(videoStorage.generatePresignedUrl(response.getAnswerVideoUrl()));
         }
         
         return response;
     }
 
+    /**
+     * AI 화상 이력서 공개 조회 (조회수 집계)
+     * 조회수는 ViewCountBuffer 에 모았다가 주기적으로 일괄 반영하므로 응답의 조회수는 최대 한 주기 늦을 수 있다.
+     * @param viewerEmail 조회자 이메일 (비로그인 null) - 시터 본인의 조회는 집계하지 않는다
+     */
+    public AiProfileResponse viewProfile(Long sitterId, String viewerEmail) {
+        AiProfileResponse response = getProfile(sitterId);
+        if (viewerEmail == null || !sitterRepository.existsByIdAndEmail(sitterId, viewerEmail)) {
+            viewCountBuffer.recordAiProfileView(sitterId);
+        }
+        return response;
+    }
+
     /**
      * 시터 ID로 AI 화상 이력서 존재 여부 확인
      */
@@ -157,6 +378,17 @@ public class SitterAiVideoProfileService {
         return aiVideoProfileRepository.existsBySitterId(sitterId);
     }
 
+    /**
+     * 교체된 기존 영상 객체 삭제 (프로필 변경 커밋 후)
+     * 롤백된 변경은 이벤트가 전달되지 않으므로 여전히 참조 중인 객체를 지우지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onVideosReplaced(AiProfileVideosReplacedEvent event) {
+        event.getReplacedKeys().forEach(this::safeDeleteFromStorage);
+        log.info("Replaced AI profile videos deleted: sitterId={}, keys={}", event.getSitterId(), event.getReplacedKeys());
+    }
+
     /**
      * 업로드 실패 후 롤백 — DB 레코드 삭제 및 S3 파일 정리
      * Flutter 클라이언트가 업로드 실패 시 호출하여 부분 저장된 데이터를 제거한다.
@@ -165,20 +397,20 @@ public class SitterAiVideoProfileService {
     public void rollbackProfile(Long sitterId) {
         aiVideoProfileRepository.findBySitterId(sitterId).ifPresent(profile -> {
             // S3 파일 삭제 (실패해도 DB 삭제는 계속 진행)
-            safeDeleteFromS3(profile.getIntroVideoUrl());
-            safeDeleteFromS3(profile.getAnswerVideoUrl());
+            safeDeleteFromStorage(profile.getIntroVideoUrl());
+            safeDeleteFromStorage(profile.getAnswerVideoUrl());
 
             aiVideoProfileRepository.delete(profile);
             log.info("AI video profile rolled back for sitter: {}", sitterId);
         });
     }
 
-    private void safeDeleteFromS3(String s3Key) {
-        if (s3Key == null || s3Key.isBlank()) return;
+    private void safeDeleteFromStorage(String key) {
+        if (key == null || key.isBlank()) return;
         try {
-            s3Service.deleteFile(s3Key);
+            videoStorage.deleteFile(key);
         } catch (Exception e) {
-            log.warn("S3 파일 삭제 실패 (롤백 중 무시): key={}, error={}", s3Key, e.getMessage());
+            log.warn("영상 파일 삭제 실패 (무시): key={}, error={}", key, e.getMessage());
         }
     }
 
@@ -203,6 +435,70 @@ public class SitterAiVideoProfileService {
         }
     }
 
+    /**
+     * 직접 업로드 전 메타데이터 검증 (파일 크기, MIME 타입)
+     */
+    private void validateVideoMetadata(String contentType, Long fileSize, String fileName) {
+        if (fileSize == null || fileSize <= 0) {
+            throw new InvalidFileException(fileName + " is required and cannot be empty");
+        }
+        if (fileSize > MAX_VIDEO_FILE_SIZE_BYTES) {
+            throw new FileSizeExceededException(fileName, MAX_VIDEO_FILE_SIZE_BYTES);
+        }
+        if (contentType == null || !contentType.startsWith("video/")) {
+            throw new InvalidFileTypeException(fileName, "video");
+        }
+    }
+
+    /**
+     * 직접 업로드 객체 키의 소유 폴더 확인
+     * 키는 발급 형식 "sitter/{id}/ai-profile/UUID.확장자" 와 정확히 일치해야 한다
+     * (접두사만 비교하면 "../" 로 다른 시터의 객체를 가리킬 수 있음).
+     */
+    private void requireOwnUploadKey(Long sitterId, String key, String fileName) {
+        String folder = videoFolder(sitterId) + "/";
+        if (key == null || !key.startsWith(folder)
+                || !UPLOADED_OBJECT_NAME.matcher(key.substring(folder.length())).matches()) {
+            throw new InvalidFileException(fileName + " key does not belong to this sitter");
+        }
+    }
+
+    /**
+     * 직접 업로드된 객체 검증 (존재 여부, 크기, MIME 타입, 영상 길이)
+     * @return 영상 길이 (초)
+     */
+    private Integer verifyUploadedVideo(String key, String fileName) {
+        StoredObjectMetadata metadata = videoStorage.findObjectMetadata(key)
+                .orElseThrow(() -> new InvalidFileException(fileName + " has not been uploaded"));
+
+        long size = metadata.getContentLength();
+        validateVideoMetadata(metadata.getContentType(), size, fileName);
+
+        Integer duration = readUploadedVideoDuration(key, size, fileName);
+        validateVideoDuration(duration, fileName);
+        return duration;
+    }
+
+    /**
+     * 저장소에 있는 영상의 길이 추출 (범위 읽기로 moov/mvhd 만 읽음)
+     *
+     * 직접 업로드는 서버가 내용을 받지 않으므로 파일 크기 기반 추정(1MB ≈ 10초)을 쓰면
+     * 허용 크기(100MB) 안의 정상 영상도 거부된다. 길이를 읽을 수 없는 형식은 검증할 수 없으므로 거부한다.
+     */
+    private Integer readUploadedVideoDuration(String key, long size, String fileName) {
+        try (InputStream in = new RangedObjectInputStream(
+                (offset, length) -> videoStorage.readRange(key, offset, length), size)) {
+            OptionalLong durationMicros = Mp4DurationParser.parseDurationMicros(in);
+            if (durationMicros.isPresent()) {
+                return toWholeSeconds(durationMicros.getAsLong());
+            }
+        } catch (IOException e) {
+            log.error("업로드 영상 길이 조회 실패: key={}, error={}", key, e.getMessage(), e);
+            throw new RuntimeException("영상 길이 확인 중 오류가 발생했습니다.", e);
+        }
+        throw new InvalidFileException(fileName + " duration could not be read (MP4/MOV only)");
+    }
+
     /**
      * 영상 길이 검증 (최대 120초)
      */
@@ -218,17 +514,41 @@ public class SitterAiVideoProfileService {
     }
 
     /**
-     * 영상 길이 추출 (임시 구현: 파일 크기 기반 추정)
+     * 영상 길이 추출
      *
-     * FUTURE ENHANCEMENT: FFmpeg 또는 Xuggler를 사용한 정확한 영상 메타데이터 추출
+     * MP4/MOV 컨테이너의 moov/mvhd 에서 timescale 과 duration 을 읽어 정확한 길이(초, 올림)를 구한다.
+     * 영상 본문은 건너뛰므로 파일 전체를 메모리에 올리지 않는다.
+     * 컨테이너를 해석할 수 없는 형식(WebM 등)은 파일 크기 기반 추정으로 대체한다.
+     */
+    private Integer extractVideoDuration(MultipartFile videoFile) {
+        try (InputStream in = videoFile.getInputStream()) {
+            OptionalLong durationMicros = Mp4DurationParser.parseDurationMicros(in);
+            if (durationMicros.isPresent()) {
+                return toWholeSeconds(durationMicros.getAsLong());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read video container for duration: file={}, error={}",
+                    videoFile.getOriginalFilename(), e.getMessage());
+        }
+        return estimateVideoDuration(videoFile.getSize(), videoFile.getOriginalFilename());
+    }
+
+    // 마이크로초 → 초 (올림)
+    private int toWholeSeconds(long durationMicros) {
+        long seconds = durationMicros / 1_000_000 + (durationMicros % 1_000_000 == 0 ? 0 : 1);
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 파일 크기 기반 영상 길이 추정 (컨테이너에서 길이를 읽을 수 없는 경우)
      *
-     * 현재는 파일 크기 기반으로 보수적으로 추정하여 최대 길이 검증만 수행
+     * 보수적으로 추정하여 최대 길이 검증만 수행한다.
      * 추정 기준: 1MB ≈ 10초 (매우 보수적 - 실제는 더 짧을 수 있음)
-     * 이는 고화질 영상 기준이며, 악의적 대용량 파일 업로드를 방지하기 위한 임시 조치
+     * 이는 고화질 영상 기준이며, 악의적 대용량 파일 업로드를 방지하기 위한 조치
      */
-    private Integer extractVideoDuration(MultipartFile videoFile) {
+    private Integer estimateVideoDuration(long fileSize, String fileName) {
         // 파일 크기 기반 최대 추정 길이 계산
-        long fileSizeInMB = videoFile.getSize() / (1024 * 1024);
+        long fileSizeInMB = fileSize / (1024 * 1024);
         int estimatedMaxSeconds = (int) (fileSizeInMB * 10); // 1MB당 10초로 보수적 추정
 
         // 추정된 최대 길이가 제한을 초과하는 경우 사전 차단
@@ -238,37 +558,138 @@ public class SitterAiVideoProfileService {
                     fileSizeInMB, estimatedMaxSeconds, MAX_VIDEO_DURATION_SECONDS);
 
             throw new VideoDurationExceededException(
-                    videoFile.getOriginalFilename(),
+                    fileName,
                     MAX_VIDEO_DURATION_SECONDS,
                     estimatedMaxSeconds
             );
         }
 
-        log.warn("Video duration extraction not fully implemented - using file size based estimation. " +
-                "Actual duration verification will be available after FFmpeg integration.");
-
-        // 실제 FFmpeg 구현 전까지는 null 반환 (추정치는 검증에만 사용)
-        // 향후 구현 예시:
-        // FFmpegFrameGrabber grabber = new FFmpegFrameGrabber(videoFile.getInputStream());
-        // grabber.start();
-        // int duration = (int) (grabber.getLengthInTime() / 1_000_000); // microseconds to seconds
-        // grabber.stop();
-        // return duration;
+        log.warn("Video duration could not be read from container - using file size based estimation: file={}",
+                fileName);
 
+        // 추정치는 검증에만 사용하고 저장하지 않는다
         return null;
     }
 
     /**
-     * S3에 영상 업로드
-     * AWS S3 SDK를 사용한 파일 업로드
+     * 영상 비동기 업로드 (videoUploadExecutor)
+     * 실패하면 취소 플래그를 세워 함께 업로드 중인 다른 영상이 다음 파트 전에 중단되도록 한다.
      */
-    private String uploadVideoToS3(MultipartFile videoFile, Long sitterId, String videoType) {
-        String folder = String.format("sitter/%d/ai-profile", sitterId);
-        String s3Key = s3Service.uploadFile(videoFile, folder);
-        
-        log.info("Video uploaded to S3: sitterId={}, videoType={}, s3Key={}", 
-                sitterId, videoType, s3Key);
-        
-        return s3Key;
+    private CompletableFuture<UploadResult> uploadVideoAsync(MultipartFile videoFile, String declaredSha256,
+                                                                           Long sitterId, String videoType,
+                                                                           AtomicBoolean cancelled,
+                                                                           Map<String, String> reusableKeys) {
+        return CompletableFuture
+                .supplyAsync(() -> uploadVideo(videoFile, declaredSha256, sitterId, videoType, cancelled, reusableKeys),
+                        videoUploadExecutor)
+                .whenComplete((key, ex) -> {
+                    if (ex != null) {
+                        cancelled.set(true);
+                    }
+                });
+    }
+
+    /**
+     * 실패한 요청에서 이미 완료된 업로드 정리 (재사용한 기존 객체는 프로필이 참조 중이므로 남긴다)
+     */
+    private void cleanupCompletedUpload(CompletableFuture<UploadResult> upload) {
+        if (upload.isDone() && !upload.isCompletedExceptionally() && !upload.join().isReused()) {
+            safeDeleteFromStorage(upload.join().getKey());
+        }
+    }
+
+    /**
+     * 기존 프로필 영상의 내용 해시 → 객체 키 (재업로드 시 중복 제거용)
+     */
+    private Map<String, String> findReusableVideoKeys(Long sitterId) {
+        Map<String, String> keysBySha256 = new HashMap<>();
+        aiVideoProfileRepository.findBySitterId(sitterId).ifPresent(profile -> {
+            if (profile.getIntroVideoSha256() != null && profile.getIntroVideoUrl() != null) {
+                keysBySha256.put(profile.getIntroVideoSha256(), profile.getIntroVideoUrl());
+            }
+            if (profile.getAnswerVideoSha256() != null && profile.getAnswerVideoUrl() != null) {
+                keysBySha256.putIfAbsent(profile.getAnswerVideoSha256(), profile.getAnswerVideoUrl());
+            }
+        });
+        return keysBySha256;
+    }
+
+    /**
+     * 업로드 실패 원인 추출 (취소로 인한 실패보다 실제 실패 원인을 우선한다)
+     */
+    private RuntimeException unwrapUploadFailure(CompletableFuture<UploadResult> introUpload,
+                                                 CompletableFuture<UploadResult> answerUpload,
+                                                 CompletionException fallback) {
+        Throwable cause = null;
+        for (CompletableFuture<UploadResult> upload : List.of(introUpload, answerUpload)) {
+            try {
+                upload.join();
+            } catch (CompletionException e) {
+                Throwable failure = e.getCause() != null ? e.getCause() : e;
+                if (cause == null || cause instanceof CancellationException) {
+                    cause = failure;
+                }
+            }
+        }
+        if (cause == null) {
+            cause = fallback.getCause() != null ? fallback.getCause() : fallback;
+        }
+        return cause instanceof RuntimeException
+                ? (RuntimeException) cause
+                : new RuntimeException("파일 업로드에 실패했습니다.", cause);
+    }
+
+    /**
+     * 영상 저장소에 업로드
+     * 클라이언트가 알려준 해시가 기존 영상과 같으면 받은 파일의 해시를 직접 계산해 확인한 뒤 전송 없이 재사용한다.
+     * 해시가 없거나 다르면 저장소 업로드 중에 해시를 계산한다 (한 파트보다 큰 파일은 전송 후에야 중복 여부를 안다).
+     */
+    private UploadResult uploadVideo(MultipartFile videoFile, String declaredSha256, Long sitterId, String videoType,
+                                                   AtomicBoolean cancelled, Map<String, String> reusableKeys) {
+        if (declaredSha256 != null) {
+            String sha256 = declaredSha256.toLowerCase(Locale.ROOT);
+            String existingKey = reusableKeys.get(sha256);
+            if (existingKey != null) {
+                String actualSha256 = sha256Of(videoFile);
+                if (actualSha256.equals(sha256)) {
+                    log.info("Video reused without transfer: sitterId={}, videoType={}, key={}",
+                            sitterId, videoType, existingKey);
+                    return new UploadResult(existingKey, sha256, true);
+                }
+                log.warn("Declared video hash mismatch: sitterId={}, videoType={}, declared={}, actual={}",
+                        sitterId, videoType, sha256, actualSha256);
+            }
+        }
+
+        UploadResult result = videoStorage.upload(
+                videoFile, videoFolder(sitterId), cancelled::get, reusableKeys);
+
+        log.info("Video uploaded to storage: sitterId={}, videoType={}, key={}, reused={}",
+                sitterId, videoType, result.getKey(), result.isReused());
+
+        return result;
+    }
+
+    /**
+     * 받은 영상 파일의 SHA-256 hex (요청 임시 파일을 읽으며 계산, 저장소 전송 없음)
+     */
+    private String sha256Of(MultipartFile videoFile) {
+        try (InputStream in = videoFile.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String videoFolder(Long sitterId) {
+        return String.format("sitter/%d/ai-profile", sitterId);
     }
 }
@@ -0,0 +1,573 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.dto.SitterJobMatchResponse;
+import com.babyon.childcare.entity.*;
+import com.babyon.childcare.event.JobPostingChangedEvent;
+import com.babyon.childcare.event.SitterProfileChangedEvent;
+import com.babyon.childcare.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 시터 추천 구인글 매칭 서비스
+ *
+ * 요청 시점에 시터 × 구인글을 교차 조인하지 않고, 변경이 생길 때 증분으로 계산해 sitter_job_matches 에 보관한다.
+ * - 구인글 등록/수정/마감: 해당 구인글의 기존 매칭을 지우고, 서비스 지역이 겹치는 시터만 후보로 점수를 계산한다.
+ *   후보는 구인글 위치에서 뽑은 시/도 표기로 sitter_service_areas(city, district) 인덱스를 조회해 찾는다.
+ *   신규 구인글이면 근무 가능 시간이 맞고 점수가 기준 이상인 시터에게 알림을 기록한다 (NewPostingAlertService).
+ * - 시터 프로필/근무 시간/서비스 지역 변경: 해당 시터의 매칭을 전부 다시 계산한다.
+ * 시터마다 점수 상위 N건만 남기며, 갱신은 matchingExecutor(단일 스레드)에서 커밋 이후 순차 실행된다.
+ * 구인글 갱신은 변경 트랜잭션에서 posting_match_tasks 표식을 함께 기록하고 갱신 트랜잭션에서 지운다.
+ * 작업이 큐 포화로 버려지거나 재시작으로 유실되면 남은 표식을 주기 작업(retryStalePostings)이 다시 실행한다.
+ * 신규 구인글 알림 여부도 표식(alert_pending)에 기록되므로, 알림 팬아웃은 아웃박스 기록과 표식 삭제가 함께 커밋될 때 한 번만 실행된다.
+ *
+ * 서비스 지역이 없는 시터는 후보에 포함되지 않는다 (지역 등록 시 계산됨).
+ */
+@Service
+@Slf4j
+public class SitterMatchingService {
+
+    // 항목별 가중치 (합계 1.0)
+    private static final double WEIGHT_AREA = 0.25;
+    private static final double WEIGHT_SCHEDULE = 0.25;
+    private static final double WEIGHT_SERVICE_TYPE = 0.15;
+    private static final double WEIGHT_EXPERIENCE = 0.15;
+    private static final double WEIGHT_AGE_GROUP = 0.10;
+    private static final double WEIGHT_RATE = 0.10;
+
+    // 정보가 없어 판단할 수 없는 항목의 점수
+    private static final double UNKNOWN_SCORE = 0.5;
+    // 시/도만 일치하고 구/군은 다른 경우의 지역 점수
+    private static final double CITY_ONLY_SCORE = 0.6;
+    // 시터 희망 시급이 구인글 시급을 초과한 비율당 감점 배수
+    private static final double RATE_OVERRUN_PENALTY = 2.0;
+
+    // 시/도 행정구역 접미사 (긴 것부터 비교)
+    private static final List<String> CITY_SUFFIXES = List.of("특별자치시", "특별자치도", "특별시", "광역시", "시", "도");
+
+    // 아이 나이 표기 ("3세", "18개월", "5살")
+    private static final Pattern CHILD_AGE_PATTERN = Pattern.compile("(\\d+)\\s*(개월|세|살)?");
+
+    // 구인 유형별로 해당되는 시터 서비스 유형
+    private static final Map<JobPosting.JobType, Set<String>> SERVICE_TYPES_BY_JOB_TYPE = Map.of(
+            JobPosting.JobType.REGULAR_CARE, Set.of("LONG_TERM", "LIVE_IN"),
+            JobPosting.JobType.PART_TIME, Set.of("SHORT_TERM", "LONG_TERM"),
+            JobPosting.JobType.SCHOOL_ESCORT, Set.of("PICKUP_DROPOFF"),
+            JobPosting.JobType.ONE_TIME, Set.of("SHORT_TERM"),
+            JobPosting.JobType.EMERGENCY, Set.of("SHORT_TERM"),
+            JobPosting.JobType.TEMPORARY, Set.of("SHORT_TERM")
+    );
+
+    private static final String INSERT_SQL = "INSERT INTO sitter_job_matches " +
+            "(sitter_id, job_posting_id, score, computed_at) VALUES (?, ?, ?, ?)";
+
+    private static final String REQUEST_POSTING_SQL = "INSERT INTO posting_match_tasks " +
+            "(job_posting_id, requested_at, alert_pending) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE requested_at = VALUES(requested_at), " +
+            "alert_pending = alert_pending OR VALUES(alert_pending)";
+
+    private static final String MARK_COMPUTED_SQL = "INSERT INTO sitter_match_states (sitter_id, computed_at) " +
+            "VALUES (?, ?) ON DUPLICATE KEY UPDATE computed_at = VALUES(computed_at)";
+
+    // 시터 ID IN 조회 한 번에 넣는 최대 개수 (인기 지역 구인글은 후보 시터가 수천 명일 수 있음)
+    private static final int SITTER_ID_BATCH_SIZE = 500;
+    // 예약한 전체 계산이 끝나지 않았을 때 다시 예약하기까지의 시간
+    private static final long PENDING_RESCHEDULE_MILLIS = 60_000;
+    // 이 시간이 지나도 남아 있는 구인글 갱신 표식은 유실된 것으로 보고 다시 실행한다
+    private static final long STALE_TASK_SECONDS = 60;
+    // 주기 작업 한 번에 다시 예약하는 최대 구인글 수
+    private static final int STALE_TASK_BATCH_SIZE = 100;
+
+    private final SitterJobMatchRepository matchRepository;
+    private final SitterMatchStateRepository matchStateRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final PostingMatchTaskRepository postingMatchTaskRepository;
+    private final SitterRepository sitterRepository;
+    private final SitterProfileRepository sitterProfileRepository;
+    private final SitterServiceAreaRepository serviceAreaRepository;
+    private final SitterAvailableTimeRepository availableTimeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NewPostingAlertService newPostingAlertService;
+    private final Executor matchingExecutor;
+    private final int topN;
+    private final double minScore;
+    private final double alertMinScore;
+
+    // 전체 계산을 예약하고 아직 끝나지 않은 시터 → 예약 시각 (같은 시터의 중복 예약 방지)
+    // matchingExecutor 는 큐가 가득 차면 작업을 버리므로 일정 시간이 지나면 다시 예약할 수 있다
+    private final Map<Long, Long> pendingSitters = new ConcurrentHashMap<>();
+
+    public SitterMatchingService(SitterJobMatchRepository matchRepository,
+                                 SitterMatchStateRepository matchStateRepository,
+                                 JobPostingRepository jobPostingRepository,
+                                 PostingMatchTaskRepository postingMatchTaskRepository,
+                                 SitterRepository sitterRepository,
+                                 SitterProfileRepository sitterProfileRepository,
+                                 SitterServiceAreaRepository serviceAreaRepository,
+                                 SitterAvailableTimeRepository availableTimeRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 NewPostingAlertService newPostingAlertService,
+                                 @Qualifier("matchingExecutor") Executor matchingExecutor,
+                                 @Value("${app.matching.top-n:100}") int topN,
+                                 @Value("${app.matching.min-score:0.3}") double minScore,
+                                 @Value("${app.alerts.new-posting.min-score:0.6}") double alertMinScore) {
+        this.matchRepository = matchRepository;
+        this.matchStateRepository = matchStateRepository;
+        this.jobPostingRepository = jobPostingRepository;
+        this.postingMatchTaskRepository = postingMatchTaskRepository;
+        this.sitterRepository = sitterRepository;
+        this.sitterProfileRepository = sitterProfileRepository;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.availableTimeRepository = availableTimeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.newPostingAlertService = newPostingAlertService;
+        this.matchingExecutor = matchingExecutor;
+        this.topN = topN;
+        this.minScore = minScore;
+        this.alertMinScore = alertMinScore;
+    }
+
+    /**
+     * 시터 추천 구인글 조회 (사전 계산된 결과)
+     * 전체 계산 기록(sitter_match_states)이 없는 시터는 백그라운드 계산을 예약하고 현재까지의 결과를 반환한다.
+     * 구인글 증분 갱신으로 일부 행만 들어온 시터도 기존 구인글까지 포함해 한 번은 전체 계산된다.
+     * @param sitterId 시터 ID
+     * @param limit 조회 건수 (1 ~ top-n)
+     */
+    @Transactional(readOnly = true)
+    public List<SitterJobMatchResponse> getMatches(Long sitterId, int limit) {
+        if (limit < 1 || limit > topN) {
+            throw new IllegalArgumentException("추천 조회 건수는 1 ~ " + topN + " 사이여야 합니다: " + limit);
+        }
+
+        if (!matchStateRepository.existsById(sitterId)) {
+            scheduleRefreshSitter(sitterId);
+        }
+
+        List<SitterJobMatch> matches = matchRepository.findTopBySitterId(
+                sitterId, LocalDateTime.now(), PageRequest.of(0, limit));
+
+        return matches.stream()
+                .map(SitterJobMatchResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 구인글 변경 트랜잭션 안에서 갱신 대기 표식 기록 (변경과 함께 커밋/롤백)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordPostingChange(JobPostingChangedEvent event) {
+        jdbcTemplate.update(REQUEST_POSTING_SQL, event.getJobPostingId(), Timestamp.valueOf(LocalDateTime.now()),
+                event.isCreated());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobPostingChanged(JobPostingChangedEvent event) {
+        schedulePosting(event.getJobPostingId());
+    }
+
+    /**
+     * 유실된 구인글 갱신 재실행
+     * 커밋 후 작업이 큐 포화로 버려졌거나 실행 전에 재시작된 구인글은 표식이 남아 있으므로 다시 예약한다.
+     * 이미 큐에 있는 작업과 겹쳐도 먼저 끝난 쪽이 표식을 지우므로 나중 작업은 아무것도 하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.matching.stale-task-check-interval-ms:60000}")
+    public void retryStalePostings() {
+        List<Long> stale = postingMatchTaskRepository.findStaleIds(
+                LocalDateTime.now().minusSeconds(STALE_TASK_SECONDS), PageRequest.of(0, STALE_TASK_BATCH_SIZE));
+        if (stale.isEmpty()) {
+            return;
+        }
+        log.info("유실된 구인글 추천 매칭 갱신 재예약 - {}건", stale.size());
+        stale.forEach(this::schedulePosting);
+    }
+
+    private void schedulePosting(Long jobPostingId) {
+        matchingExecutor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> processPostingTask(jobPostingId));
+            } catch (RuntimeException e) {
+                log.error("구인글 추천 매칭 갱신 실패 - jobPostingId: {}", jobPostingId, e);
+            }
+        });
+    }
+
+    // 갱신 대기 표식이 있는 구인글만 갱신하고 같은 트랜잭션에서 표식 삭제 (알림 대기였으면 알림 팬아웃 포함)
+    private void processPostingTask(Long jobPostingId) {
+        PostingMatchTask task = postingMatchTaskRepository.findById(jobPostingId).orElse(null);
+        if (task == null) {
+            // 다른 작업이 이미 처리함
+            return;
+        }
+        boolean alertPending = Boolean.TRUE.equals(task.getAlertPending());
+        refreshPosting(jobPostingId, alertPending);
+        if (postingMatchTaskRepository.deleteProcessed(jobPostingId, task.getRequestedAt()) == 0 && alertPending) {
+            postingMatchTaskRepository.clearAlertPending(jobPostingId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSitterProfileChanged(SitterProfileChangedEvent event) {
+        matchingExecutor.execute(() -> refreshSitterSafely(event.getSitterId()));
+    }
+
+    private void scheduleRefreshSitter(Long sitterId) {
+        long now = System.currentTimeMillis();
+        Long scheduledAt = pendingSitters.putIfAbsent(sitterId, now);
+        if (scheduledAt != null
+                && (now - scheduledAt < PENDING_RESCHEDULE_MILLIS || !pendingSitters.replace(sitterId, scheduledAt, now))) {
+            return;
+        }
+        matchingExecutor.execute(() -> {
+            try {
+                refreshSitterSafely(sitterId);
+            } finally {
+                pendingSitters.remove(sitterId);
+            }
+        });
+    }
+
+    private void refreshSitterSafely(Long sitterId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> refreshSitter(sitterId));
+        } catch (RuntimeException e) {
+            log.error("시터 추천 매칭 갱신 실패 - sitterId: {}", sitterId, e);
+        }
+    }
+
+    // 구인글 하나에 대한 매칭 갱신: 후보 시터 점수 계산 후 각 시터의 상위 N건 유지, 알림 대기 구인글이면 알림 팬아웃
+    private void refreshPosting(Long jobPostingId, boolean alertPending) {
+        matchRepository.deleteByJobPostingId(jobPostingId);
+
+        JobPosting posting = jobPostingRepository.findById(jobPostingId).orElse(null);
+        if (posting == null || !isOpen(posting, LocalDateTime.now()) || posting.getLocation() == null) {
+            return;
+        }
+
+        Set<String> cities = cityVariants(posting.getLocation());
+        List<Long> candidateIds = cities.isEmpty() ? List.of() : serviceAreaRepository.findSitterIdsByCityIn(cities);
+        if (candidateIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        List<Object[]> alertTargets = new ArrayList<>();
+        for (SitterFeatures sitter : loadSitterFeatures(candidateIds)) {
+            double score = score(sitter, posting);
+            if (score >= minScore) {
+                rows.add(new Object[]{sitter.sitterId, jobPostingId, score, Timestamp.valueOf(now)});
+            }
+            if (alertPending && score >= alertMinScore && coversSchedule(sitter, posting)) {
+                alertTargets.add(new Object[]{sitter.sitterId, score});
+            }
+        }
+
+        if (!alertTargets.isEmpty()) {
+            List<Long> recipients = alertTargets.stream()
+                    .sorted(Comparator.comparingDouble((Object[] target) -> (Double) target[1]).reversed())
+                    .map(target -> (Long) target[0])
+                    .collect(Collectors.toList());
+            newPostingAlertService.fanOut(posting, recipients);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        // 상위 N건을 벗어난 기존 매칭 정리
+        List<Long> affected = rows.stream().map(row -> (Long) row[0]).distinct().collect(Collectors.toList());
+        List<Long> overflow = new ArrayList<>();
+        for (List<Long> batch : partition(affected)) {
+            matchRepository.findIdsBeyondTopN(batch, topN).forEach(id -> overflow.add(id.longValue()));
+        }
+        if (!overflow.isEmpty()) {
+            matchRepository.deleteAllByIdInBatch(overflow);
+        }
+        log.debug("구인글 추천 매칭 갱신 - jobPostingId: {}, 후보: {}, 저장: {}, 정리: {}",
+                jobPostingId, candidateIds.size(), rows.size(), overflow.size());
+    }
+
+    // 시터 한 명의 매칭 전체 재계산
+    private void refreshSitter(Long sitterId) {
+        LocalDateTime now = LocalDateTime.now();
+        matchRepository.deleteBySitterId(sitterId);
+        // 전체 계산 완료 표식 (매칭 행과 같은 트랜잭션으로 커밋, 지연 초기화 대상에서 제외)
+        jdbcTemplate.update(MARK_COMPUTED_SQL, sitterId, Timestamp.valueOf(now));
+
+        List<SitterFeatures> features = loadSitterFeatures(List.of(sitterId));
+        if (features.isEmpty()) {
+            return;
+        }
+        SitterFeatures sitter = features.get(0);
+
+        List<Object[]> rows = jobPostingRepository.findMatchCandidatesForSitter(sitterId, now).stream()
+                .map(posting -> new Object[]{sitterId, posting.getId(), score(sitter, posting), Timestamp.valueOf(now)})
+                .filter(row -> (Double) row[2] >= minScore)
+                .sorted(Comparator.comparingDouble((Object[] row) -> (Double) row[2]).reversed()
+                        .thenComparing(row -> (Long) row[1], Comparator.reverseOrder()))
+                .limit(topN)
+                .collect(Collectors.toList());
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        log.debug("시터 추천 매칭 재계산 - sitterId: {}, 저장: {}", sitterId, rows.size());
+    }
+
+    // 시터 특징값 일괄 적재 (SITTER_ID_BATCH_SIZE 명마다 4회 조회, 프로필이 비활성인 시터는 제외)
+    private List<SitterFeatures> loadSitterFeatures(List<Long> sitterIds) {
+        List<SitterFeatures> result = new ArrayList<>();
+        for (List<Long> batch : partition(sitterIds)) {
+            Map<Long, SitterProfile> profiles = sitterProfileRepository.findBySitterIdIn(batch).stream()
+                    .collect(Collectors.toMap(profile -> profile.getSitter().getId(), profile -> profile));
+            Map<Long, List<SitterServiceArea>> areas = serviceAreaRepository.findBySitterIdIn(batch).stream()
+                    .collect(Collectors.groupingBy(area -> area.getSitter().getId()));
+            Map<Long, List<SitterAvailableTime>> times = availableTimeRepository.findBySitterIdIn(batch).stream()
+                    .collect(Collectors.groupingBy(time -> time.getSitter().getId()));
+
+            for (Sitter sitter : sitterRepository.findAllById(batch)) {
+                SitterProfile profile = profiles.get(sitter.getId());
+                if (profile != null && Boolean.FALSE.equals(profile.getIsActive())) {
+                    continue;
+                }
+                result.add(new SitterFeatures(
+                        sitter.getId(),
+                        sitter.getExperienceYears(),
+                        sitter.getHourlyRate(),
+                        areas.getOrDefault(sitter.getId(), List.of()),
+                        times.getOrDefault(sitter.getId(), List.of()),
+                        splitCodes(profile != null ? profile.getAvailableServiceTypes() : null),
+                        splitCodes(profile != null ? profile.getPreferredAgeGroups() : null)));
+            }
+        }
+        return result;
+    }
+
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += SITTER_ID_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + SITTER_ID_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private double score(SitterFeatures sitter, JobPosting posting) {
+        return WEIGHT_AREA * areaScore(sitter, posting)
+                + WEIGHT_SCHEDULE * scheduleScore(sitter, posting)
+                + WEIGHT_SERVICE_TYPE * serviceTypeScore(sitter, posting)
+                + WEIGHT_EXPERIENCE * experienceScore(sitter, posting)
+                + WEIGHT_AGE_GROUP * ageGroupScore(sitter, posting)
+                + WEIGHT_RATE * rateScore(sitter, posting);
+    }
+
+    // 서비스 지역: 시/도 + 구/군 일치 1.0, 시/도만 일치 0.6
+    private double areaScore(SitterFeatures sitter, JobPosting posting) {
+        String location = posting.getLocation();
+        if (location == null) {
+            return UNKNOWN_SCORE;
+        }
+        Set<String> cities = cityVariants(location);
+        double best = 0.0;
+        for (SitterServiceArea area : sitter.areas) {
+            if (area.getCity() == null || !(cities.contains(area.getCity()) || location.contains(area.getCity()))) {
+                continue;
+            }
+            boolean districtMatched = area.getDistrict() != null && !area.getDistrict().isBlank()
+                    && location.contains(area.getDistrict());
+            best = Math.max(best, districtMatched ? 1.0 : CITY_ONLY_SCORE);
+        }
+        return best;
+    }
+
+    // 근무 가능 시간: 구인글 기간의 요일(최대 7일) 중 해당 시간대를 소화할 수 있는 요일 비율
+    private double scheduleScore(SitterFeatures sitter, JobPosting posting) {
+        if (sitter.times.isEmpty() || posting.getStartDate() == null) {
+            return UNKNOWN_SCORE;
+        }
+
+        LocalDateTime start = posting.getStartDate();
+        LocalDateTime end = posting.getEndDate() != null ? posting.getEndDate() : start;
+        LocalTime from = start.toLocalTime();
+        LocalTime to = end.toLocalTime().isAfter(from) ? end.toLocalTime() : LocalTime.MAX;
+
+        Set<java.time.DayOfWeek> days = EnumSet.noneOf(java.time.DayOfWeek.class);
+        for (LocalDate date = start.toLocalDate(); !date.isAfter(end.toLocalDate()) && days.size() < 7; date = date.plusDays(1)) {
+            days.add(date.getDayOfWeek());
+        }
+
+        int covered = 0;
+        for (java.time.DayOfWeek day : days) {
+            SitterAvailableTime.DayOfWeek sitterDay = SitterAvailableTime.DayOfWeek.valueOf(day.name());
+            boolean available = sitter.times.stream()
+                    .filter(time -> time.getDayOfWeek() == sitterDay)
+                    .anyMatch(time -> covers(time, from, to));
+            if (available) {
+                covered++;
+            }
+        }
+        return (double) covered / days.size();
+    }
+
+    // 알림 대상 여부: 등록된 근무 가능 시간으로 구인글 기간의 모든 요일을 소화할 수 있어야 한다
+    // (근무 시간 미등록/시작일 미정은 점수 계산에서 UNKNOWN_SCORE 로 보지만 알림에서는 제외)
+    private boolean coversSchedule(SitterFeatures sitter, JobPosting posting) {
+        return !sitter.times.isEmpty() && posting.getStartDate() != null && scheduleScore(sitter, posting) >= 1.0;
+    }
+
+    // 시간대를 모두 포함하면 가능, 유연 근무는 겹치기만 해도 가능
+    private boolean covers(SitterAvailableTime time, LocalTime from, LocalTime to) {
+        if (time.getStartTime() == null || time.getEndTime() == null) {
+            return Boolean.TRUE.equals(time.getIsFlexible());
+        }
+        if (Boolean.TRUE.equals(time.getIsFlexible())) {
+            return time.getStartTime().isBefore(to) && time.getEndTime().isAfter(from);
+        }
+        return !time.getStartTime().isAfter(from) && !time.getEndTime().isBefore(to);
+    }
+
+    private double serviceTypeScore(SitterFeatures sitter, JobPosting posting) {
+        if (sitter.serviceTypes.isEmpty() || posting.getJobType() == null) {
+            return UNKNOWN_SCORE;
+        }
+        Set<String> accepted = SERVICE_TYPES_BY_JOB_TYPE.getOrDefault(posting.getJobType(), Set.of());
+        return accepted.stream().anyMatch(sitter.serviceTypes::contains) ? 1.0 : 0.0;
+    }
+
+    // 요구 경력 대비 충족률 (요구 경력 없으면 만점)
+    private double experienceScore(SitterFeatures sitter, JobPosting posting) {
+        Integer required = posting.getRequiredExperienceYears();
+        if (required == null || required <= 0) {
+            return 1.0;
+        }
+        int years = sitter.experienceYears != null ? sitter.experienceYears : 0;
+        return Math.min(1.0, (double) years / required);
+    }
+
+    // 선호 연령대에 포함되는 아이 비율
+    private double ageGroupScore(SitterFeatures sitter, JobPosting posting) {
+        List<String> groups = childAgeGroups(posting.getAgeOfChildren());
+        if (sitter.ageGroups.isEmpty() || groups.isEmpty()) {
+            return UNKNOWN_SCORE;
+        }
+        long matched = groups.stream().filter(sitter.ageGroups::contains).count();
+        return (double) matched / groups.size();
+    }
+
+    // 희망 시급이 구인글 시급(시급 환산) 이하이면 만점, 초과분에 비례해 감점
+    private double rateScore(SitterFeatures sitter, JobPosting posting) {
+        Double postingRate = posting.getNormalizedHourlyRate();
+        if (sitter.hourlyRate == null || postingRate == null || postingRate <= 0 || sitter.hourlyRate <= postingRate) {
+            return 1.0;
+        }
+        return Math.max(0.0, 1.0 - (sitter.hourlyRate / postingRate - 1.0) * RATE_OVERRUN_PENALTY);
+    }
+
+    private boolean isOpen(JobPosting posting, LocalDateTime now) {
+        return Boolean.TRUE.equals(posting.getIsActive())
+                && (posting.getEndDate() == null || !posting.getEndDate().isBefore(now));
+    }
+
+    // 자유 입력 아이 나이 → 연령대 (SitterProfile.AgeGroup 이름)
+    private List<String> childAgeGroups(String ageOfChildren) {
+        if (ageOfChildren == null || ageOfChildren.isBlank()) {
+            return List.of();
+        }
+        List<String> groups = new ArrayList<>();
+        Matcher matcher = CHILD_AGE_PATTERN.matcher(ageOfChildren);
+        while (matcher.find()) {
+            int value = Integer.parseInt(matcher.group(1));
+            int years = "개월".equals(matcher.group(2)) ? value / 12 : value;
+            if (years < 1) {
+                groups.add(SitterProfile.AgeGroup.INFANT.name());
+            } else if (years <= 3) {
+                groups.add(SitterProfile.AgeGroup.TODDLER.name());
+            } else if (years <= 6) {
+                groups.add(SitterProfile.AgeGroup.PRESCHOOL.name());
+            } else {
+                groups.add(SitterProfile.AgeGroup.SCHOOL_AGE.name());
+            }
+        }
+        return groups;
+    }
+
+    // 구인글 위치(자유 입력 주소)의 각 어절을 시/도 표기 후보로 확장 ("서울특별시" ↔ "서울" ↔ "서울시")
+    // 서비스 지역 city 컬럼과 IN 으로 비교하여 idx_city_district 인덱스를 사용한다.
+    private static Set<String> cityVariants(String location) {
+        Set<String> variants = new LinkedHashSet<>();
+        if (location == null) {
+            return variants;
+        }
+        for (String token : location.trim().split("[\\s,]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            variants.add(token);
+            String stem = token;
+            for (String suffix : CITY_SUFFIXES) {
+                if (token.length() > suffix.length() + 1 && token.endsWith(suffix)) {
+                    stem = token.substring(0, token.length() - suffix.length());
+                    break;
+                }
+            }
+            variants.add(stem);
+            for (String suffix : CITY_SUFFIXES) {
+                variants.add(stem + suffix);
+            }
+        }
+        return variants;
+    }
+
+    private Set<String> splitCodes(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static final class SitterFeatures {
+        private final Long sitterId;
+        private final Integer experienceYears;
+        private final Double hourlyRate;
+        private final List<SitterServiceArea> areas;
+        private final List<SitterAvailableTime> times;
+        private final Set<String> serviceTypes;
+        private final Set<String> ageGroups;
+
+        private SitterFeatures(Long sitterId, Integer experienceYears, Double hourlyRate,
+                               List<SitterServiceArea> areas, List<SitterAvailableTime> times,
+                               Set<String> serviceTypes, Set<String> ageGroups) {
+            this.sitterId = sitterId;
+            this.experienceYears = experienceYears;
+            this.hourlyRate = hourlyRate;
+            this.areas = areas;
+            this.times = times;
+            this.serviceTypes = serviceTypes;
+            this.ageGroups = ageGroups;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.babyon.childcare.service;
 
 import com.babyon.childcare.dto.*;
 import com.babyon.childcare.entity.*;
+import com.babyon.childcare.event.SitterProfileChangedEvent;
 import com.babyon.childcare.repository.*;
+import com.babyon.childcare.util.ETagUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +30,8 @@ public class SitterProfileService {
     private final SitterAvailableTimeRepository availableTimeRepository;
     private final SitterServiceAreaRepository serviceAreaRepository;
     private final SitterVideoResumeRepository videoResumeRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get or create sitter profile by sitter ID
@@ -42,6 +47,31 @@ public class SitterProfileService {
         return toProfileResponse(profile);
     }
 
+    /**
+     * 프로필 상세 조회 시 대표 영상 이력서 조회수 집계 (쓰기 지연, ViewCountBuffer)
+     * ETag 일치(304) 응답도 조회이므로 본문 조회와 별개로 컨트롤러가 두 경로 모두에서 호출한다.
+     * @param viewerEmail 조회자 이메일 (비로그인 null) - 시터 본인의 조회는 집계하지 않는다
+     */
+    public void recordProfileView(Long sitterId, String viewerEmail) {
+        if (viewerEmail != null && sitterRepository.existsByIdAndEmail(sitterId, viewerEmail)) {
+            return;
+        }
+        videoResumeRepository.findPrimaryIdBySitterId(sitterId)
+                .ifPresent(viewCountBuffer::recordVideoResumeView);
+    }
+
+    /**
+     * Compute strong ETag for sitter profile without loading the aggregate.
+     * Returns null when the profile does not exist yet (first view creates it).
+     */
+    public String getProfileETag(Long sitterId) {
+        List<Object[]> rows = sitterProfileRepository.findVersionStampBySitterId(sitterId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return ETagUtils.strong("sp", sitterId, rows.get(0));
+    }
+
     /**
      * Update sitter profile
      */
@@ -65,6 +95,7 @@ public class SitterProfileService {
         profile.setProfileCompleted(isProfileCompleted(profile));
 
         SitterProfile savedProfile = sitterProfileRepository.save(profile);
+        eventPublisher.publishEvent(new SitterProfileChangedEvent(sitterId));
         return toProfileResponse(savedProfile);
     }
 
@@ -184,6 +215,7 @@ public class SitterProfileService {
         availableTime.setIsFlexible(request.getIsFlexible());
 
         SitterAvailableTime saved = availableTimeRepository.save(availableTime);
+        eventPublisher.publishEvent(new SitterProfileChangedEvent(sitterId));
         return toAvailableTimeResponse(saved);
     }
 
@@ -198,6 +230,7 @@ public class SitterProfileService {
             throw new RuntimeException("해당 근무 가능 시간에 대한 접근 권한이 없습니다");
         }
         availableTimeRepository.delete(time);
+        eventPublisher.publishEvent(new SitterProfileChangedEvent(sitterId));
     }
 
     /**
@@ -217,6 +250,7 @@ public class SitterProfileService {
         serviceArea.setIsPrimary(request.getIsPrimary());
 
         SitterServiceArea saved = serviceAreaRepository.save(serviceArea);
+        eventPublisher.publishEvent(new SitterProfileChangedEvent(sitterId));
         return toServiceAreaResponse(saved);
     }
 
@@ -231,6 +265,7 @@ public class SitterProfileService {
             throw new RuntimeException("해당 서비스 지역에 대한 접근 권한이 없습니다");
         }
         serviceAreaRepository.delete(area);
+        eventPublisher.publishEvent(new SitterProfileChangedEvent(sitterId));
     }
 
     // Helper methods
@@ -0,0 +1,96 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.repository.SitterAiVideoProfileRepository;
+import com.babyon.childcare.repository.SitterVideoResumeRepository;
+import com.babyon.childcare.util.DeltaCounters;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼 (AI 화상 이력서, 영상 이력서)
+ *
+ * 조회마다 UPDATE 를 실행하면 인기 프로필의 조회가 같은 행 잠금에 줄을 서므로,
+ * 요청 스레드는 id 별 LongAdder(DeltaCounters) 에 더하기만 하고 (잠금 없음, 경합 시 셀 분산)
+ * 스케줄러 스레드가 주기적으로 누적분을 꺼내 한 트랜잭션에서 일괄 반영한다.
+ * 같은 증가분을 가진 id 를 묶어 "view_count = view_count + :delta WHERE id IN (...)" 으로 실행하므로
+ * 대부분의 id 가 1~2회 조회되는 flush 주기에서는 UPDATE 문이 몇 개로 줄어든다.
+ *
+ * - 반영 실패 시 꺼낸 증가분을 버퍼에 되돌려 다음 주기에 다시 시도한다
+ * - 종료 시(@PreDestroy) 남은 증가분을 마지막으로 반영한다
+ * - 프로세스가 비정상 종료되면 마지막 flush 이후의 조회수(최대 flush-interval-ms 분량)가 유실된다
+ * - 한 주기 동안 조회가 없던 id 는 버퍼에서 제거되며, 제거와 동시에 들어온 조회 1건은 드물게 누락될 수 있다
+ * 조회수는 통계용 근사값이므로 위 손실 범위를 허용한다.
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    private final SitterAiVideoProfileRepository aiVideoProfileRepository;
+    private final SitterVideoResumeRepository videoResumeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // AI 화상 이력서 조회수 (시터 ID 기준)
+    private final DeltaCounters aiProfileViews = new DeltaCounters();
+    // 영상 이력서 조회수 (영상 이력서 ID 기준)
+    private final DeltaCounters videoResumeViews = new DeltaCounters();
+
+    public ViewCountBuffer(SitterAiVideoProfileRepository aiVideoProfileRepository,
+                           SitterVideoResumeRepository videoResumeRepository,
+                           TransactionTemplate transactionTemplate) {
+        this.aiVideoProfileRepository = aiVideoProfileRepository;
+        this.videoResumeRepository = videoResumeRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void recordAiProfileView(Long sitterId) {
+        aiProfileViews.increment(sitterId);
+    }
+
+    public void recordVideoResumeView(Long videoResumeId) {
+        videoResumeViews.increment(videoResumeId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        flush("AI 화상 이력서", aiProfileViews, aiVideoProfileRepository::addViewCount);
+        flush("영상 이력서", videoResumeViews, videoResumeRepository::addViewCount);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 반영 완료");
+    }
+
+    private void flush(String target, DeltaCounters views,
+                       BiFunction<Collection<Long>, Integer, Integer> addViewCount) {
+        Map<Long, Long> deltas = views.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Long>> idsByDelta = DeltaCounters.groupByDelta(deltas);
+        try {
+            transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+                    addViewCount.apply(ids.subList(from, Math.min(from + UPDATE_BATCH_SIZE, ids.size())), delta);
+                }
+            }));
+            log.debug("{} 조회수 반영: ids={}, statements={}", target, deltas.size(), idsByDelta.size());
+        } catch (Exception e) {
+            // 되돌려 두고 다음 주기에 다시 반영
+            views.restore(deltas);
+            log.warn("{} 조회수 반영 실패 (다음 주기에 재시도): ids={}, error={}", target, deltas.size(), e.getMessage());
+        }
+    }
+}
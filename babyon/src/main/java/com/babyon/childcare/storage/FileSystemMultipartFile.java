@@ -0,0 +1,78 @@
+package com.babyon.childcare.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일을 MultipartFile 로 노출하는 어댑터
+ *
+ * 재개 가능한 업로드로 조립된 임시 파일을 기존 업로드 경로(VideoStorage.upload)에 그대로 넘기기 위해 사용한다.
+ * getInputStream 은 파일 스트림이므로 skip 이 seek 로 처리되고, 여러 번 호출해도 처음부터 다시 읽는다.
+ */
+public class FileSystemMultipartFile implements MultipartFile {
+
+    private final Path path;
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+
+    public FileSystemMultipartFile(Path path, String name, String originalFilename, String contentType, long size) {
+        this.path = path;
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException {
+        Files.copy(path, dest, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,350 @@
+package com.babyon.childcare.storage;
+
+import com.babyon.childcare.exception.InvalidFileException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 파일시스템 영상 저장소 (VideoStorage 의 로컬 구현, app.storage.type=local)
+ *
+ * AWS 없이 개발/테스트/온프레미스 환경에서 AI 프로필 흐름 전체를 실행하기 위한 구현이다.
+ * - 업로드: 임시 파일에 FileChannel 로 기록한 뒤 객체 경로로 원자적 이동
+ * - 다운로드/직접 업로드: LocalStorageController 가 HMAC-SHA256 서명과 만료 시각이 포함된 URL 을 검증
+ *   (S3 Presigned URL 흉내, 서명 키는 설정하지 않으면 기동 시 무작위 생성)
+ * - MIME 타입은 객체 옆의 .meta 파일에 보관한다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalVideoStorage implements VideoStorage {
+
+    public static final String URL_PATH = "/api/public/storage/";
+
+    private static final String META_SUFFIX = ".meta";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private final Path rootDir;
+    private final Path tempDir;
+    private final String baseUrl;
+    private final SecretKeySpec signingKey;
+    private final PresignedUrlCache presignedUrlCache;
+
+    public LocalVideoStorage(PresignedUrlCache presignedUrlCache,
+                             @Value("${app.storage.local.root-dir:./local-storage}") String rootDir,
+                             @Value("${app.storage.local.base-url:http://localhost:8080}") String baseUrl,
+                             @Value("${app.storage.local.signing-secret:}") String signingSecret) {
+        this.presignedUrlCache = presignedUrlCache;
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.tempDir = this.rootDir.resolve(".tmp");
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+
+        byte[] secret;
+        if (signingSecret == null || signingSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            log.warn("app.storage.local.signing-secret 미설정 - 무작위 키 사용 (재기동 시 발급된 URL 무효)");
+        } else {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.signingKey = new SecretKeySpec(secret, "HmacSHA256");
+
+        try {
+            Files.createDirectories(this.tempDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("로컬 저장소 디렉터리를 만들 수 없습니다: " + this.rootDir, e);
+        }
+        log.info("로컬 영상 저장소 사용: rootDir={}", this.rootDir);
+    }
+
+    @Override
+    public String newObjectKey(String folder, String originalFilename) {
+        String extension = originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
+        return folder + "/" + UUID.randomUUID() + extension;
+    }
+
+    @Override
+    public UploadResult upload(MultipartFile file, String folder, BooleanSupplier cancelled,
+                               Map<String, String> reusableKeysBySha256) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("업로드가 취소되었습니다.");
+        }
+
+        String key = newObjectKey(folder, file.getOriginalFilename());
+        MessageDigest digest = newSha256();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDir, "upload-", ".part");
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(file.getInputStream(), digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (true) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new CancellationException("업로드가 취소되었습니다.");
+                    }
+                    long transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String existingKey = reusableKeysBySha256.get(sha256);
+            if (existingKey != null) {
+                log.info("동일 내용의 기존 객체 재사용: existingKey={}, sha256={}", existingKey, sha256);
+                return new UploadResult(existingKey, sha256, true);
+            }
+
+            moveIntoPlace(temp, key, file.getContentType());
+            temp = null;
+            log.info("파일 업로드 성공 (로컬): key={}, size={}", key, file.getSize());
+            return new UploadResult(key, sha256, false);
+
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 서명 URL 로 직접 업로드된 본문 저장 (LocalStorageController 에서 호출)
+     * @param expectedLength 서명에 포함된 Content-Length (실제 본문 크기와 다르면 저장하지 않는다)
+     */
+    public void store(String key, String contentType, InputStream body, long expectedLength) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "put-", ".part");
+        try {
+            long position = 0;
+            try (ReadableByteChannel source = Channels.newChannel(body);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (position <= expectedLength) {
+                    long transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+            }
+            if (position != expectedLength) {
+                throw new InvalidFileException(
+                        String.format("Uploaded size %d does not match signed length %d", position, expectedLength));
+            }
+            moveIntoPlace(temp, key, contentType);
+            temp = null;
+            log.info("직접 업로드 저장 완료 (로컬): key={}, size={}", key, position);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public String generatePresignedUrl(String key, Duration duration) {
+        return presignedUrlCache.get(key, duration, () -> {
+            long expires = Instant.now().plus(duration).getEpochSecond();
+            return buildUrl(key, expires, sign("GET", key, expires, null, null));
+        });
+    }
+
+    @Override
+    public String generatePresignedPutUrl(String key, String contentType, long contentLength, Duration duration) {
+        long expires = Instant.now().plus(duration).getEpochSecond();
+        return buildUrl(key, expires, sign("PUT", key, expires, contentType, contentLength));
+    }
+
+    /**
+     * 서명 URL 검증 (만료 시각, HMAC-SHA256)
+     * PUT 은 Content-Type 과 Content-Length 까지 서명 대상에 포함된다.
+     */
+    public boolean isValidSignature(String method, String key, long expires, String contentType,
+                                    Long contentLength, String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(method, key, expires, contentType, contentLength).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 객체 파일 경로 조회
+     * @return 파일이 없으면 빈 값
+     */
+    public Optional<Path> findFile(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public String contentTypeOf(String key) {
+        Path meta = metaPath(resolve(key));
+        try {
+            if (Files.isRegularFile(meta)) {
+                String contentType = Files.readString(meta, StandardCharsets.UTF_8).trim();
+                if (!contentType.isEmpty()) {
+                    return contentType;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("MIME 타입 조회 실패: key={}, error={}", key, e.getMessage());
+        }
+        return DEFAULT_CONTENT_TYPE;
+    }
+
+    @Override
+    public Optional<StoredObjectMetadata> findObjectMetadata(String key) {
+        Optional<Path> file = findFile(key);
+        if (file.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredObjectMetadata(Files.size(file.get()), contentTypeOf(key)));
+        } catch (IOException e) {
+            log.error("객체 메타데이터 조회 실패: key={}, error={}", key, e.getMessage(), e);
+            throw new RuntimeException("객체 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public byte[] readRange(String key, long offset, int length) throws IOException {
+        Path path = findFile(key).orElseThrow(() -> new NoSuchFileException(key));
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(length, 0));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    @Override
+    public void deleteFile(String key) {
+        Path path = resolve(key);
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(metaPath(path));
+            presignedUrlCache.invalidate(key);
+            log.info("파일 삭제 성공 (로컬): key={}", key);
+        } catch (IOException e) {
+            log.error("파일 삭제 실패: key={}, error={}", key, e.getMessage(), e);
+            throw new RuntimeException("파일 삭제에 실패했습니다.", e);
+        }
+    }
+
+    // ========================= Private Helper Methods =========================
+
+    /**
+     * 객체 키를 저장소 경로로 변환 (루트 밖이나 임시 디렉터리를 가리키는 키는 거부)
+     * 정규화한 경로가 키와 다르면 (".", "..", 빈 세그먼트, 역슬래시) 거부한다.
+     * 호출자는 키 접두사(폴더)로 소유 여부를 판단하므로 키가 가리키는 실제 위치가 접두사와 같아야 한다.
+     */
+    private Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("객체 키가 비어 있습니다.");
+        }
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir) || path.equals(rootDir) || path.startsWith(tempDir)
+                || !rootDir.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/").equals(key)
+                || key.contains("\\")) {
+            throw new IllegalArgumentException("잘못된 객체 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private void moveIntoPlace(Path temp, String key, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.writeString(metaPath(target), contentType != null ? contentType : DEFAULT_CONTENT_TYPE,
+                StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path metaPath(Path objectPath) {
+        return objectPath.resolveSibling(objectPath.getFileName() + META_SUFFIX);
+    }
+
+    private String buildUrl(String key, long expires, String signature) {
+        String encodedKey = Arrays.stream(key.split("/"))
+                .map(segment -> URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"))
+                .collect(Collectors.joining("/"));
+        return baseUrl + URL_PATH + encodedKey + "?expires=" + expires + "&signature=" + signature;
+    }
+
+    private String sign(String method, String key, long expires, String contentType, Long contentLength) {
+        StringBuilder stringToSign = new StringBuilder()
+                .append(method).append('\n')
+                .append(key).append('\n')
+                .append(expires);
+        if (contentType != null || contentLength != null) {
+            stringToSign.append('\n').append(contentType)
+                    .append('\n').append(contentLength);
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            return HexFormat.of().formatHex(mac.doFinal(stringToSign.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("URL 서명에 실패했습니다.", e);
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: path={}, error={}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.babyon.childcare.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 다운로드용 서명 URL 캐시 (객체 키 기준)
+ *
+ * 공개 프로필 조회마다 같은 영상의 URL 을 다시 서명(SigV4/HMAC)하지 않도록, 발급한 URL 을 만료 직전까지 재사용한다.
+ * 남은 유효 시간이 safety-margin 이하가 되면 새로 서명하므로 클라이언트는 항상 margin 이상 유효한 URL 을 받는다.
+ * 같은 키라도 요청한 유효 기간이 다르면 새로 서명해 교체한다 (호출자가 기대한 기간보다 길게 재사용하지 않음).
+ * 최대 항목 수를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다 (접근 순서 LRU).
+ */
+@Component
+public class PresignedUrlCache {
+
+    private final long safetyMarginMillis;
+    private final Map<String, Entry> entries;
+
+    public PresignedUrlCache(@Value("${app.storage.presigned-cache.max-entries:10000}") int maxEntries,
+                             @Value("${app.storage.presigned-cache.safety-margin-seconds:600}") long safetyMarginSeconds) {
+        this.safetyMarginMillis = safetyMarginSeconds * 1000L;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 URL 을 반환하거나, 없거나 만료가 가까우면 signer 로 새로 서명해 저장한다.
+     * 유효 기간이 safety-margin 이하인 요청은 재사용할 수 없으므로 캐시하지 않는다.
+     * @param key 객체 키
+     * @param duration URL 유효 기간
+     * @param signer 서명 URL 생성 (duration 만큼 유효한 URL)
+     */
+    public String get(String key, Duration duration, Supplier<String> signer) {
+        long durationMillis = duration.toMillis();
+        if (durationMillis <= safetyMarginMillis) {
+            return signer.get();
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.durationMillis == durationMillis && entry.expiresAt - now > safetyMarginMillis) {
+            return entry.url;
+        }
+
+        // 서명 전에 만료 시각을 계산하므로 실제 만료 시각보다 늦게 잡히지 않는다
+        String url = signer.get();
+        entries.put(key, new Entry(url, durationMillis, now + durationMillis));
+        return url;
+    }
+
+    /**
+     * 객체 삭제 시 캐시 제거
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    // 서명 URL 과 유효 기간, 만료 시각
+    private static final class Entry {
+
+        private final String url;
+        private final long durationMillis;
+        private final long expiresAt;
+
+        private Entry(String url, long durationMillis, long expiresAt) {
+            this.url = url;
+            this.durationMillis = durationMillis;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
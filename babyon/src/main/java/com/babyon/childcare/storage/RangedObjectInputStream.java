@@ -0,0 +1,101 @@
+package com.babyon.childcare.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 저장소 객체를 범위 읽기(ranged GET)로 순차 읽는 입력 스트림
+ *
+ * 읽을 위치가 현재 구간을 벗어날 때만 windowSize 만큼 새로 요청하고, skip 은 요청 없이 위치만 옮긴다.
+ * Mp4DurationParser 처럼 박스 헤더만 읽고 본문을 건너뛰는 파서와 함께 쓰면
+ * moov 가 파일 끝에 있어도 영상 전체를 내려받지 않고 몇 번의 요청으로 길이를 읽는다.
+ */
+public class RangedObjectInputStream extends InputStream {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024;
+
+    private final RangeReader reader;
+    private final long size;
+    private final int windowSize;
+
+    private byte[] window = new byte[0];
+    private long windowStart;
+    private long position;
+
+    /**
+     * @param reader 범위 읽기 (예: VideoStorage.readRange)
+     * @param size 객체 크기 (이 위치 이후는 요청하지 않는다)
+     */
+    public RangedObjectInputStream(RangeReader reader, long size) {
+        this(reader, size, DEFAULT_WINDOW_SIZE);
+    }
+
+    public RangedObjectInputStream(RangeReader reader, long size, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        this.reader = reader;
+        this.size = size;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= size) {
+            return -1;
+        }
+        if (position < windowStart || position >= windowStart + window.length) {
+            fill();
+        }
+        int index = (int) (position - windowStart);
+        int count = Math.min(len, window.length - index);
+        System.arraycopy(window, index, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        long skipped = Math.min(n, size - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long buffered = windowStart + window.length - position;
+        return buffered > 0 ? (int) buffered : 0;
+    }
+
+    private void fill() throws IOException {
+        int length = (int) Math.min(windowSize, size - position);
+        byte[] bytes = reader.read(position, length);
+        if (bytes.length == 0) {
+            // 메타데이터 크기보다 객체가 짧다 (조회 이후 교체된 경우 등)
+            throw new EOFException("unexpected end of object at " + position);
+        }
+        window = bytes;
+        windowStart = position;
+    }
+
+    /**
+     * 객체의 offset 부터 최대 length 바이트를 읽는다
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+        byte[] read(long offset, int length) throws IOException;
+    }
+}
@@ -0,0 +1,14 @@
+package com.babyon.childcare.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 객체 메타데이터 (크기, MIME 타입)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredObjectMetadata {
+    private final long contentLength;
+    private final String contentType;
+}
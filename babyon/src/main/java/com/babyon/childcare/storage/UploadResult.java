@@ -0,0 +1,15 @@
+package com.babyon.childcare.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 결과 (객체 키, 내용 SHA-256, 기존 객체 재사용 여부)
+ */
+@Getter
+@AllArgsConstructor
+public class UploadResult {
+    private final String key;
+    private final String sha256;
+    private final boolean reused;
+}
@@ -0,0 +1,74 @@
+package com.babyon.childcare.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 영상 저장소 추상화
+ *
+ * 구현체는 app.storage.type 설정으로 선택한다.
+ * - s3 (기본): S3Service — AWS S3 멀티파트 업로드와 SigV4 Presigned URL
+ * - local: LocalVideoStorage — 로컬 파일시스템 저장과 HMAC 서명 URL (AWS 없이 개발/테스트/온프레미스 실행)
+ *
+ * 객체 키는 "폴더/UUID.확장자" 형식이며 DB 에는 URL 이 아닌 키를 저장한다.
+ */
+public interface VideoStorage {
+
+    /**
+     * 새 객체 키 생성 (폴더/UUID.확장자)
+     */
+    String newObjectKey(String folder, String originalFilename);
+
+    /**
+     * 업로드 (내용 SHA-256 을 읽는 동안 계산, 같은 해시의 기존 객체가 있으면 재사용)
+     * @param cancelled 취소 여부 (다음 청크를 읽기 전마다 확인)
+     * @param reusableKeysBySha256 재사용 가능한 기존 객체 키 (SHA-256 hex → 객체 키)
+     * @throws CancellationException 업로드가 취소된 경우
+     */
+    UploadResult upload(MultipartFile file, String folder, BooleanSupplier cancelled,
+                        Map<String, String> reusableKeysBySha256);
+
+    /**
+     * 다운로드용 임시 URL 생성 (1시간 유효)
+     */
+    default String generatePresignedUrl(String key) {
+        return generatePresignedUrl(key, Duration.ofHours(1));
+    }
+
+    /**
+     * 다운로드용 임시 URL 생성
+     */
+    String generatePresignedUrl(String key, Duration duration);
+
+    /**
+     * 클라이언트 직접 업로드용 임시 PUT URL 생성
+     * Content-Type 과 Content-Length 가 서명에 포함되므로 클라이언트는 같은 값으로 업로드해야 한다.
+     */
+    String generatePresignedPutUrl(String key, String contentType, long contentLength, Duration duration);
+
+    /**
+     * 객체 메타데이터 조회
+     * @return 객체가 없으면 빈 값
+     */
+    Optional<StoredObjectMetadata> findObjectMetadata(String key);
+
+    /**
+     * 객체 일부 읽기 (S3 ranged GET)
+     * 직접 업로드된 영상 전체를 내려받지 않고 컨테이너 헤더만 읽을 때 사용한다 (RangedObjectInputStream).
+     * @param offset 시작 위치 (객체 크기보다 작아야 한다)
+     * @param length 최대 읽을 바이트 수
+     * @return 읽은 바이트 (객체 끝에 닿으면 length 보다 짧다)
+     */
+    byte[] readRange(String key, long offset, int length) throws IOException;
+
+    /**
+     * 객체 삭제
+     */
+    void deleteFile(String key);
+}
@@ -5,6 +5,7 @@ import com.babyon.childcare.exception.UnauthorizedAccessException;
 import com.babyon.childcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +30,18 @@ public class AuthenticationHelper {
         return authentication.getName();
     }
 
+    /**
+     * 로그인한 사용자 이메일, 비로그인(익명) 요청이면 null
+     * 공개 API 에서 조회자 구분용 (예외를 던지지 않는다)
+     */
+    public String findUserEmail(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
     /**
      * Authentication에서 사용자 ID 추출
      */
@@ -0,0 +1,38 @@
+package com.babyon.childcare.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+
+/**
+ * DB 제약 조건 위반 예외 판별 유틸리티
+ *
+ * 드라이버/DB마다 예외 메시지 형식이 달라 Hibernate 가 추출한 제약 조건 이름을 우선 확인하고,
+ * 없으면 원인 예외 메시지에 제약 조건 이름이 포함되어 있는지 확인한다.
+ * (MySQL: "Duplicate entry ... for key 'job_applications.uk_job_sitter'", H2: "... UK_JOB_SITTER_INDEX_ ...")
+ */
+public final class ConstraintViolationUtils {
+
+    private ConstraintViolationUtils() {
+    }
+
+    public static boolean isViolationOf(Throwable e, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String name = ((ConstraintViolationException) cause).getConstraintName();
+                if (name != null && name.toLowerCase(Locale.ROOT).contains(expected)) {
+                    return true;
+                }
+            }
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(expected)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
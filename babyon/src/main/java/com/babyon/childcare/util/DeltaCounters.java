@@ -0,0 +1,57 @@
+package com.babyon.childcare.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * id 별 증가분 누적기 (쓰기 지연 카운터용)
+ *
+ * 요청 스레드는 id 별 LongAdder 에 더하기만 하고 (잠금 없음, 경합 시 셀 분산),
+ * 반영 스레드가 drain 으로 누적분을 꺼내 "count = count + :delta WHERE id IN (...)" 으로 일괄 반영한다.
+ * 한 주기 동안 증가가 없던 id 는 drain 에서 제거되며, 제거와 동시에 들어온 증가 1건은 드물게 누락될 수 있다.
+ */
+public class DeltaCounters {
+
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long id) {
+        counters.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 0 으로 되돌린다.
+     * @return id → 증가분 (0 보다 큰 항목만)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                counters.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 되돌린다 (다음 drain 에 다시 포함)
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+    }
+
+    /**
+     * 증가분 → 정렬된 id 목록
+     * 같은 증가분의 id 를 한 UPDATE 로 묶기 위해 사용하며, id 정렬로 인스턴스 간 행 잠금 순서를 맞춘다.
+     */
+    public static Map<Integer, List<Long>> groupByDelta(Map<Long, Long> deltas) {
+        Map<Integer, List<Long>> idsByDelta = new TreeMap<>();
+        new TreeMap<>(deltas).forEach((id, delta) -> idsByDelta
+                .computeIfAbsent((int) Math.min(delta, Integer.MAX_VALUE), d -> new ArrayList<>())
+                .add(id));
+        return idsByDelta;
+    }
+}
@@ -0,0 +1,32 @@
+package com.babyon.childcare.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP ETag 생성 유틸리티
+ * 엔티티 version, updatedAt 등 버전 정보만으로 불투명한(opaque) 강한 ETag 값을 만든다.
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    /**
+     * 강한 ETag 생성 (예: "jp-5d41402abc4b2a76b9719d911017c592")
+     *
+     * @param prefix 리소스 구분자
+     * @param parts  버전 정보 (null 허용)
+     * @return 따옴표로 감싼 ETag 값
+     */
+    public static String strong(String prefix, Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(part -> part instanceof Object[] ? Arrays.deepToString((Object[]) part) : String.valueOf(part))
+                .collect(Collectors.joining("|"));
+        String digest = DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+        return "\"" + prefix + "-" + digest + "\"";
+    }
+}
@@ -0,0 +1,197 @@
+package com.babyon.childcare.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 내보내기(export) 행 단위 스트리밍 writer
+ *
+ * 한 행씩 출력 스트림에 바로 기록하므로 전체 행 수와 무관하게 메모리 사용량이 일정하다.
+ * 행 데이터는 호출자가 재사용하는 Object[] 로 전달받으며 writer는 어떤 행도 보관하지 않는다.
+ */
+public abstract class ExportRowWriter implements Closeable {
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return Format.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (허용 값: ndjson, csv)");
+            }
+        }
+    }
+
+    protected final List<String> columns;
+
+    protected ExportRowWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public static ExportRowWriter create(Format format, OutputStream out, List<String> columns,
+                                         JsonFactory jsonFactory) throws IOException {
+        return format == Format.CSV
+                ? new CsvRowWriter(out, columns)
+                : new NdjsonRowWriter(out, columns, jsonFactory);
+    }
+
+    /**
+     * 한 행 기록 (values 길이는 columns 길이와 같아야 한다)
+     */
+    public abstract void writeRow(Object[] values) throws IOException;
+
+    // JDBC/엔티티 값을 출력용 값으로 정규화
+    protected static Object normalize(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toString();
+        }
+        if (value instanceof java.time.temporal.TemporalAccessor) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    // ──────────────────────────────────────────────────
+    // NDJSON (한 줄에 JSON 객체 하나)
+    // ──────────────────────────────────────────────────
+
+    private static final class NdjsonRowWriter extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(OutputStream out, List<String> columns, JsonFactory jsonFactory) throws IOException {
+            super(columns);
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+            // 응답 스트림은 서블릿 컨테이너가 닫는다
+            this.generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                writeValue(normalize(values[i]));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Boolean) {
+                generator.writeBoolean((Boolean) value);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof BigDecimal) {
+                generator.writeNumber((BigDecimal) value);
+            } else if (value instanceof Number) {
+                generator.writeNumber(((Number) value).doubleValue());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    // ──────────────────────────────────────────────────
+    // CSV (RFC 4180, Excel 호환을 위해 UTF-8 BOM 포함)
+    // ──────────────────────────────────────────────────
+
+    private static final class CsvRowWriter extends ExportRowWriter {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write('\uFEFF');
+            writeLine(columns.toArray());
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            writeLine(values);
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = normalize(values[i]);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        static String escape(String value) {
+            // 스프레드시트 수식 주입 방지
+            if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !isNumeric(value)) {
+                value = "'" + value;
+            }
+            boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!needsQuote) {
+                return value;
+            }
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+
+        private static boolean isNumeric(String value) {
+            try {
+                Double.parseDouble(value);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // 응답 스트림은 닫지 않고 버퍼만 비운다
+            writer.flush();
+        }
+    }
+}
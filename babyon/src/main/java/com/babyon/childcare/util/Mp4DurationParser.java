@@ -0,0 +1,264 @@
+package com.babyon.childcare.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+/**
+ * MP4/MOV(ISO-BMFF) 영상 길이 파서
+ *
+ * 최상위 박스 헤더만 읽고 본문은 건너뛰며 moov 박스를 찾은 뒤, moov/mvhd 의 timescale 과 duration 만 읽는다.
+ * mdat 등 본문은 skip 으로 넘기므로 파일 입력 스트림에서는 seek 로 처리되고, moov 가 파일 끝에 있어도
+ * 영상 데이터를 메모리에 올리지 않는다. 한 번에 읽는 양은 박스 헤더와 mvhd 앞부분(최대 32바이트)뿐이다.
+ *
+ * 박스 구조가 잘못되었거나 잘린 파일, mvhd 가 없는 파일은 예외 대신 빈 값을 반환한다.
+ */
+public final class Mp4DurationParser {
+
+    /** 탐색할 최대 박스 수 (최상위 + moov 하위 합계) */
+    private static final int MAX_BOXES = 4096;
+
+    /** mvhd duration 이 모두 1 이면 길이를 알 수 없음을 의미한다 */
+    private static final long UNKNOWN_DURATION_V0 = 0xFFFFFFFFL;
+    private static final long UNKNOWN_DURATION_V1 = -1L;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private Mp4DurationParser() {
+    }
+
+    /**
+     * 파일에서 영상 길이 추출
+     * @param path MP4/MOV 파일 경로
+     * @return 영상 길이 (마이크로초), 파싱할 수 없으면 빈 값
+     */
+    public static OptionalLong parseDurationMicros(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return parseDurationMicros(in);
+        }
+    }
+
+    /**
+     * 스트림에서 영상 길이 추출
+     * 박스 본문은 InputStream.skip 으로 건너뛰므로 파일 기반 스트림이면 읽지 않고 seek 한다.
+     * 스트림은 닫지 않는다.
+     * @param in MP4/MOV 입력 스트림 (파일 처음 위치)
+     * @return 영상 길이 (마이크로초), 파싱할 수 없으면 빈 값
+     */
+    public static OptionalLong parseDurationMicros(InputStream in) throws IOException {
+        BoxReader reader = new BoxReader(in);
+        try {
+            Box moov = reader.findBox("moov", Long.MAX_VALUE);
+            if (moov == null) {
+                return OptionalLong.empty();
+            }
+            Box mvhd = reader.findBox("mvhd", moov.payloadSize);
+            if (mvhd == null) {
+                return OptionalLong.empty();
+            }
+            return readMvhd(reader, mvhd.payloadSize);
+        } catch (EOFException | MalformedBoxException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static OptionalLong readMvhd(BoxReader reader, long payloadSize) throws IOException {
+        if (payloadSize < 4) {
+            return OptionalLong.empty();
+        }
+        int version = reader.readFully(4)[0] & 0xFF;
+
+        long timescale;
+        long duration;
+        if (version == 0) {
+            // creation_time(4) modification_time(4) timescale(4) duration(4)
+            if (payloadSize < 4 + 16) {
+                return OptionalLong.empty();
+            }
+            byte[] fields = reader.readFully(16);
+            timescale = readUInt32(fields, 8);
+            duration = readUInt32(fields, 12);
+            if (duration == UNKNOWN_DURATION_V0) {
+                return OptionalLong.empty();
+            }
+        } else if (version == 1) {
+            // creation_time(8) modification_time(8) timescale(4) duration(8)
+            if (payloadSize < 4 + 28) {
+                return OptionalLong.empty();
+            }
+            byte[] fields = reader.readFully(28);
+            timescale = readUInt32(fields, 16);
+            duration = readInt64(fields, 20);
+            if (duration == UNKNOWN_DURATION_V1 || duration < 0) {
+                return OptionalLong.empty();
+            }
+        } else {
+            return OptionalLong.empty();
+        }
+
+        if (timescale == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(toMicros(duration, timescale));
+    }
+
+    /**
+     * duration / timescale 을 마이크로초로 변환 (오버플로 없이)
+     */
+    static long toMicros(long duration, long timescale) {
+        long seconds = duration / timescale;
+        long remainder = duration % timescale;
+        if (seconds > Long.MAX_VALUE / MICROS_PER_SECOND) {
+            return Long.MAX_VALUE;
+        }
+        // remainder < timescale <= 2^32 이므로 remainder * 10^6 은 long 범위 안이다
+        return seconds * MICROS_PER_SECOND + remainder * MICROS_PER_SECOND / timescale;
+    }
+
+    private static long readUInt32(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFFL) << 24)
+                | ((bytes[offset + 1] & 0xFFL) << 16)
+                | ((bytes[offset + 2] & 0xFFL) << 8)
+                | (bytes[offset + 3] & 0xFFL);
+    }
+
+    private static long readInt64(byte[] bytes, int offset) {
+        return (readUInt32(bytes, offset) << 32) | readUInt32(bytes, offset + 4);
+    }
+
+    /**
+     * 박스 헤더 (본문 크기는 헤더 이후 바이트 수, 파일 끝까지인 경우 Long.MAX_VALUE)
+     */
+    private static final class Box {
+        private final String type;
+        private final long payloadSize;
+
+        private Box(String type, long payloadSize) {
+            this.type = type;
+            this.payloadSize = payloadSize;
+        }
+    }
+
+    private static final class MalformedBoxException extends Exception {
+        private MalformedBoxException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * 앞으로만 이동하는 박스 리더
+     */
+    private static final class BoxReader {
+        private final InputStream in;
+        private int boxesVisited;
+
+        private BoxReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * 현재 위치부터 limit 바이트 범위 안에서 type 박스를 찾는다.
+         * 찾으면 해당 박스의 헤더 직후에 위치하며, 다른 박스의 본문은 건너뛴다.
+         */
+        private Box findBox(String type, long limit) throws IOException, MalformedBoxException {
+            long remaining = limit;
+            while (remaining > 0) {
+                if (++boxesVisited > MAX_BOXES) {
+                    throw new MalformedBoxException("too many boxes");
+                }
+                if (remaining < 8) {
+                    throw new MalformedBoxException("truncated box header");
+                }
+
+                byte[] header = readOptional(8);
+                if (header == null) {
+                    return null; // 파일 끝 (박스 경계)
+                }
+                long size = readUInt32(header, 0);
+                String boxType = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+                long headerSize = 8;
+                boolean extendsToEnd = size == 0;
+
+                if (size == 1) {
+                    // 64비트 largesize
+                    if (remaining < 16) {
+                        throw new MalformedBoxException("truncated largesize header");
+                    }
+                    size = readInt64(readFully(8), 0);
+                    headerSize = 16;
+                    if (size < headerSize) {
+                        throw new MalformedBoxException("invalid largesize");
+                    }
+                } else if (extendsToEnd) {
+                    // 파일(또는 상위 박스) 끝까지
+                    size = remaining;
+                } else if (size < headerSize) {
+                    throw new MalformedBoxException("invalid box size");
+                }
+                if (size > remaining) {
+                    throw new MalformedBoxException("box exceeds parent");
+                }
+
+                long payloadSize = extendsToEnd && limit == Long.MAX_VALUE
+                        ? Long.MAX_VALUE
+                        : size - headerSize;
+                Box box = new Box(boxType, payloadSize);
+                if (box.type.equals(type)) {
+                    return box;
+                }
+                if (box.payloadSize == Long.MAX_VALUE) {
+                    return null; // 파일 끝까지 이어지는 다른 박스
+                }
+                skipFully(box.payloadSize);
+                remaining -= size;
+            }
+            return null;
+        }
+
+        private byte[] readFully(int length) throws IOException {
+            byte[] buffer = readOptional(length);
+            if (buffer == null) {
+                throw new EOFException();
+            }
+            return buffer;
+        }
+
+        /**
+         * length 바이트를 읽는다. 아무것도 읽기 전에 스트림이 끝나면 null, 중간에 끝나면 EOFException.
+         */
+        private byte[] readOptional(int length) throws IOException {
+            byte[] buffer = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = in.read(buffer, read, length - read);
+                if (n < 0) {
+                    if (read == 0) {
+                        return null;
+                    }
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            return buffer;
+        }
+
+        private void skipFully(long length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    // skip 이 진행하지 못하면 한 바이트 읽어 EOF 여부 확인
+                    if (in.read() < 0) {
+                        throw new EOFException();
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        }
+    }
+}
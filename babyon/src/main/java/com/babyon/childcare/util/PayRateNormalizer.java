@@ -0,0 +1,48 @@
+package com.babyon.childcare.util;
+
+import com.babyon.childcare.entity.JobPosting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구인글 급여(시급/일급/월급)를 시급으로 환산한다.
+ *
+ * 환산 기준(1일 근무 시간, 월 소정 근로 시간)은 설정으로 변경할 수 있다.
+ * 기준을 바꾸면 app.pay.recompute-on-startup=true 로 기존 구인글의 환산 값을 다시 계산해야 한다.
+ */
+@Component
+public class PayRateNormalizer {
+
+    private final double hoursPerDay;
+    private final double hoursPerMonth;
+
+    public PayRateNormalizer(@Value("${app.pay.hours-per-day:8}") double hoursPerDay,
+                             @Value("${app.pay.hours-per-month:209}") double hoursPerMonth) {
+        if (hoursPerDay <= 0 || hoursPerMonth <= 0) {
+            throw new IllegalArgumentException("급여 환산 기준 시간은 0보다 커야 합니다: hoursPerDay="
+                    + hoursPerDay + ", hoursPerMonth=" + hoursPerMonth);
+        }
+        this.hoursPerDay = hoursPerDay;
+        this.hoursPerMonth = hoursPerMonth;
+    }
+
+    // 급여 타입 기준 금액을 시급으로 환산 (급여 타입이 없으면 시급으로 간주)
+    public Double toHourly(Double rate, JobPosting.PayType payType) {
+        if (rate == null || payType == null) {
+            return rate;
+        }
+        return switch (payType) {
+            case HOURLY -> rate;
+            case DAILY -> rate / hoursPerDay;
+            case MONTHLY -> rate / hoursPerMonth;
+        };
+    }
+
+    public double getHoursPerDay() {
+        return hoursPerDay;
+    }
+
+    public double getHoursPerMonth() {
+        return hoursPerMonth;
+    }
+}
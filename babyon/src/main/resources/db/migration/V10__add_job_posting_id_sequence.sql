@@ -0,0 +1,12 @@
+-- 구인글 ID 생성 전략 변경: IDENTITY -> SEQUENCE (MySQL은 테이블로 에뮬레이션)
+-- IDENTITY 전략은 INSERT마다 즉시 실행되어 Hibernate JDBC 배치가 불가능하므로,
+-- 일괄 등록 API를 위해 allocationSize(50) 단위로 ID를 미리 할당받는 방식으로 전환한다.
+
+CREATE TABLE IF NOT EXISTS job_posting_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+-- pooled optimizer는 읽은 값에서 (allocationSize - 1)을 뺀 값부터 할당하므로
+-- 기존 최대 ID와 겹치지 않도록 MAX(id) + allocationSize + 1 로 초기화한다.
+INSERT INTO job_posting_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM job_postings;
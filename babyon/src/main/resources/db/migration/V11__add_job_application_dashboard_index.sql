@@ -0,0 +1,2 @@
+-- 부모 대시보드: 구인글별 최신 지원서 조회(ROW_NUMBER PARTITION BY job_posting_id ORDER BY created_at DESC)용 인덱스
+CREATE INDEX idx_job_applications_posting_created ON job_applications (job_posting_id, created_at);
@@ -0,0 +1,13 @@
+-- Idempotency-Key 헤더 요청 결과 저장 (모바일 재시도 시 최초 결과 반환)
+CREATE TABLE idempotency_records (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    principal       VARCHAR(255) NOT NULL,
+    scope           VARCHAR(50)  NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_body   TEXT,
+    expires_at      DATETIME     NOT NULL,
+    created_at      DATETIME     DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_idempotency_key (principal, scope, idempotency_key),
+    INDEX idx_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
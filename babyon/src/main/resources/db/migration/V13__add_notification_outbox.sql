@@ -0,0 +1,17 @@
+-- 알림 아웃박스: 도메인 변경과 같은 트랜잭션에서 기록하고 디스패처가 비동기로 발송
+CREATE TABLE notification_outbox (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient_id    BIGINT,
+    recipient_email VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(50)  NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    INDEX idx_outbox_status_next_attempt (status, next_attempt_at),
+    INDEX idx_outbox_recipient_created (recipient_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,15 @@
+-- 급여 타입(시급/일급/월급)과 무관하게 정렬/필터할 수 있도록 시급 환산 급여 컬럼 추가
+-- 저장 시 PayRateNormalizer 가 계산하며, 기존 데이터는 기본 환산 기준(1일 8시간, 월 209시간)으로 채운다.
+ALTER TABLE job_postings
+    ADD COLUMN normalized_hourly_rate DOUBLE NULL COMMENT '시급 환산 급여' AFTER pay_type;
+
+UPDATE job_postings
+SET normalized_hourly_rate = CASE pay_type
+        WHEN 'DAILY' THEN hourly_rate / 8
+        WHEN 'MONTHLY' THEN hourly_rate / 209
+        ELSE hourly_rate
+    END
+WHERE hourly_rate IS NOT NULL;
+
+-- 활성 구인글 목록의 시급 범위 필터/정렬용 인덱스
+CREATE INDEX idx_job_postings_active_normalized_rate ON job_postings (is_active, normalized_hourly_rate);
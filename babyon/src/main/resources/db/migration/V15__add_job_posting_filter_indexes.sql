@@ -0,0 +1,5 @@
+-- 구인글 조건 검색(키셋 페이징, created_at DESC, id DESC)용 복합 인덱스
+-- 조건 조합에 따라 옵티마이저가 가장 선택도가 높은 인덱스를 선택한다.
+CREATE INDEX idx_job_postings_active_type_created ON job_postings (is_active, job_type, created_at);
+CREATE INDEX idx_job_postings_active_start ON job_postings (is_active, start_date);
+CREATE INDEX idx_job_postings_active_created ON job_postings (is_active, created_at);
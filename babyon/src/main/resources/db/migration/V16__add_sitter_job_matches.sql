@@ -0,0 +1,13 @@
+-- 시터별 추천 구인글 (상위 N건만 보관, 구인글/시터 프로필 변경 시 증분 갱신)
+CREATE TABLE sitter_job_matches (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sitter_id      BIGINT      NOT NULL,
+    job_posting_id BIGINT      NOT NULL,
+    score          DOUBLE      NOT NULL,
+    computed_at    DATETIME(6) NOT NULL,
+    CONSTRAINT uk_sitter_job_match UNIQUE (sitter_id, job_posting_id),
+    INDEX idx_sitter_job_matches_sitter_score (sitter_id, score),
+    INDEX idx_sitter_job_matches_posting (job_posting_id),
+    FOREIGN KEY (sitter_id) REFERENCES sitters(id) ON DELETE CASCADE,
+    FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
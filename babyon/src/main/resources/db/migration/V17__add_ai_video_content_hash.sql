@@ -0,0 +1,6 @@
+-- 영상 내용 SHA-256 컬럼 추가
+-- 같은 영상을 다시 제출하면 새 객체를 만들지 않고 기존 S3 키를 재사용한다.
+-- 기존 프로필은 해시가 없으므로 다음 업로드 시 한 번 더 저장된 뒤부터 중복이 제거된다.
+ALTER TABLE sitter_ai_video_profiles
+    ADD COLUMN intro_video_sha256  VARCHAR(64) NULL COMMENT '인트로 영상 SHA-256' AFTER intro_video_duration_seconds,
+    ADD COLUMN answer_video_sha256 VARCHAR(64) NULL COMMENT '답변 영상 SHA-256' AFTER answer_video_duration_seconds;
@@ -0,0 +1,17 @@
+-- 재개 가능한(tus 방식) 영상 업로드 세션
+-- 청크는 서버 임시 파일에 이어 쓰고, 여기에는 현재까지 받은 오프셋과 만료 시각만 기록한다.
+-- 만료된 세션은 정리 작업이 임시 파일과 함께 삭제한다.
+CREATE TABLE resumable_uploads (
+    id             VARCHAR(36)  NOT NULL PRIMARY KEY,
+    sitter_id      BIGINT       NOT NULL,
+    file_name      VARCHAR(255) NULL,
+    content_type   VARCHAR(100) NOT NULL,
+    upload_length  BIGINT       NOT NULL,
+    upload_offset  BIGINT       NOT NULL DEFAULT 0,
+    expires_at     DATETIME(6)  NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    INDEX idx_resumable_uploads_sitter (sitter_id),
+    INDEX idx_resumable_uploads_expires (expires_at),
+    FOREIGN KEY (sitter_id) REFERENCES sitters(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,7 @@
+-- 시터별 추천 매칭 전체 계산 여부 (지연 초기화 표식)
+-- 구인글 증분 갱신은 sitter_job_matches 에 일부 행만 넣으므로, 행 존재 여부로는 전체 계산 여부를 알 수 없다.
+CREATE TABLE sitter_match_states (
+    sitter_id   BIGINT      PRIMARY KEY,
+    computed_at DATETIME(6) NOT NULL,
+    FOREIGN KEY (sitter_id) REFERENCES sitters(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
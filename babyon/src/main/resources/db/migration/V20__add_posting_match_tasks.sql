@@ -0,0 +1,8 @@
+-- 구인글 추천 매칭 갱신 대기 표식 (구인글 변경 트랜잭션에서 기록, 매칭 갱신 트랜잭션에서 삭제)
+-- 메모리 작업 큐에서 버려지거나 재시작으로 유실된 갱신을 주기 작업이 다시 실행한다.
+CREATE TABLE posting_match_tasks (
+    job_posting_id BIGINT      PRIMARY KEY,
+    requested_at   DATETIME(6) NOT NULL,
+    INDEX idx_posting_match_tasks_requested (requested_at),
+    FOREIGN KEY (job_posting_id) REFERENCES job_postings(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
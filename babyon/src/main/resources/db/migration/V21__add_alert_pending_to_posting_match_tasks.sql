@@ -0,0 +1,3 @@
+-- 신규 구인글 알림 팬아웃 대기 여부 (구인글 등록 트랜잭션에서 기록, 알림을 아웃박스에 기록한 트랜잭션에서 해제)
+ALTER TABLE posting_match_tasks
+    ADD COLUMN alert_pending BOOLEAN NOT NULL DEFAULT FALSE AFTER requested_at;
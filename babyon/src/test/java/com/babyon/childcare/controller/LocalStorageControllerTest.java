@@ -0,0 +1,51 @@
+package com.babyon.childcare.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 저장소 다운로드 Range 헤더 파싱 테스트
+ *
+ * 만족할 수 없는 범위(416)와 무시해야 하는 헤더(전체 본문 200)를 구분하는지 확인한다.
+ */
+class LocalStorageControllerTest {
+
+    private static final long SIZE = 100;
+
+    @Test
+    void boundedRange_isClampedToFileSize() {
+        assertThat(LocalStorageController.parseRange("bytes=10-19", SIZE)).containsExactly(10, 19);
+        assertThat(LocalStorageController.parseRange("bytes=90-500", SIZE)).containsExactly(90, 99);
+        // 여러 범위는 첫 번째만 사용한다
+        assertThat(LocalStorageController.parseRange("bytes=0-4, 50-59", SIZE)).containsExactly(0, 4);
+    }
+
+    @Test
+    void openEndedAndSuffixRanges_reachEndOfFile() {
+        assertThat(LocalStorageController.parseRange("bytes=95-", SIZE)).containsExactly(95, 99);
+        assertThat(LocalStorageController.parseRange("bytes=-10", SIZE)).containsExactly(90, 99);
+        // 파일보다 긴 접미사는 전체
+        assertThat(LocalStorageController.parseRange("bytes=-500", SIZE)).containsExactly(0, 99);
+        assertThat(LocalStorageController.parseRange("BYTES=0-0", SIZE)).containsExactly(0, 0);
+    }
+
+    @Test
+    void unsatisfiableRange_isReportedFor416() {
+        assertThat(LocalStorageController.parseRange("bytes=100-", SIZE)).isSameAs(LocalStorageController.UNSATISFIABLE);
+        assertThat(LocalStorageController.parseRange("bytes=200-300", SIZE)).isSameAs(LocalStorageController.UNSATISFIABLE);
+        assertThat(LocalStorageController.parseRange("bytes=-0", SIZE)).isSameAs(LocalStorageController.UNSATISFIABLE);
+        assertThat(LocalStorageController.parseRange("bytes=0-", 0)).isSameAs(LocalStorageController.UNSATISFIABLE);
+    }
+
+    @Test
+    void otherUnitOrMalformedHeader_isIgnored() {
+        assertThat(LocalStorageController.parseRange("items=0-10", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=abc", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=5-x", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=-", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=--5", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=20-10", SIZE)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=99999999999999999999-", SIZE)).isNull();
+    }
+}
@@ -0,0 +1,141 @@
+package com.babyon.childcare.notification;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.dto.JobApplicationRequest;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.NotificationOutbox;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.repository.NotificationOutboxRepository;
+import com.babyon.childcare.service.JobApplicationService;
+import com.babyon.childcare.service.NotificationOutboxService;
+import com.babyon.childcare.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 아웃박스 → LocalNotificationChannel 발송 테스트
+ *
+ * 주기 실행 대신 dispatch() 를 직접 호출하고, LocalNotificationChannel 의 발송 내역으로 결과를 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:notification-dispatch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "app.notification.channel=local",
+    // 테스트 도중 주기 발송이 끼어들지 않게 한다
+    "app.notification.dispatch-interval-ms=3600000"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private LocalNotificationChannel localNotificationChannel;
+
+    @Autowired
+    private NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Parent parent;
+
+    @BeforeEach
+    void setUp() {
+        parent = fixtures.createParent();
+        localNotificationChannel.clear();
+    }
+
+    @Test
+    void applications_areCoalescedIntoOneMessagePerRecipient() {
+        JobPosting posting = createPosting();
+        String firstSitter = createSitter();
+        String secondSitter = createSitter();
+        jobApplicationService.applyToJob(firstSitter, applyRequest(posting));
+        jobApplicationService.applyToJob(secondSitter, applyRequest(posting));
+
+        notificationDispatcher.dispatch();
+
+        List<LocalNotificationChannel.SentNotification> sent = sentTo(parent.getEmail());
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).getSubject()).isEqualTo("[BabyOn] 새 알림 2건");
+        assertThat(sent.get(0).getBody()).contains(firstSitter, secondSitter);
+        assertThat(outboxOf(parent.getId())).extracting(NotificationOutbox::getStatus)
+                .containsOnly(NotificationOutbox.Status.SENT);
+
+        // 발송 완료 건은 다시 보내지 않는다
+        notificationDispatcher.dispatch();
+        assertThat(sentTo(parent.getEmail())).hasSize(1);
+    }
+
+    @Test
+    void rolledBackTransaction_sendsNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationOutboxService.enqueue(parent.getId(), parent.getEmail(),
+                    NotificationOutboxService.APPLICATION_SUBMITTED, "롤백될 알림", "본문");
+            status.setRollbackOnly();
+        });
+
+        notificationDispatcher.dispatch();
+
+        assertThat(sentTo(parent.getEmail())).isEmpty();
+        assertThat(outboxOf(parent.getId())).isEmpty();
+    }
+
+    private List<LocalNotificationChannel.SentNotification> sentTo(String email) {
+        return localNotificationChannel.getSent().stream()
+                .filter(notification -> notification.getRecipientEmail().equals(email))
+                .collect(Collectors.toList());
+    }
+
+    private List<NotificationOutbox> outboxOf(Long recipientId) {
+        return outboxRepository.findAll().stream()
+                .filter(notification -> recipientId.equals(notification.getRecipientId()))
+                .collect(Collectors.toList());
+    }
+
+    private JobPosting createPosting() {
+        return fixtures.createPosting(parent, "알림 테스트 구인글");
+    }
+
+    private String createSitter() {
+        return fixtures.createSitter().getEmail();
+    }
+
+    private JobApplicationRequest applyRequest(JobPosting posting) {
+        return JobApplicationRequest.builder()
+                .jobPostingId(posting.getId())
+                .coverLetter("열심히 하겠습니다.")
+                .proposedHourlyRate(12000.0)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.babyon.childcare.notification;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * SseHub 테스트
+ *
+ * 전송 풀 대신 호출 스레드에서 바로 실행하는 Executor 를 써서 MockMvc 응답 본문으로 전송 순서를 확인한다.
+ */
+class SseHubTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    @Test
+    void resubscribeWithLastEventId_replaysMissedEventsThenLiveEventsInOrder() throws Exception {
+        SseHub hub = newHub(Runnable::run, 64, 50, 300_000);
+        MockMvc mockMvc = mockMvc(hub);
+
+        MockHttpServletResponse first = subscribe(mockMvc, USER_ID, null);
+        for (int i = 1; i <= 3; i++) {
+            hub.publish(USER_ID, "status", Map.of("seq", i));
+        }
+        List<Long> published = eventIds(first);
+        assertThat(published).hasSize(3);
+
+        // 첫 이벤트까지 받은 클라이언트가 재연결
+        MockHttpServletResponse resumed = subscribe(mockMvc, USER_ID, published.get(0));
+        hub.publish(USER_ID, "status", Map.of("seq", 4));
+
+        List<Long> all = eventIds(first);
+        assertThat(eventIds(resumed)).containsExactly(all.get(1), all.get(2), all.get(3));
+        assertThat(content(resumed)).doesNotContain("event:resync");
+    }
+
+    @Test
+    void idleChannelWithoutConnections_isEvictedAndResubscribeGetsResync() throws Exception {
+        SseHub hub = newHub(Runnable::run, 64, 50, 0);
+        MockMvc mockMvc = mockMvc(hub);
+
+        MockHttpServletResponse other = subscribe(mockMvc, OTHER_USER_ID, null);
+        hub.publish(OTHER_USER_ID, "status", Map.of("seq", 1));
+        long lastSeen = eventIds(other).get(0);
+
+        // 연결 없는 사용자의 채널 (재전송용으로만 보관)
+        hub.publish(USER_ID, "status", Map.of("seq", 2));
+        Thread.sleep(10);
+        hub.heartbeat();
+
+        // 채널이 정리되어 보관 이벤트가 없으므로 전체 재조회를 유도
+        MockHttpServletResponse resumed = subscribe(mockMvc, USER_ID, lastSeen);
+        assertThat(content(resumed)).contains("event:resync");
+        assertThat(eventIds(resumed)).isEmpty();
+
+        // 연결이 있는 채널은 유지되고 heartbeat 를 받는다
+        assertThat(content(other)).contains(":hb");
+        assertThat(hub.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void slowConnection_isClosedWhenQueueOverflows() {
+        List<Runnable> pending = new ArrayList<>();
+        SseHub hub = newHub(pending::add, 2, 50, 300_000);
+
+        // 전송 작업이 실행되지 않는 느린 연결: "connected" + 이벤트 1건으로 큐가 가득 찬다
+        hub.subscribe(USER_ID, null);
+        hub.publish(USER_ID, "status", Map.of("seq", 1));
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+
+        hub.publish(USER_ID, "status", Map.of("seq", 2));
+
+        assertThat(hub.getConnectionCount()).isZero();
+        assertThat(pending).hasSize(1);
+    }
+
+    @Test
+    void rejectedSendTask_keepsConnectionOpen() {
+        SseHub hub = newHub(task -> {
+            throw new RejectedExecutionException("queue full");
+        }, 64, 50, 300_000);
+
+        hub.subscribe(USER_ID, null);
+        hub.publish(USER_ID, "status", Map.of("seq", 1));
+        hub.heartbeat();
+
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+    }
+
+    private SseHub newHub(Executor executor, int queueCapacity, int replaySize, long channelIdleMillis) {
+        SseHub hub = new SseHub(executor);
+        ReflectionTestUtils.setField(hub, "timeoutMillis", 60_000L);
+        ReflectionTestUtils.setField(hub, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hub, "replaySize", replaySize);
+        ReflectionTestUtils.setField(hub, "maxConnectionsPerUser", 5);
+        ReflectionTestUtils.setField(hub, "channelIdleMillis", channelIdleMillis);
+        return hub;
+    }
+
+    private MockMvc mockMvc(SseHub hub) {
+        return MockMvcBuilders.standaloneSetup(new StreamController(hub)).build();
+    }
+
+    private MockHttpServletResponse subscribe(MockMvc mockMvc, long userId, Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/stream/{userId}", userId);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private String content(MockHttpServletResponse response) throws Exception {
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<Long> eventIds(MockHttpServletResponse response) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = EVENT_ID.matcher(content(response));
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final SseHub hub;
+
+        StreamController(SseHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/stream/{userId}")
+        SseEmitter stream(@PathVariable("userId") Long userId,
+                          @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+            return hub.subscribe(userId, lastEventId);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.dto.AiQuestionResponse;
+import com.babyon.childcare.entity.AiQuestion;
+import com.babyon.childcare.event.AiQuestionUsedEvent;
+import com.babyon.childcare.repository.AiQuestionRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiQuestionPool 가중 샘플링 / 사용 횟수 반영 테스트
+ *
+ * 저장소는 목으로 대신하고, 트랜잭션은 아무 일도 하지 않는 트랜잭션 매니저로 실행한다.
+ * 샘플링 비율은 충분히 많이 뽑아 기대 비율과의 차이로 확인한다.
+ */
+class AiQuestionPoolTest {
+
+    private static final int SAMPLES = 30_000;
+    private static final double TOLERANCE = 0.03;
+
+    private final AiQuestionRepository aiQuestionRepository = mock(AiQuestionRepository.class);
+    private final AiQuestionPool pool = new AiQuestionPool(aiQuestionRepository,
+            new TransactionTemplate(new NoOpTransactionManager()), 60_000);
+
+    // 증가분 → 반영된 질문 ID 목록 (UPDATE 문 단위)
+    private final List<Map.Entry<Integer, List<Long>>> usageUpdates = new ArrayList<>();
+
+    @Test
+    void sample_prefersLessUsedQuestionsInverseToUsage() {
+        // 가중치 1 / (1 + usage - minUsage): 1 : 1/2 : 1/3
+        givenActiveQuestions(question(1L, 10), question(2L, 11), question(3L, 12));
+
+        Map<Long, Double> ratios = sampleRatios();
+
+        assertThat(ratios.get(1L)).isCloseTo(6.0 / 11, offset(TOLERANCE));
+        assertThat(ratios.get(2L)).isCloseTo(3.0 / 11, offset(TOLERANCE));
+        assertThat(ratios.get(3L)).isCloseTo(2.0 / 11, offset(TOLERANCE));
+    }
+
+    @Test
+    void committedUsage_reweightsSnapshotWithoutReload() {
+        givenActiveQuestions(question(1L, 0), question(2L, 0));
+        pool.sample();
+
+        pool.onQuestionUsed(new AiQuestionUsedEvent(1L));
+        pool.onQuestionUsed(new AiQuestionUsedEvent(1L));
+
+        // 사용 횟수 2 : 0 → 가중치 1/3 : 1
+        assertThat(sampleRatios().get(1L)).isCloseTo(0.25, offset(TOLERANCE));
+        verify(aiQuestionRepository, times(1)).findByIsActiveTrue();
+    }
+
+    @Test
+    void failedFlush_restoresUsageForNextFlush() {
+        givenActiveQuestions(question(1L, 0), question(2L, 0));
+        doThrow(new QueryTimeoutException("lock wait timeout"))
+                .when(aiQuestionRepository).addUsageCount(anyCollection(), anyInt());
+
+        pool.onQuestionUsed(new AiQuestionUsedEvent(1L));
+        pool.onQuestionUsed(new AiQuestionUsedEvent(2L));
+        pool.flushAndRefresh();
+        assertThat(usageUpdates).isEmpty();
+
+        // 실패한 증가분과 그 사이 사용이 합쳐져 다음 주기에 반영된다
+        pool.onQuestionUsed(new AiQuestionUsedEvent(1L));
+        doAnswer(this::recordUpdate).when(aiQuestionRepository).addUsageCount(anyCollection(), anyInt());
+        pool.flushAndRefresh();
+
+        assertThat(usageUpdates).containsExactly(
+                Map.entry(1, List.of(2L)),
+                Map.entry(2, List.of(1L)));
+    }
+
+    @Test
+    void emptyPool_reloadIsThrottled() {
+        givenActiveQuestions();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(pool.sample()).isEmpty();
+        }
+
+        // 최초 적재 + 빈 풀 재적재 1회, 이후는 간격이 지날 때까지 DB 를 읽지 않는다
+        verify(aiQuestionRepository, times(2)).findByIsActiveTrue();
+    }
+
+    @Test
+    void refreshIfChanged_reloadsOnlyWhenFingerprintChanges() {
+        givenActiveQuestions(question(1L, 0));
+        pool.sample();
+
+        pool.refreshIfChanged();
+        verify(aiQuestionRepository, times(1)).findByIsActiveTrue();
+
+        // 질문 추가
+        givenActiveQuestions(question(1L, 0), question(2L, 0));
+        pool.refreshIfChanged();
+
+        verify(aiQuestionRepository, times(2)).findByIsActiveTrue();
+        assertThat(sampleRatios()).containsOnlyKeys(1L, 2L);
+    }
+
+    private void givenActiveQuestions(AiQuestion... questions) {
+        long idSum = 0;
+        long usageSum = 0;
+        for (AiQuestion question : questions) {
+            idSum += question.getId();
+            usageSum += question.getUsageCount();
+        }
+        when(aiQuestionRepository.findByIsActiveTrue()).thenReturn(List.of(questions));
+        List<Object[]> fingerprint = new ArrayList<>();
+        fingerprint.add(new Object[]{(long) questions.length, idSum, usageSum, null});
+        when(aiQuestionRepository.findActiveFingerprint()).thenReturn(fingerprint);
+    }
+
+    private Map<Long, Double> sampleRatios() {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            AiQuestionResponse sampled = pool.sample().orElseThrow();
+            counts.merge(sampled.getQuestionId(), 1, Integer::sum);
+        }
+        Map<Long, Double> ratios = new HashMap<>();
+        counts.forEach((id, count) -> ratios.put(id, (double) count / SAMPLES));
+        return ratios;
+    }
+
+    private static AiQuestion question(Long id, int usageCount) {
+        AiQuestion question = new AiQuestion();
+        question.setId(id);
+        question.setQuestionText("질문 " + id);
+        question.setUsageCount(usageCount);
+        return question;
+    }
+
+    private Object recordUpdate(InvocationOnMock invocation) {
+        Collection<Long> ids = invocation.getArgument(0);
+        usageUpdates.add(Map.entry(invocation.<Integer>getArgument(1), List.copyOf(ids)));
+        return ids.size();
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.dto.ApplicantRankingResponse;
+import com.babyon.childcare.dto.JobApplicationRequest;
+import com.babyon.childcare.dto.JobApplicationResponse;
+import com.babyon.childcare.dto.RankedApplicantResponse;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 구인글 지원자 랭킹 테스트
+ *
+ * 점수 구성 요소(인증, 경력, 급여 적합도)에 따른 순위와, 지원 변경 시 구인글별 캐시 무효화를 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:applicant-ranking;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class ApplicantRankingServiceTest {
+
+    private static final double POSTING_HOURLY_RATE = 10_000.0;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private ApplicantRankingService applicantRankingService;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Parent parent;
+    private JobPosting posting;
+
+    @BeforeEach
+    void setUp() {
+        parent = fixtures.createParent();
+        posting = fixtures.createPosting(parent, "랭킹 테스트 구인글", newPosting -> {
+            newPosting.setHourlyRate(POSTING_HOURLY_RATE);
+            newPosting.setPayType(JobPosting.PayType.HOURLY);
+            newPosting.setRequiredExperienceYears(3);
+        });
+    }
+
+    @Test
+    void applicants_areRankedByVerificationExperienceAndPay() {
+        // 먼저 지원했지만 미인증, 경력 없음, 구인글 시급의 1.5배 제안 (급여 적합도 0점)
+        String weak = createSitter(false, 0);
+        apply(weak, POSTING_HOURLY_RATE * 1.5);
+        // 인증, 요구 경력 이상, 구인글 시급 이하 제안
+        String strong = createSitter(true, 5);
+        apply(strong, POSTING_HOURLY_RATE);
+
+        ApplicantRankingResponse ranking = applicantRankingService.getRankedApplicants(parent.getEmail(), posting.getId());
+
+        assertThat(ranking.getApplicantCount()).isEqualTo(2);
+        RankedApplicantResponse first = ranking.getApplicants().get(0);
+        RankedApplicantResponse second = ranking.getApplicants().get(1);
+        assertThat(first.getApplication().getSitterEmail()).isEqualTo(strong);
+        assertThat(first.getRank()).isEqualTo(1);
+        assertThat(first.getVerificationScore()).isEqualTo(1.0);
+        assertThat(first.getExperienceScore()).isEqualTo(1.0);
+        assertThat(first.getPayScore()).isEqualTo(1.0);
+        assertThat(second.getRank()).isEqualTo(2);
+        assertThat(second.getExperienceScore()).isEqualTo(0.0);
+        assertThat(second.getPayScore()).isEqualTo(0.0);
+        assertThat(first.getScore()).isGreaterThan(second.getScore());
+    }
+
+    @Test
+    void ranking_isCachedUntilAnApplicationChanges() {
+        JobApplicationResponse withdrawn = apply(createSitter(true, 5), POSTING_HOURLY_RATE);
+        apply(createSitter(false, 1), POSTING_HOURLY_RATE);
+
+        ApplicantRankingResponse computed = applicantRankingService.getRankedApplicants(parent.getEmail(), posting.getId());
+        ApplicantRankingResponse cached = applicantRankingService.getRankedApplicants(parent.getEmail(), posting.getId());
+        assertThat(cached).isSameAs(computed);
+
+        // 철회 커밋 후에는 다시 계산하고 철회된 지원서는 제외한다
+        jobApplicationService.withdrawApplication(withdrawn.getSitterEmail(), withdrawn.getId());
+        ApplicantRankingResponse recomputed =
+                applicantRankingService.getRankedApplicants(parent.getEmail(), posting.getId());
+
+        assertThat(recomputed).isNotSameAs(computed);
+        assertThat(recomputed.getApplicantCount()).isEqualTo(1);
+        assertThat(recomputed.getApplicants())
+                .extracting(applicant -> applicant.getApplication().getId())
+                .doesNotContain(withdrawn.getId());
+    }
+
+    @Test
+    void otherParent_cannotViewRanking() {
+        Parent other = fixtures.createParent();
+
+        assertThatThrownBy(() -> applicantRankingService.getRankedApplicants(other.getEmail(), posting.getId()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private String createSitter(boolean verified, int experienceYears) {
+        return fixtures.createSitter(sitter -> {
+            sitter.setIsVerified(verified);
+            sitter.setExperienceYears(experienceYears);
+        }).getEmail();
+    }
+
+    private JobApplicationResponse apply(String sitterEmail, double proposedHourlyRate) {
+        return jobApplicationService.applyToJob(sitterEmail, JobApplicationRequest.builder()
+                .jobPostingId(posting.getId())
+                .coverLetter("지원합니다.")
+                .proposedHourlyRate(proposedHourlyRate)
+                .build());
+    }
+}
@@ -0,0 +1,179 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.util.ExportRowWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ExportService 대용량 스트리밍 테스트
+ *
+ * small-heap 태그 테스트는 smallHeapTest 태스크(-Xmx32m)에서 실행된다.
+ * MySQL 로 보이는 JDBC 대역이 100만 행을 한 행씩 만들어 내므로, 서비스가 MySQL 스트리밍 커서
+ * (fetchSize=Integer.MIN_VALUE)로 조회하고 행을 쌓지 않고 기록해야만 통과한다.
+ */
+class ExportServiceStreamingTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final String COVER_LETTER = "안녕하세요, 성실하게 아이를 돌보겠습니다. ".repeat(4);
+
+    private final GeneratedResultSource source = new GeneratedResultSource();
+    private final ExportService exportService = new ExportService(
+            new JdbcTemplate(source.dataSource()), mock(UserRepository.class), new ObjectMapper());
+
+    @Tag("small-heap")
+    @Test
+    void exportApplications_streamsMillionRowsThroughMySqlCursor() {
+        CountingOutputStream out = new CountingOutputStream();
+
+        exportService.exportApplications(null, null, ExportRowWriter.Format.NDJSON, out);
+
+        assertThat(out.lines).isEqualTo(ROW_COUNT);
+        assertThat(out.bytes).isGreaterThan(ROW_COUNT * 200L);
+        assertThat(source.resultSetType).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+        assertThat(source.fetchSize).isEqualTo(Integer.MIN_VALUE);
+        assertThat(source.closed).isTrue();
+    }
+
+    @Tag("small-heap")
+    @Test
+    void exportApplicationsAsCsv_streamsMillionRowsThroughMySqlCursor() {
+        CountingOutputStream out = new CountingOutputStream();
+
+        exportService.exportApplications(null, null, ExportRowWriter.Format.CSV, out);
+
+        // 헤더 1줄 + 데이터 행
+        assertThat(out.lines).isEqualTo(ROW_COUNT + 1);
+        assertThat(source.fetchSize).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    /**
+     * MySQL 로 보이는 JDBC 대역 (지원서 내보내기 컬럼 순서로 행을 next() 마다 만들어 낸다)
+     */
+    private static final class GeneratedResultSource {
+
+        private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        private int resultSetType;
+        private int fetchSize;
+        private boolean closed;
+        private int row;
+
+        private DataSource dataSource() {
+            DatabaseMetaData metaData = proxy(DatabaseMetaData.class, Map.of(
+                    "getDatabaseProductName", args -> "MySQL"));
+            Connection connection = proxy(Connection.class, Map.of(
+                    "getMetaData", args -> metaData,
+                    "prepareStatement", args -> {
+                        resultSetType = (int) args[1];
+                        return statement();
+                    }));
+            return proxy(DataSource.class, Map.of("getConnection", args -> connection));
+        }
+
+        private PreparedStatement statement() {
+            return proxy(PreparedStatement.class, Map.of(
+                    "setFetchSize", args -> {
+                        fetchSize = (int) args[0];
+                        return null;
+                    },
+                    "executeQuery", args -> resultSet()));
+        }
+
+        private ResultSet resultSet() {
+            return proxy(ResultSet.class, Map.of(
+                    "next", args -> ++row <= ROW_COUNT,
+                    "getObject", args -> column((int) args[0]),
+                    "close", args -> {
+                        closed = true;
+                        return null;
+                    }));
+        }
+
+        private Object column(int index) {
+            return switch (index) {
+                case 1 -> (long) row;
+                case 2 -> (long) (row % 5000);
+                case 3 -> "구인글 제목 " + (row % 5000);
+                case 4 -> (long) (row % 20000);
+                case 5 -> "sitter-" + (row % 20000) + "@test.com";
+                case 6 -> COVER_LETTER;
+                case 7 -> 12_000.0;
+                case 8 -> row % 3 == 0 ? "ACCEPTED" : "PENDING";
+                default -> base.plusSeconds(row);
+            };
+        }
+
+        // 지정한 메서드만 구현하고 나머지는 기본값(null, 0, false)을 돌려주는 JDBC 인터페이스 대역
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+                Function<Object[], Object> handler = methods.get(method.getName());
+                if (handler != null) {
+                    return handler.apply(args);
+                }
+                return switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + " stand-in";
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> defaultValue(method.getReturnType());
+                };
+            });
+        }
+
+        private static Object defaultValue(Class<?> returnType) {
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 받은 바이트를 버리고 개수와 줄바꿈만 세는 출력 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
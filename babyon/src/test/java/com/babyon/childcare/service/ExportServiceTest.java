@@ -0,0 +1,194 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.entity.JobApplication;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.entity.Sitter;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.repository.JobApplicationRepository;
+import com.babyon.childcare.repository.UserRepository;
+import com.babyon.childcare.support.TestFixtures;
+import com.babyon.childcare.util.ExportRowWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExportService 내보내기 테스트 (H2)
+ *
+ * 실제 쿼리를 실행해 부모 범위 제한과 출력 행을 확인하고,
+ * 조회 문장이 forward-only / read-only 커서와 설정한 fetch size 로 만들어지는지 함께 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:export;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class ExportServiceTest {
+
+    // 행 수보다 작게 잡아 커서가 여러 번에 나누어 가져오게 한다
+    private static final int FETCH_SIZE = 2;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate(dataSource);
+        exportService = new ExportService(jdbcTemplate, userRepository, objectMapper);
+        ReflectionTestUtils.setField(exportService, "fetchSize", FETCH_SIZE);
+    }
+
+    @Test
+    void exportApplications_streamsOnlyParentsRowsThroughForwardOnlyCursor() throws Exception {
+        Parent parent = fixtures.createParent();
+        JobPosting first = createPosting(parent);
+        JobPosting second = createPosting(parent);
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expectedIds.add(createApplication(first, fixtures.createSitter()).getId());
+        }
+        for (int i = 0; i < 2; i++) {
+            expectedIds.add(createApplication(second, fixtures.createSitter()).getId());
+        }
+        // 다른 부모의 지원서는 포함되지 않는다
+        createApplication(createPosting(fixtures.createParent()), fixtures.createSitter());
+
+        List<JsonNode> rows = export(out -> exportService.exportApplications(
+                parent.getId(), null, ExportRowWriter.Format.NDJSON, out));
+
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactlyElementsOf(expectedIds);
+        assertThat(rows).extracting(row -> row.get("jobPostingId").asLong())
+                .containsOnly(first.getId(), second.getId());
+        assertThat(rows.get(0).get("sitterEmail").asText()).startsWith("sitter-");
+
+        assertThat(jdbcTemplate.resultSetType).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+        assertThat(jdbcTemplate.resultSetConcurrency).isEqualTo(ResultSet.CONCUR_READ_ONLY);
+        // H2 는 MySQL 이 아니므로 설정한 fetch size 를 그대로 사용한다
+        assertThat(jdbcTemplate.fetchSize).isEqualTo(FETCH_SIZE);
+    }
+
+    @Test
+    void exportJobPostings_includesApplicationCountPerPosting() throws Exception {
+        Parent parent = fixtures.createParent();
+        JobPosting withApplications = createPosting(parent);
+        JobPosting withoutApplications = createPosting(parent);
+        createApplication(withApplications, fixtures.createSitter());
+        createApplication(withApplications, fixtures.createSitter());
+
+        List<JsonNode> rows = export(out -> exportService.exportJobPostings(
+                parent.getId(), ExportRowWriter.Format.NDJSON, out));
+
+        assertThat(rows).extracting(row -> row.get("id").asLong())
+                .containsExactly(withApplications.getId(), withoutApplications.getId());
+        assertThat(rows).extracting(row -> row.get("applicationCount").asLong()).containsExactly(2L, 0L);
+    }
+
+    @Test
+    void resolveExportParentId_allowsOnlyParentsAndAdmins() {
+        Parent parent = fixtures.createParent();
+        Sitter sitter = fixtures.createSitter();
+
+        assertThat(exportService.resolveExportParentId(parent.getEmail())).isEqualTo(parent.getId());
+        assertThatThrownBy(() -> exportService.resolveExportParentId(sitter.getEmail()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private List<JsonNode> export(ExportCall call) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        call.run(out);
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    private JobPosting createPosting(Parent parent) {
+        return fixtures.createPosting(parent, "내보내기 테스트 구인글");
+    }
+
+    private JobApplication createApplication(JobPosting posting, Sitter sitter) {
+        JobApplication application = new JobApplication();
+        application.setJobPosting(posting);
+        application.setSitter(sitter);
+        application.setCoverLetter("지원합니다");
+        application.setStatus(JobApplication.ApplicationStatus.PENDING);
+        return jobApplicationRepository.save(application);
+    }
+
+    @FunctionalInterface
+    private interface ExportCall {
+        void run(ByteArrayOutputStream out) throws Exception;
+    }
+
+    // ExportService 가 만든 조회 문장의 커서 설정을 기록한다
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private int resultSetType;
+        private int resultSetConcurrency;
+        private int fetchSize;
+
+        private RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(PreparedStatementCreator psc, RowCallbackHandler rch) {
+            super.query(con -> {
+                PreparedStatement ps = psc.createPreparedStatement(con);
+                resultSetType = ps.getResultSetType();
+                resultSetConcurrency = ps.getResultSetConcurrency();
+                fetchSize = ps.getFetchSize();
+                return ps;
+            }, rch);
+        }
+    }
+}
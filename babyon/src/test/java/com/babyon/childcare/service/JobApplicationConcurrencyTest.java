@@ -0,0 +1,192 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.dto.JobApplicationRequest;
+import com.babyon.childcare.dto.JobApplicationResponse;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.exception.DuplicateApplicationException;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.repository.JobApplicationRepository;
+import com.babyon.childcare.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지원서 제출 동시성 테스트
+ *
+ * 여러 스레드가 동시에 지원할 때 uk_job_sitter 유니크 키로 중복이 걸러지고
+ * DuplicateApplicationException 으로 변환되는지, Idempotency-Key 재시도가 최초 결과를 돌려주는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:apply-concurrency;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class JobApplicationConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    private ExecutorService executor;
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        Parent parent = fixtures.createParent();
+        jobPosting = fixtures.createPosting(parent, "동시성 테스트 구인글");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sameSitterApplyingConcurrently_onlyOneSucceeds() throws Exception {
+        String email = createSitter();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(i -> {
+            try {
+                jobApplicationService.applyToJob(email, applyRequest());
+                succeeded.incrementAndGet();
+            } catch (DuplicateApplicationException e) {
+                duplicates.incrementAndGet();
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(THREADS - 1);
+        assertThat(jobApplicationRepository.countApplicationsByJobPostingId(jobPosting.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void differentSittersApplyingConcurrently_allSucceed() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            emails.add(createSitter());
+        }
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(i -> {
+            try {
+                jobApplicationService.applyToJob(emails.get(i), applyRequest());
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(jobApplicationRepository.countApplicationsByJobPostingId(jobPosting.getId())).isEqualTo(THREADS);
+    }
+
+    @Test
+    void sameIdempotencyKeyConcurrently_returnsOriginalResult() throws Exception {
+        String email = createSitter();
+        String key = UUID.randomUUID().toString();
+        JobApplicationRequest request = applyRequest();
+        Queue<Long> applicationIds = new ConcurrentLinkedQueue<>();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(i -> {
+            try {
+                JobApplicationResponse response = idempotencyService.execute(email, "job-application.apply",
+                        key, request, JobApplicationResponse.class,
+                        () -> jobApplicationService.applyToJob(email, request));
+                applicationIds.add(response.getId());
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(applicationIds).hasSize(THREADS);
+        assertThat(applicationIds.stream().distinct()).hasSize(1);
+        assertThat(jobApplicationRepository.countApplicationsByJobPostingId(jobPosting.getId())).isEqualTo(1);
+
+        // 순차 재시도도 재실행 없이 같은 결과
+        JobApplicationResponse retried = idempotencyService.execute(email, "job-application.apply",
+                key, request, JobApplicationResponse.class,
+                () -> jobApplicationService.applyToJob(email, request));
+        assertThat(retried.getId()).isEqualTo(applicationIds.peek());
+    }
+
+    private String createSitter() {
+        return fixtures.createSitter().getEmail();
+    }
+
+    private JobApplicationRequest applyRequest() {
+        return JobApplicationRequest.builder()
+                .jobPostingId(jobPosting.getId())
+                .coverLetter("열심히 하겠습니다.")
+                .proposedHourlyRate(12000.0)
+                .build();
+    }
+
+    // 모든 스레드를 대기시킨 뒤 동시에 출발
+    private void runConcurrently(IntConsumerTask task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                task.run(index);
+                return null;
+            }));
+        }
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntConsumerTask {
+        void run(int index);
+    }
+}
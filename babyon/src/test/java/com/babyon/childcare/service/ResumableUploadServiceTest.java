@@ -0,0 +1,202 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.entity.ResumableUpload;
+import com.babyon.childcare.exception.ResumableUploadException;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.repository.ResumableUploadRepository;
+import com.babyon.childcare.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재개 가능한 업로드(tus) 테스트
+ *
+ * 오프셋 compare-and-set 과 동시 PATCH 차단, 체크섬 불일치 시 잘라내기, 만료 세션 정리를 확인한다.
+ * 임시 파일은 테스트 전용 디렉터리에 만든다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:resumable-upload;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "app.upload.resumable.dir=${java.io.tmpdir}/babyon-resumable-test",
+    // 세션 수 제한에 걸리지 않게 한다 (시터는 테스트마다 새로 만든다)
+    "app.upload.resumable.max-active-per-sitter=10"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class ResumableUploadServiceTest {
+
+    private static final String CONTENT_TYPE = "video/mp4";
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private ResumableUploadService resumableUploadService;
+
+    @Autowired
+    private ResumableUploadRepository uploadRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long sitterId;
+
+    @BeforeEach
+    void setUp() {
+        sitterId = fixtures.createSitter().getId();
+    }
+
+    @Test
+    void appendChunk_rejectsStaleOffsetAndAdvancesOnlyFromStoredOffset() throws Exception {
+        ResumableUpload upload = resumableUploadService.create(sitterId, 8, "video.mp4", CONTENT_TYPE);
+
+        assertThat(append(upload, 0, "abcd", null)).isEqualTo(4);
+
+        // 같은 청크 재전송 (응답을 못 받은 클라이언트) - 서버 오프셋과 달라 거절
+        assertThatThrownBy(() -> append(upload, 0, "abcd", null))
+                .isInstanceOfSatisfying(ResumableUploadException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(409);
+                    assertThat(e.getErrorCode()).isEqualTo("UPLOAD_OFFSET_MISMATCH");
+                });
+
+        // 조회 이후 다른 인스턴스가 먼저 전진시킨 경우 DB 의 compare-and-set 이 0건
+        Integer staleUpdate = transactionTemplate.execute(status -> uploadRepository.advanceOffset(
+                upload.getId(), 0, 8, LocalDateTime.now().plusHours(1), LocalDateTime.now()));
+        assertThat(staleUpdate).isZero();
+
+        assertThat(append(upload, 4, "efgh", null)).isEqualTo(8);
+        assertThat(resumableUploadService.get(sitterId, upload.getId()).isComplete()).isTrue();
+        assertThat(Files.readString(partFile(upload), StandardCharsets.UTF_8)).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    void appendChunk_rejectsConcurrentPatchOnSameUpload() throws Exception {
+        ResumableUpload upload = resumableUploadService.create(sitterId, 8, "video.mp4", CONTENT_TYPE);
+        BlockingInputStream slowBody = new BlockingInputStream("abcd".getBytes(StandardCharsets.UTF_8));
+
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> resumableUploadService.appendChunk(
+                sitterId, upload.getId(), 0, 4, null, slowBody));
+        assertThat(slowBody.reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 요청이 기록 중인 동안의 같은 업로드 PATCH
+        assertThatThrownBy(() -> append(upload, 0, "wxyz", null))
+                .isInstanceOfSatisfying(ResumableUploadException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("UPLOAD_LOCKED"));
+
+        slowBody.release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(4);
+        assertThat(Files.readString(partFile(upload), StandardCharsets.UTF_8)).isEqualTo("abcd");
+    }
+
+    @Test
+    void appendChunk_truncatesChunkOnChecksumMismatch() throws Exception {
+        ResumableUpload upload = resumableUploadService.create(sitterId, 8, "video.mp4", CONTENT_TYPE);
+        append(upload, 0, "abcd", checksum("abcd"));
+
+        assertThatThrownBy(() -> append(upload, 4, "efgh", checksum("EFGH")))
+                .isInstanceOfSatisfying(ResumableUploadException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(ResumableUploadException.CHECKSUM_MISMATCH));
+
+        // 오프셋은 그대로이고, 잘못 받은 바이트는 디스크에서도 잘려 나간다
+        assertThat(resumableUploadService.get(sitterId, upload.getId()).getUploadOffset()).isEqualTo(4L);
+        assertThat(Files.size(partFile(upload))).isEqualTo(4L);
+
+        // 같은 오프셋부터 다시 보내면 이어진다
+        assertThat(append(upload, 4, "efgh", checksum("efgh"))).isEqualTo(8);
+        assertThat(Files.readString(partFile(upload), StandardCharsets.UTF_8)).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    void purgeExpired_deletesExpiredSessionsAndPartFiles() throws Exception {
+        ResumableUpload expired = resumableUploadService.create(sitterId, 8, "expired.mp4", CONTENT_TYPE);
+        ResumableUpload active = resumableUploadService.create(sitterId, 8, "active.mp4", CONTENT_TYPE);
+        append(expired, 0, "abcd", null);
+        ResumableUpload stored = uploadRepository.findById(expired.getId()).orElseThrow();
+        stored.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        uploadRepository.save(stored);
+
+        resumableUploadService.purgeExpired();
+
+        assertThat(uploadRepository.findById(expired.getId())).isEmpty();
+        assertThat(Files.exists(partFile(expired))).isFalse();
+        assertThat(uploadRepository.findById(active.getId())).isPresent();
+        assertThat(Files.exists(partFile(active))).isTrue();
+
+        // 만료된 세션은 정리 전이라도 조회/기록할 수 없다
+        assertThatThrownBy(() -> resumableUploadService.get(sitterId, expired.getId()))
+                .isInstanceOfSatisfying(ResumableUploadException.class, e -> assertThat(e.getStatus()).isEqualTo(404));
+    }
+
+    private long append(ResumableUpload upload, long offset, String chunk, String checksum) {
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        return resumableUploadService.appendChunk(sitterId, upload.getId(), offset, bytes.length, checksum,
+                new ByteArrayInputStream(bytes));
+    }
+
+    private Path partFile(ResumableUpload upload) {
+        Path uploadDir = (Path) ReflectionTestUtils.getField(resumableUploadService, "uploadDir");
+        return uploadDir.resolve(upload.getId() + ".part");
+    }
+
+    private static String checksum(String chunk) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(chunk.getBytes(StandardCharsets.UTF_8));
+        return ResumableUploadService.CHECKSUM_ALGORITHM + " " + Base64.getEncoder().encodeToString(digest);
+    }
+
+    // 첫 read 에서 release 될 때까지 멈추는 본문 (느린 클라이언트)
+    private static final class BlockingInputStream extends InputStream {
+
+        private final CountDownLatch reading = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final InputStream delegate;
+
+        private BlockingInputStream(byte[] bytes) {
+            this.delegate = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            reading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.read(buffer, offset, length);
+        }
+    }
+}
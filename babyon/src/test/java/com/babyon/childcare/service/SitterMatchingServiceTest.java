@@ -0,0 +1,194 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.TestSecurityConfig;
+import com.babyon.childcare.dto.SitterJobMatchResponse;
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.entity.Sitter;
+import com.babyon.childcare.entity.SitterServiceArea;
+import com.babyon.childcare.event.JobPostingChangedEvent;
+import com.babyon.childcare.event.SitterProfileChangedEvent;
+import com.babyon.childcare.oauth.CustomOAuth2UserService;
+import com.babyon.childcare.oauth.OAuth2SuccessHandler;
+import com.babyon.childcare.repository.JobPostingRepository;
+import com.babyon.childcare.repository.PostingMatchTaskRepository;
+import com.babyon.childcare.repository.SitterMatchStateRepository;
+import com.babyon.childcare.repository.SitterServiceAreaRepository;
+import com.babyon.childcare.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시터 추천 매칭 증분 갱신 / 지연 초기화 테스트
+ *
+ * 매칭 갱신은 matchingExecutor 에서 비동기로 실행되므로 결과가 반영될 때까지 기다린 뒤 확인한다.
+ * 구인글 변경은 변경 트랜잭션의 표식 기록(recordPostingChange)과 커밋 후 예약(onJobPostingChanged)을 차례로 호출해 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sitter-matching;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@Import({TestSecurityConfig.class, TestFixtures.class})
+@ActiveProfiles("test")
+class SitterMatchingServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @MockBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Autowired
+    private SitterMatchingService sitterMatchingService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private SitterServiceAreaRepository serviceAreaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SitterMatchStateRepository matchStateRepository;
+
+    @Autowired
+    private PostingMatchTaskRepository postingMatchTaskRepository;
+
+    private Parent parent;
+    // 테스트마다 다른 지역을 써서 다른 테스트의 구인글이 후보에 섞이지 않게 한다
+    private String city;
+
+    @BeforeEach
+    void setUp() {
+        parent = fixtures.createParent();
+        city = "테스트시" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void sitterWithOnlyIncrementalRows_isFullyComputedOnFirstLookup() throws Exception {
+        Long sitterId = createSitter();
+        // 매칭 기능 도입 이전부터 있던 구인글 (이벤트 없이 저장)
+        JobPosting existing = createPosting(city + " 강남구");
+        JobPosting created = createPosting(city + " 서초구");
+
+        // 새 구인글의 증분 갱신은 전체 계산 전인 시터에게도 행을 넣는다
+        postingChanged(created.getId());
+        awaitUntil(() -> storedPostingIds(sitterId).contains(created.getId()));
+        assertThat(storedPostingIds(sitterId)).containsExactly(created.getId());
+        assertThat(matchStateRepository.existsById(sitterId)).isFalse();
+
+        // 결과가 비어 있지 않아도 전체 계산 기록이 없으면 계산을 예약한다
+        sitterMatchingService.getMatches(sitterId, 10);
+
+        awaitUntil(() -> matchStateRepository.existsById(sitterId));
+        awaitUntil(() -> matchedPostingIds(sitterId).size() == 2);
+        assertThat(matchedPostingIds(sitterId)).containsExactlyInAnyOrder(existing.getId(), created.getId());
+    }
+
+    @Test
+    void postingChanges_refreshOnlyThatPostingAndExpiredPostingsAreHidden() throws Exception {
+        Long sitterId = createSitter();
+        JobPosting closing = createPosting(city + " 강남구");
+        JobPosting expiring = createPosting(city + " 마포구");
+        JobPosting remaining = createPosting(city + " 서초구");
+
+        sitterMatchingService.onSitterProfileChanged(new SitterProfileChangedEvent(sitterId));
+        awaitUntil(() -> matchedPostingIds(sitterId).size() == 3);
+
+        // 마감된 구인글은 해당 구인글의 매칭만 지운다
+        closing.setIsActive(false);
+        jobPostingRepository.save(closing);
+        postingChanged(closing.getId());
+        awaitUntil(() -> !storedPostingIds(sitterId).contains(closing.getId()));
+
+        // 종료일이 지난 구인글은 갱신 이벤트가 없어도 조회에서 제외된다
+        expiring.setEndDate(LocalDateTime.now().minusDays(1));
+        jobPostingRepository.save(expiring);
+
+        assertThat(matchedPostingIds(sitterId)).containsExactly(remaining.getId());
+        assertThat(storedPostingIds(sitterId)).contains(expiring.getId());
+    }
+
+    @Test
+    void droppedPostingRefresh_isRetriedFromRemainingTask() throws Exception {
+        Long sitterId = createSitter();
+        JobPosting posting = createPosting(city + " 강남구");
+
+        // 신규 등록은 커밋되었지만 커밋 후 작업이 큐 포화/재시작으로 실행되지 않은 상황
+        sitterMatchingService.recordPostingChange(new JobPostingChangedEvent(posting.getId(), true));
+        // 이후 수정이 있어도 알림 대기 표식은 유지된다
+        sitterMatchingService.recordPostingChange(new JobPostingChangedEvent(posting.getId(), false));
+        assertThat(postingMatchTaskRepository.findById(posting.getId()))
+                .hasValueSatisfying(task -> assertThat(task.getAlertPending()).isTrue());
+        jdbcTemplate.update("UPDATE posting_match_tasks SET requested_at = ? WHERE job_posting_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)), posting.getId());
+
+        sitterMatchingService.retryStalePostings();
+
+        awaitUntil(() -> storedPostingIds(sitterId).contains(posting.getId()));
+        awaitUntil(() -> !postingMatchTaskRepository.existsById(posting.getId()));
+    }
+
+    // 구인글 변경 커밋 (변경 트랜잭션의 표식 기록 + 커밋 후 갱신 예약)
+    private void postingChanged(Long jobPostingId) {
+        JobPostingChangedEvent event = new JobPostingChangedEvent(jobPostingId, false);
+        sitterMatchingService.recordPostingChange(event);
+        sitterMatchingService.onJobPostingChanged(event);
+    }
+
+    private Long createSitter() {
+        Sitter sitter = fixtures.createSitter();
+
+        SitterServiceArea area = new SitterServiceArea();
+        area.setSitter(sitter);
+        area.setCity(city);
+        serviceAreaRepository.save(area);
+        return sitter.getId();
+    }
+
+    private JobPosting createPosting(String location) {
+        return fixtures.createPosting(parent, "추천 테스트 구인글", posting -> posting.setLocation(location));
+    }
+
+    // 조회 API 결과 (만료/비활성 구인글 제외)
+    private List<Long> matchedPostingIds(Long sitterId) {
+        return sitterMatchingService.getMatches(sitterId, 10).stream()
+                .map(SitterJobMatchResponse::getJobPostingId)
+                .collect(Collectors.toList());
+    }
+
+    // 저장된 매칭 행 (조회 필터 이전)
+    private List<Long> storedPostingIds(Long sitterId) {
+        return jdbcTemplate.queryForList(
+                "SELECT job_posting_id FROM sitter_job_matches WHERE sitter_id = ?", Long.class, sitterId);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.config.AsyncConfig;
+import com.babyon.childcare.storage.PresignedUrlCache;
+import com.babyon.childcare.storage.UploadResult;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 프로필 영상 업로드 지연 시간 벤치마크 (p50/p99)
+ *
+ * 인트로/답변 영상을 차례로 올리던 방식(이전)과 videoUploadExecutor 로 동시에 올리는 방식(현재)을 비교한다.
+ * S3 는 요청마다 왕복 지연과 연결당 대역폭만큼 잠드는 목 S3Client 로 대신하고, 실행기는 운영 설정(AsyncConfig)을 그대로 쓴다.
+ * 기본 test 작업에서는 제외되며 ./gradlew uploadBenchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class VideoUploadLatencyBenchmarkTest {
+
+    private static final int ITERATIONS = 30;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long ROUND_TRIP_MILLIS = 15;
+    private static final long JITTER_MILLIS = 10;
+    private static final long BYTES_PER_MILLI_PER_CONNECTION = 100L * 1024; // 연결당 약 100MB/s
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+    private final Executor videoUploadExecutor = asyncConfig.videoUploadExecutor();
+    private final S3Service s3Service = new S3Service(standInS3Client(), mock(S3Presigner.class),
+            asyncConfig.s3UploadExecutor(), new PresignedUrlCache(100, 600), 8, 4);
+
+    // 인트로 3파트, 답변 2파트 (파트 크기 8MB)
+    private final MockMultipartFile introVideo = video("intro.mp4", 20 * 1024 * 1024);
+    private final MockMultipartFile answerVideo = video("answer.mp4", 12 * 1024 * 1024);
+
+    @Test
+    void concurrentVideoUploads_lowerRequestLatency() {
+        ReflectionTestUtils.setField(s3Service, "bucketName", "benchmark");
+
+        List<Long> sequential = measure(this::uploadSequentially);
+        List<Long> concurrent = measure(this::uploadConcurrently);
+
+        System.out.printf("영상 업로드 지연 (ms, %d회): 순차 p50=%d p99=%d / 동시 p50=%d p99=%d%n", ITERATIONS,
+                percentile(sequential, 50), percentile(sequential, 99),
+                percentile(concurrent, 50), percentile(concurrent, 99));
+        assertThat(percentile(concurrent, 50)).isLessThan(percentile(sequential, 50));
+    }
+
+    // 이전 방식: 인트로 업로드 후 답변 업로드
+    private void uploadSequentially() {
+        upload(introVideo);
+        upload(answerVideo);
+    }
+
+    // 현재 방식: 두 영상을 videoUploadExecutor 에서 동시에 업로드
+    private void uploadConcurrently() {
+        CompletableFuture<UploadResult> intro = CompletableFuture.supplyAsync(() -> upload(introVideo), videoUploadExecutor);
+        CompletableFuture<UploadResult> answer = CompletableFuture.supplyAsync(() -> upload(answerVideo), videoUploadExecutor);
+        CompletableFuture.allOf(intro, answer).join();
+    }
+
+    private UploadResult upload(MockMultipartFile file) {
+        return s3Service.upload(file, "sitter/1/ai-profile", () -> false, Map.of());
+    }
+
+    private static List<Long> measure(Runnable request) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            request.run();
+        }
+        List<Long> elapsedMillis = new ArrayList<>(ITERATIONS);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            request.run();
+            elapsedMillis.add((System.nanoTime() - startedAt) / 1_000_000);
+        }
+        Collections.sort(elapsedMillis);
+        return elapsedMillis;
+    }
+
+    // nearest-rank 백분위수 (정렬된 목록)
+    private static long percentile(List<Long> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    // 요청마다 왕복 지연 + 본문 전송 시간만큼 잠드는 S3 대역
+    private static S3Client standInS3Client() {
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            simulateRequest(0);
+            return CreateMultipartUploadResponse.builder().uploadId("upload").build();
+        });
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            simulateRequest(request.contentLength());
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            simulateRequest(0);
+            return CompleteMultipartUploadResponse.builder().build();
+        });
+        return s3Client;
+    }
+
+    private static void simulateRequest(long bytes) throws InterruptedException {
+        Thread.sleep(ROUND_TRIP_MILLIS + ThreadLocalRandom.current().nextLong(JITTER_MILLIS + 1)
+                + bytes / BYTES_PER_MILLI_PER_CONNECTION);
+    }
+
+    private static MockMultipartFile video(String filename, int size) {
+        return new MockMultipartFile("video", filename, "video/mp4", new byte[size]);
+    }
+}
@@ -0,0 +1,117 @@
+package com.babyon.childcare.service;
+
+import com.babyon.childcare.repository.SitterAiVideoProfileRepository;
+import com.babyon.childcare.repository.SitterVideoResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ViewCountBuffer 일괄 반영 테스트
+ *
+ * 저장소는 호출 인자만 기록하는 목으로 대신하고, 트랜잭션은 아무 일도 하지 않는 트랜잭션 매니저로 실행한다.
+ */
+class ViewCountBufferTest {
+
+    private final SitterAiVideoProfileRepository aiVideoProfileRepository = mock(SitterAiVideoProfileRepository.class);
+    private final SitterVideoResumeRepository videoResumeRepository = mock(SitterVideoResumeRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    // 증가분 → 반영된 id 목록 (UPDATE 문 단위)
+    private final List<Map.Entry<Integer, List<Long>>> videoResumeUpdates = new ArrayList<>();
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        when(videoResumeRepository.addViewCount(anyCollection(), anyInt())).thenAnswer(this::recordUpdate);
+        buffer = new ViewCountBuffer(aiVideoProfileRepository, videoResumeRepository, transactionTemplate);
+    }
+
+    @Test
+    void flush_issuesOneUpdatePerDistinctDelta() {
+        buffer.recordVideoResumeView(3L);
+        buffer.recordVideoResumeView(1L);
+        buffer.recordVideoResumeView(2L);
+        buffer.recordVideoResumeView(2L);
+
+        buffer.flush();
+
+        assertThat(videoResumeUpdates).containsExactly(
+                Map.entry(1, List.of(1L, 3L)),
+                Map.entry(2, List.of(2L)));
+
+        // 반영된 증가분은 다시 반영되지 않는다
+        videoResumeUpdates.clear();
+        buffer.flush();
+        assertThat(videoResumeUpdates).isEmpty();
+    }
+
+    @Test
+    void flush_splitsLargeIdListsIntoBatches() {
+        LongStream.rangeClosed(1, 1_200).forEach(buffer::recordVideoResumeView);
+
+        buffer.flush();
+
+        assertThat(videoResumeUpdates.stream().map(update -> update.getValue().size()).collect(Collectors.toList()))
+                .containsExactly(500, 500, 200);
+    }
+
+    @Test
+    void failedFlush_restoresDeltasForNextFlush() {
+        buffer.recordVideoResumeView(1L);
+        doThrow(new QueryTimeoutException("lock wait timeout"))
+                .doAnswer(this::recordUpdate)
+                .when(videoResumeRepository).addViewCount(anyCollection(), anyInt());
+
+        buffer.flush();
+        assertThat(videoResumeUpdates).isEmpty();
+
+        // 실패한 증가분과 그 사이 조회가 합쳐져 다음 주기에 반영된다
+        buffer.recordVideoResumeView(1L);
+        buffer.flush();
+
+        assertThat(videoResumeUpdates).containsExactly(Map.entry(2, List.of(1L)));
+    }
+
+    private int recordUpdate(InvocationOnMock invocation) {
+        Collection<Long> ids = invocation.getArgument(0);
+        videoResumeUpdates.add(Map.entry(invocation.<Integer>getArgument(1), List.copyOf(ids)));
+        return ids.size();
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
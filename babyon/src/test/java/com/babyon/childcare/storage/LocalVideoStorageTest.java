@@ -0,0 +1,118 @@
+package com.babyon.childcare.storage;
+
+import com.babyon.childcare.exception.InvalidFileException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 영상 저장소 테스트
+ *
+ * 서명 URL 검증(만료, 변조), 객체 키 경로 검증, 직접 업로드 본문 길이 검증을 확인한다.
+ */
+class LocalVideoStorageTest {
+
+    private static final String KEY = "videos/1/profile.mp4";
+    private static final String CONTENT_TYPE = "video/mp4";
+
+    @TempDir
+    Path rootDir;
+
+    private LocalVideoStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalVideoStorage(new PresignedUrlCache(100, 60),
+                rootDir.toString(), "http://localhost:8080", "test-signing-secret");
+    }
+
+    @Test
+    void signedUrl_isValidOnlyForSameRequestBeforeExpiry() {
+        String url = storage.generatePresignedPutUrl(KEY, CONTENT_TYPE, 4, Duration.ofSeconds(60));
+        String signature = signatureOf(url);
+        long signedExpires = expiresOf(url);
+
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires, CONTENT_TYPE, 4L, signature)).isTrue();
+        // 서명 대상(키, 만료 시각, 본문 길이, MIME, 메서드) 변조
+        assertThat(storage.isValidSignature("PUT", "videos/2/profile.mp4", signedExpires, CONTENT_TYPE, 4L, signature))
+                .isFalse();
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires + 3600, CONTENT_TYPE, 4L, signature)).isFalse();
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires, CONTENT_TYPE, 5L, signature)).isFalse();
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires, "text/html", 4L, signature)).isFalse();
+        assertThat(storage.isValidSignature("GET", KEY, signedExpires, null, null, signature)).isFalse();
+        // 서명 값 변조
+        String tampered = (signature.charAt(0) == '0' ? "1" : "0") + signature.substring(1);
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires, CONTENT_TYPE, 4L, tampered)).isFalse();
+        assertThat(storage.isValidSignature("PUT", KEY, signedExpires, CONTENT_TYPE, 4L, null)).isFalse();
+    }
+
+    @Test
+    void expiredSignature_isRejected() {
+        String url = storage.generatePresignedUrl(KEY, Duration.ofSeconds(-10));
+
+        assertThat(storage.isValidSignature("GET", KEY, expiresOf(url), null, null, signatureOf(url))).isFalse();
+    }
+
+    @Test
+    void traversalAndBackslashKeys_areRejected() {
+        for (String key : new String[]{"../outside.mp4", "videos/../../outside.mp4", "videos/./1.mp4",
+                "videos//1.mp4", "videos\\1.mp4", "..\\outside.mp4", ".tmp/upload-1.part", ""}) {
+            assertThatThrownBy(() -> storage.findFile(key))
+                    .as(key)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(storage.findFile(KEY)).isEmpty();
+    }
+
+    @Test
+    void store_savesBodyOfSignedLength() throws Exception {
+        storage.store(KEY, CONTENT_TYPE, body("abcd"), 4);
+
+        assertThat(storage.findFile(KEY)).hasValueSatisfying(path ->
+                assertThat(path).hasContent("abcd"));
+        assertThat(storage.contentTypeOf(KEY)).isEqualTo(CONTENT_TYPE);
+    }
+
+    @Test
+    void store_rejectsShortOrLongBodyWithoutLeavingFiles() throws Exception {
+        assertThatThrownBy(() -> storage.store(KEY, CONTENT_TYPE, body("abc"), 4))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> storage.store(KEY, CONTENT_TYPE, body("abcde"), 4))
+                .isInstanceOf(InvalidFileException.class);
+
+        assertThat(storage.findFile(KEY)).isEmpty();
+        try (var temp = Files.list(rootDir.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long expiresOf(String url) {
+        return Long.parseLong(queryParam(url, "expires"));
+    }
+
+    private static String signatureOf(String url) {
+        return queryParam(url, "signature");
+    }
+
+    private static String queryParam(String url, String name) {
+        for (String pair : url.substring(url.indexOf('?') + 1).split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+}
@@ -0,0 +1,113 @@
+package com.babyon.childcare.storage;
+
+import com.babyon.childcare.util.Mp4DurationParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RangedObjectInputStream 테스트
+ *
+ * 범위 읽기 요청을 기록하는 RangeReader 로 파서가 본문을 내려받지 않고 필요한 구간만 요청하는지 확인한다.
+ */
+class RangedObjectInputStreamTest {
+
+    private static final int WINDOW_SIZE = 4 * 1024;
+
+    @Test
+    void moovAtEnd_parsesDurationWithoutDownloadingMdat() throws Exception {
+        byte[] mp4 = concat(ftyp(), box("mdat", new byte[2 * 1024 * 1024]), box("moov", mvhdV0(1_000, 61_500)));
+        RecordingReader reader = new RecordingReader(mp4);
+
+        var duration = Mp4DurationParser.parseDurationMicros(
+                new RangedObjectInputStream(reader, mp4.length, WINDOW_SIZE));
+
+        assertThat(duration).hasValue(61_500_000L);
+        // 앞부분 구간 1회 + moov 위치 구간 1회
+        assertThat(reader.offsets).hasSize(2);
+        assertThat(reader.bytesRead).isLessThan(2L * WINDOW_SIZE);
+    }
+
+    @Test
+    void sequentialReads_returnObjectBytesInOrder() throws Exception {
+        byte[] object = new byte[10_000];
+        for (int i = 0; i < object.length; i++) {
+            object[i] = (byte) i;
+        }
+        RecordingReader reader = new RecordingReader(object);
+        RangedObjectInputStream in = new RangedObjectInputStream(reader, object.length, WINDOW_SIZE);
+
+        assertThat(in.skip(100)).isEqualTo(100);
+        assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(object, 100, object.length));
+        assertThat(in.read()).isEqualTo(-1);
+        // 객체 크기 이후는 요청하지 않는다
+        assertThat(reader.offsets).containsExactly(100L, 100L + WINDOW_SIZE, 100L + 2 * WINDOW_SIZE);
+    }
+
+    @Test
+    void objectShorterThanSize_throwsEof() {
+        RecordingReader reader = new RecordingReader(new byte[10]);
+        RangedObjectInputStream in = new RangedObjectInputStream(reader, 100, WINDOW_SIZE);
+
+        assertThatThrownBy(in::readAllBytes).isInstanceOf(EOFException.class);
+    }
+
+    private static final class RecordingReader implements RangedObjectInputStream.RangeReader {
+        private final byte[] object;
+        private final List<Long> offsets = new ArrayList<>();
+        private long bytesRead;
+
+        private RecordingReader(byte[] object) {
+            this.object = object;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) throws IOException {
+            offsets.add(offset);
+            int from = (int) Math.min(offset, object.length);
+            int to = (int) Math.min(offset + length, object.length);
+            bytesRead += to - from;
+            return Arrays.copyOfRange(object, from, to);
+        }
+    }
+
+    // ========================= ISO-BMFF 박스 생성 =========================
+
+    private static byte[] ftyp() {
+        return box("ftyp", "isom\0\0\2\0isomiso2mp41".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static byte[] mvhdV0(long timescale, long duration) {
+        ByteBuffer payload = ByteBuffer.allocate(100);
+        payload.putInt(0);              // version 0 + flags
+        payload.putInt(0).putInt(0);    // creation, modification
+        payload.putInt((int) timescale);
+        payload.putInt((int) duration);
+        return box("mvhd", payload.array());
+    }
+
+    private static byte[] box(String type, byte[] payload) {
+        ByteBuffer header = ByteBuffer.allocate(8);
+        header.putInt(8 + payload.length);
+        header.put(type.getBytes(StandardCharsets.ISO_8859_1));
+        return concat(header.array(), payload);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.babyon.childcare.support;
+
+import com.babyon.childcare.entity.JobPosting;
+import com.babyon.childcare.entity.Parent;
+import com.babyon.childcare.entity.Sitter;
+import com.babyon.childcare.repository.JobPostingRepository;
+import com.babyon.childcare.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 통합 테스트 공통 데이터 생성 (부모, 시터, 구인글)
+ *
+ * 이메일은 매번 무작위로 만들어 같은 컨텍스트를 공유하는 테스트끼리 충돌하지 않게 한다.
+ * 테스트 클래스에서 @Import(TestFixtures.class) 로 등록한 뒤 주입받아 사용한다.
+ */
+@TestComponent
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final JobPostingRepository jobPostingRepository;
+
+    public TestFixtures(UserRepository userRepository, JobPostingRepository jobPostingRepository) {
+        this.userRepository = userRepository;
+        this.jobPostingRepository = jobPostingRepository;
+    }
+
+    public Parent createParent() {
+        Parent parent = new Parent();
+        parent.setEmail("parent-" + UUID.randomUUID() + "@test.com");
+        parent.setPassword("password");
+        return userRepository.save(parent);
+    }
+
+    public Sitter createSitter() {
+        return createSitter(sitter -> { });
+    }
+
+    /**
+     * @param customizer 저장 전 추가 설정 (인증 여부, 경력 등)
+     */
+    public Sitter createSitter(Consumer<Sitter> customizer) {
+        Sitter sitter = new Sitter();
+        sitter.setEmail("sitter-" + UUID.randomUUID() + "@test.com");
+        sitter.setPassword("password");
+        customizer.accept(sitter);
+        return userRepository.save(sitter);
+    }
+
+    public JobPosting createPosting(Parent parent, String title) {
+        return createPosting(parent, title, posting -> { });
+    }
+
+    /**
+     * 활성 구인글 생성
+     * @param customizer 저장 전 추가 설정 (지역, 급여 등)
+     */
+    public JobPosting createPosting(Parent parent, String title, Consumer<JobPosting> customizer) {
+        JobPosting posting = new JobPosting();
+        posting.setTitle(title);
+        posting.setParent(parent);
+        posting.setIsActive(true);
+        customizer.accept(posting);
+        return jobPostingRepository.save(posting);
+    }
+}
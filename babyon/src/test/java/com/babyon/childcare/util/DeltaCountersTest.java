@@ -0,0 +1,79 @@
+package com.babyon.childcare.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DeltaCounters 누적/꺼내기/되돌리기 테스트
+ */
+class DeltaCountersTest {
+
+    @Test
+    void drain_returnsAccumulatedDeltasAndResets() {
+        DeltaCounters counters = new DeltaCounters();
+        counters.increment(1L);
+        counters.increment(1L);
+        counters.increment(2L);
+
+        assertThat(counters.drain()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+        // 꺼낸 뒤에는 0 부터 다시 센다
+        assertThat(counters.drain()).isEmpty();
+
+        counters.increment(1L);
+        assertThat(counters.drain()).isEqualTo(Map.of(1L, 1L));
+    }
+
+    @Test
+    void restore_mergesWithIncrementsMadeAfterDrain() {
+        DeltaCounters counters = new DeltaCounters();
+        counters.increment(1L);
+        counters.increment(2L);
+        Map<Long, Long> failed = counters.drain();
+
+        // 반영 실패 사이에 들어온 증가분과 합쳐진다
+        counters.increment(1L);
+        counters.restore(failed);
+
+        assertThat(counters.drain()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    void groupByDelta_groupsSortedIdsBySameDelta() {
+        Map<Integer, List<Long>> grouped = DeltaCounters.groupByDelta(Map.of(
+                30L, 1L, 10L, 1L, 20L, 3L, 40L, Long.MAX_VALUE));
+
+        assertThat(grouped).isEqualTo(Map.of(
+                1, List.of(10L, 30L),
+                3, List.of(20L),
+                Integer.MAX_VALUE, List.of(40L)));
+        // 증가분 오름차순
+        assertThat(grouped.keySet()).containsExactly(1, 3, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void concurrentIncrements_areNotLost() throws Exception {
+        DeltaCounters counters = new DeltaCounters();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    counters.increment(i % 2 == 0 ? 1L : 2L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        long half = (long) threads * perThread / 2;
+        assertThat(counters.drain()).isEqualTo(Map.of(1L, half, 2L, half));
+    }
+}
@@ -0,0 +1,130 @@
+package com.babyon.childcare.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ExportRowWriter 스트리밍 테스트
+ *
+ * small-heap 태그 테스트는 smallHeapTest 태스크(-Xmx32m)에서 실행된다.
+ * 행을 메모리에 쌓는 구현이라면 100만 행 기록 중 OutOfMemoryError 로 실패한다.
+ */
+class ExportRowWriterTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final List<String> COLUMNS = List.of(
+            "applicationId", "jobPostingId", "title", "status", "coverLetter", "createdAt");
+
+    private final JsonFactory jsonFactory = new ObjectMapper().getFactory();
+
+    @Tag("small-heap")
+    @Test
+    void ndjson_streamsMillionRowsWithConstantMemory() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        writeSyntheticRows(ExportRowWriter.Format.NDJSON, out);
+
+        assertThat(out.lines).isEqualTo(ROW_COUNT);
+        assertThat(out.bytes).isGreaterThan(ROW_COUNT * 100L);
+    }
+
+    @Tag("small-heap")
+    @Test
+    void csv_streamsMillionRowsWithConstantMemory() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        writeSyntheticRows(ExportRowWriter.Format.CSV, out);
+
+        // 헤더 1줄 + 데이터 행
+        assertThat(out.lines).isEqualTo(ROW_COUNT + 1);
+    }
+
+    @Test
+    void ndjson_writesOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ExportRowWriter writer = ExportRowWriter.create(ExportRowWriter.Format.NDJSON, out,
+                List.of("id", "title", "active", "createdAt"), jsonFactory)) {
+            writer.writeRow(new Object[]{1L, "주말 \"돌봄\"", true, LocalDateTime.of(2025, 1, 2, 3, 4, 5)});
+            writer.writeRow(new Object[]{2L, null, false, null});
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).containsExactly(
+                "{\"id\":1,\"title\":\"주말 \\\"돌봄\\\"\",\"active\":true,\"createdAt\":\"2025-01-02T03:04:05\"}",
+                "{\"id\":2,\"title\":null,\"active\":false,\"createdAt\":null}");
+    }
+
+    @Test
+    void csv_escapesQuotesDelimitersAndFormulas() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ExportRowWriter writer = ExportRowWriter.create(ExportRowWriter.Format.CSV, out,
+                List.of("id", "text"), jsonFactory)) {
+            writer.writeRow(new Object[]{1L, "a,b"});
+            writer.writeRow(new Object[]{2L, "say \"hi\""});
+            writer.writeRow(new Object[]{3L, "line1\nline2"});
+            writer.writeRow(new Object[]{4L, "=SUM(A1:A2)"});
+            writer.writeRow(new Object[]{5L, "-10"});
+            writer.writeRow(new Object[]{6L, null});
+        }
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).isEqualTo("\uFEFFid,text\r\n"
+                + "1,\"a,b\"\r\n"
+                + "2,\"say \"\"hi\"\"\"\r\n"
+                + "3,\"line1\nline2\"\r\n"
+                + "4,'=SUM(A1:A2)\r\n"
+                + "5,-10\r\n"
+                + "6,\r\n");
+    }
+
+    private void writeSyntheticRows(ExportRowWriter.Format format, OutputStream out) throws Exception {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Object[] row = new Object[COLUMNS.size()];
+        try (ExportRowWriter writer = ExportRowWriter.create(format, out, COLUMNS, jsonFactory)) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                row[0] = (long) i;
+                row[1] = (long) (i % 5000);
+                row[2] = "구인글 제목 " + i;
+                row[3] = (i % 3 == 0) ? "ACCEPTED" : "PENDING";
+                row[4] = "안녕하세요, 성실하게 아이를 돌보겠습니다. 지원 번호 " + i;
+                row[5] = base.plusSeconds(i);
+                writer.writeRow(row);
+            }
+        }
+    }
+
+    /**
+     * 받은 바이트를 버리고 개수와 줄바꿈만 세는 출력 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.babyon.childcare.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mp4DurationParser 테스트
+ *
+ * 정상 파일은 정확한 길이를, 잘못된 입력은 예외 없이 빈 값을 반환해야 한다.
+ * fuzz 테스트는 고정 시드로 변형한 입력을 사용하므로 실패 시 같은 입력으로 재현된다.
+ */
+class Mp4DurationParserTest {
+
+    private static final int FUZZ_ITERATIONS = 20_000;
+
+    @Test
+    void mvhdVersion0_returnsDurationInMicros() throws Exception {
+        byte[] mp4 = concat(ftyp(), moov(mvhdV0(600, 45_300)), box("mdat", new byte[64]));
+
+        // 45300 / 600 = 75.5초
+        assertThat(parse(mp4)).hasValue(75_500_000L);
+    }
+
+    @Test
+    void mvhdVersion1_returnsDurationInMicros() throws Exception {
+        byte[] mp4 = concat(ftyp(), moov(mvhdV1(90_000, 90_000L * 119 + 45_000)));
+
+        assertThat(parse(mp4)).hasValue(119_500_000L);
+    }
+
+    @Test
+    void moovAfterLargeMdat_skipsMediaWithoutReadingIt() throws Exception {
+        long mdatPayload = 200L * 1024 * 1024;
+        byte[] head = concat(ftyp(), boxHeader("mdat", mdatPayload));
+        byte[] tail = moov(box("trak", new byte[32]), mvhdV0(1000, 30_000));
+        ZeroInputStream media = new ZeroInputStream(mdatPayload);
+
+        InputStream in = new ConcatInputStream(new ByteArrayInputStream(head), media, new ByteArrayInputStream(tail));
+
+        assertThat(Mp4DurationParser.parseDurationMicros(in)).hasValue(30_000_000L);
+        assertThat(media.bytesRead).isZero();
+    }
+
+    @Test
+    void largesizeBoxes_areSupported() throws Exception {
+        byte[] mdat = largeBox("mdat", new byte[100]);
+        byte[] mvhd = mvhdV0(48_000, 48_000 * 10);
+        byte[] moov = largeBox("moov", mvhd);
+
+        assertThat(parse(concat(ftyp(), mdat, moov))).hasValue(10_000_000L);
+    }
+
+    @Test
+    void moovExtendingToEndOfFile_isSupported() throws Exception {
+        byte[] mvhd = mvhdV0(1000, 5_000);
+        byte[] moov = concat(boxHeaderWithSize(0, "moov"), mvhd);
+
+        assertThat(parse(concat(ftyp(), moov))).hasValue(5_000_000L);
+    }
+
+    @Test
+    void fromPath_readsFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("video.mp4");
+        Files.write(file, concat(ftyp(), box("mdat", new byte[4096]), moov(mvhdV0(30, 900))));
+
+        assertThat(Mp4DurationParser.parseDurationMicros(file)).hasValue(30_000_000L);
+    }
+
+    @Test
+    void malformedInputs_returnEmpty() throws Exception {
+        List<byte[]> inputs = List.of(
+                new byte[0],
+                new byte[]{0, 0, 0},
+                ftyp(),
+                concat(ftyp(), box("mdat", new byte[16])),
+                moov(box("trak", new byte[8])),
+                moov(mvhdV0(0, 1000)),
+                moov(mvhdV0(1000, 0xFFFFFFFFL)),
+                moov(mvhdV1(1000, -1L)),
+                moov(box("mvhd", new byte[]{2, 0, 0, 0})),
+                boxHeaderWithSize(4, "moov"),
+                concat(boxHeaderWithSize(1, "moov"), new byte[]{0, 0, 0, 0, 0, 0, 0, 4}),
+                concat(boxHeaderWithSize(1000, "moov"), new byte[16]),
+                Arrays.copyOf(moov(mvhdV1(1000, 5000)), 30));
+
+        for (byte[] input : inputs) {
+            assertThat(parse(input)).as(Arrays.toString(input)).isEmpty();
+        }
+    }
+
+    @Test
+    void tooManyBoxes_returnsEmpty() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < 10_000; i++) {
+            out.write(box("free", new byte[0]));
+        }
+        out.write(moov(mvhdV0(1000, 1000)));
+
+        assertThat(parse(out.toByteArray())).isEmpty();
+    }
+
+    @Test
+    void toMicros_doesNotOverflow() {
+        assertThat(Mp4DurationParser.toMicros(Long.MAX_VALUE, 1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(Mp4DurationParser.toMicros(Long.MAX_VALUE, 0xFFFFFFFFL)).isPositive();
+        assertThat(Mp4DurationParser.toMicros(1, 3)).isEqualTo(333_333L);
+    }
+
+    @Test
+    void fuzz_mutatedFiles_neverThrow() throws Exception {
+        Random random = new Random(20250101L);
+        byte[] seed = concat(ftyp(), box("mdat", new byte[64]),
+                moov(box("trak", new byte[24]), mvhdV1(90_000, 90_000L * 60)));
+
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            byte[] input = seed.clone();
+            int mutations = 1 + random.nextInt(8);
+            for (int m = 0; m < mutations; m++) {
+                input[random.nextInt(input.length)] = (byte) random.nextInt(256);
+            }
+            if (random.nextInt(4) == 0) {
+                input = Arrays.copyOf(input, random.nextInt(input.length + 1));
+            }
+
+            assertParsesSafely(input);
+        }
+    }
+
+    @Test
+    void fuzz_randomBytes_neverThrow() throws Exception {
+        Random random = new Random(42L);
+        for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+            byte[] input = new byte[random.nextInt(256)];
+            random.nextBytes(input);
+            // 일부는 그럴듯한 박스 타입으로 시작하게 해 하위 박스 탐색 경로도 실행되게 한다
+            if (input.length >= 8 && random.nextBoolean()) {
+                System.arraycopy("moov".getBytes(StandardCharsets.ISO_8859_1), 0, input, 4, 4);
+            }
+
+            assertParsesSafely(input);
+        }
+    }
+
+    private static void assertParsesSafely(byte[] input) throws IOException {
+        OptionalLong result = parse(input);
+        if (result.isPresent()) {
+            assertThat(result.getAsLong()).as(Arrays.toString(input)).isNotNegative();
+        }
+    }
+
+    // ========================= ISO-BMFF 박스 생성 =========================
+
+    private static OptionalLong parse(byte[] input) throws IOException {
+        return Mp4DurationParser.parseDurationMicros(new ByteArrayInputStream(input));
+    }
+
+    private static byte[] ftyp() {
+        return box("ftyp", "isom\0\0\2\0isomiso2mp41".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static byte[] moov(byte[]... children) {
+        return box("moov", concat(children));
+    }
+
+    private static byte[] mvhdV0(long timescale, long duration) {
+        ByteBuffer payload = ByteBuffer.allocate(100);
+        payload.putInt(0);              // version 0 + flags
+        payload.putInt(0).putInt(0);    // creation, modification
+        payload.putInt((int) timescale);
+        payload.putInt((int) duration);
+        return box("mvhd", payload.array());
+    }
+
+    private static byte[] mvhdV1(long timescale, long duration) {
+        ByteBuffer payload = ByteBuffer.allocate(112);
+        payload.putInt(1 << 24);        // version 1 + flags
+        payload.putLong(0).putLong(0);  // creation, modification
+        payload.putInt((int) timescale);
+        payload.putLong(duration);
+        return box("mvhd", payload.array());
+    }
+
+    private static byte[] box(String type, byte[] payload) {
+        return concat(boxHeader(type, payload.length), payload);
+    }
+
+    private static byte[] largeBox(String type, byte[] payload) {
+        ByteBuffer header = ByteBuffer.allocate(16);
+        header.putInt(1);
+        header.put(type.getBytes(StandardCharsets.ISO_8859_1));
+        header.putLong(16L + payload.length);
+        return concat(header.array(), payload);
+    }
+
+    private static byte[] boxHeader(String type, long payloadSize) {
+        return boxHeaderWithSize(8 + payloadSize, type);
+    }
+
+    private static byte[] boxHeaderWithSize(long size, String type) {
+        ByteBuffer header = ByteBuffer.allocate(8);
+        header.putInt((int) size);
+        header.put(type.getBytes(StandardCharsets.ISO_8859_1));
+        return header.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 스트림 연결 (SequenceInputStream 과 달리 skip 을 하위 스트림에 위임한다)
+     */
+    private static final class ConcatInputStream extends InputStream {
+        private final List<InputStream> streams;
+        private int current;
+
+        private ConcatInputStream(InputStream... streams) {
+            this.streams = List.of(streams);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            while (current < streams.size()) {
+                int n = streams.get(current).read(b, off, len);
+                if (n >= 0) {
+                    return n;
+                }
+                current++;
+            }
+            return -1;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            while (current < streams.size()) {
+                long skipped = streams.get(current).skip(n);
+                if (skipped > 0) {
+                    return skipped;
+                }
+                current++;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * 0 으로 채워진 영상 본문 스트림 (메모리를 쓰지 않으며 read 로 읽힌 바이트 수를 센다)
+     */
+    private static final class ZeroInputStream extends InputStream {
+        private long remaining;
+        private long bytesRead;
+
+        private ZeroInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            bytesRead++;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 0);
+            remaining -= n;
+            bytesRead += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.min(Math.max(n, 0), remaining);
+            remaining -= skipped;
+            return skipped;
+        }
+    }
+}